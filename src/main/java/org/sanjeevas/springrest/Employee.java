@@ -3,30 +3,45 @@ package org.sanjeevas.springrest;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
+import org.sanjeevas.springrest.event.EmployeeEntityListener;
+import org.sanjeevas.springrest.id.EmployeeId;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
+import java.util.Locale;
 import java.util.Objects;
 
 /**
  * Employee entity with auditing capabilities and validation
+ * Held in the "employees" second-level cache region; read-write access soft-locks
+ * an entry while its transaction commits and versions it with {@link #version},
+ * so a stale entry is never put back over a newer one
+ * Updates set only the columns that changed
  * 
  * @author Sanjeeva
- * @version 2.0
+ * @version 2.2
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "employees")
+@DynamicUpdate
 @Table(name = "employees", 
        indexes = {
            @Index(name = "idx_employee_name", columnList = "name"),
-           @Index(name = "idx_employee_role", columnList = "role")
+           @Index(name = "idx_employee_role_key", columnList = "role_key"),
+           @Index(name = "idx_employee_created_at", columnList = "created_at, id"),
+           @Index(name = "idx_employee_updated_at", columnList = "updated_at, id")
        })
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, EmployeeEntityListener.class})
 public class Employee {
 
     @Id 
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @EmployeeId
     @Column(name = "id")
     private Long id;
     
@@ -40,6 +55,13 @@ public class Employee {
     @Column(name = "role", nullable = false, length = 50)
     private String role;
 
+    /**
+     * Lookup form of the role, see {@link #roleKeyOf(String)}; derived, never set directly.
+     * Nullable only so the column can be added to existing tables before the backfill runs
+     */
+    @Column(name = "role_key", length = 100)
+    private String roleKey;
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -59,6 +81,7 @@ public class Employee {
     public Employee(String name, String role) {
         this.name = name;
         this.role = role;
+        this.roleKey = roleKeyOf(role);
     }
 
     // Full constructor for testing
@@ -66,6 +89,7 @@ public class Employee {
         this.id = id;
         this.name = name;
         this.role = role;
+        this.roleKey = roleKeyOf(role);
     }
 
     // Getters and Setters
@@ -91,6 +115,11 @@ public class Employee {
 
     public void setRole(String role) {
         this.role = org.sanjeevas.springrest.security.SecurityUtils.validateAndSanitizeRole(role);
+        this.roleKey = roleKeyOf(this.role);
+    }
+
+    public String getRoleKey() {
+        return roleKey;
     }
 
     public LocalDateTime getCreatedAt() {
@@ -121,6 +150,21 @@ public class Employee {
     public void updateDetails(String name, String role) {
         this.name = org.sanjeevas.springrest.security.SecurityUtils.validateAndSanitizeName(name);
         this.role = org.sanjeevas.springrest.security.SecurityUtils.validateAndSanitizeRole(role);
+        this.roleKey = roleKeyOf(this.role);
+    }
+
+    /**
+     * Normalized role used for equality lookups: trimmed, NFC, lower-cased
+     * Stored in role_key so role queries compare a plain indexed column
+     * 
+     * @param role Role as entered
+     * @return Lookup key, or null for a null role
+     */
+    public static String roleKeyOf(String role) {
+        if (role == null) {
+            return null;
+        }
+        return org.sanjeevas.springrest.security.SecurityUtils.normalizeUnicode(role.trim()).toLowerCase(Locale.ROOT);
     }
 
     public boolean hasRole(String role) {
@@ -146,11 +190,13 @@ public class Employee {
         if (this.updatedAt == null) {
             this.updatedAt = LocalDateTime.now();
         }
+        this.roleKey = roleKeyOf(this.role);
     }
 
     @PreUpdate
     protected void onUpdate() {
         this.updatedAt = LocalDateTime.now();
+        this.roleKey = roleKeyOf(this.role);
     }
 
     @Override
@@ -8,34 +8,75 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import org.sanjeevas.springrest.bulk.EmployeeExporter;
+import org.sanjeevas.springrest.bulk.EmployeeImporter;
+import org.sanjeevas.springrest.bulk.BulkFormat;
+import org.sanjeevas.springrest.dto.CountMode;
+import org.sanjeevas.springrest.dto.EmployeeBatchRequestDto;
+import org.sanjeevas.springrest.dto.EmployeeBatchResponseDto;
 import org.sanjeevas.springrest.dto.EmployeeDto;
 import org.sanjeevas.springrest.dto.EmployeeListResponseDto;
 import org.sanjeevas.springrest.dto.ErrorResponseDto;
+import org.sanjeevas.springrest.dto.ImportSummaryDto;
+import org.sanjeevas.springrest.dto.SuggestionDto;
 import org.sanjeevas.springrest.exception.EmployeeNotFoundException;
+import org.sanjeevas.springrest.exception.EmployeeValidationException;
+import org.sanjeevas.springrest.index.FuzzyTokenIndex;
+import org.sanjeevas.springrest.query.EmployeeField;
+import org.sanjeevas.springrest.query.EmployeeFilter;
 import org.sanjeevas.springrest.security.SecurityUtils;
 import org.sanjeevas.springrest.service.EmployeeService;
+import org.sanjeevas.springrest.service.UpsertResult;
+import org.sanjeevas.springrest.web.EmployeeETags;
+import org.sanjeevas.springrest.web.EmployeeJsonCache;
+import org.sanjeevas.springrest.web.JacksonProtobufHttpMessageConverter;
+import org.sanjeevas.springrest.web.KeysetCursor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 /**
  * REST Controller for Employee management operations
  * Implements enterprise-level best practices including validation, 
  * documentation, security, logging, and proper error handling
+ * Reads carry strong ETags and answer If-None-Match / If-Modified-Since with 304,
+ * see {@link EmployeeETags}; writes sending one back in If-Match only apply
+ * to that version and otherwise fail with 412. Single employees may be answered
+ * from pre-serialized JSON, see {@link EmployeeJsonCache}. Bodies are JSON unless
+ * the client negotiates CBOR, Smile or protobuf, see {@link org.sanjeevas.springrest.config.MessageConverterConfig}.
+ * List endpoints take ?fields= to return, and where possible select, only some fields
  * 
  * @author Sanjeeva
- * @version 2.0
+ * @version 2.7
  */
 @RestController
 @RequestMapping("/api/v1/employees")
@@ -47,16 +88,32 @@ public class EmployeeController {
     private static final Logger logger = LoggerFactory.getLogger(EmployeeController.class);
 
     private final EmployeeService employeeService;
+    private final EmployeeExporter employeeExporter;
+    private final EmployeeImporter employeeImporter;
+    private final EmployeeETags employeeETags;
+    private final EmployeeJsonCache employeeJsonCache;
+    private final JacksonProtobufHttpMessageConverter protobufConverter;
 
-    public EmployeeController(EmployeeService employeeService) {
+    public EmployeeController(EmployeeService employeeService, EmployeeExporter employeeExporter,
+                              EmployeeImporter employeeImporter, EmployeeETags employeeETags,
+                              EmployeeJsonCache employeeJsonCache,
+                              JacksonProtobufHttpMessageConverter protobufConverter) {
         this.employeeService = employeeService;
+        this.employeeExporter = employeeExporter;
+        this.employeeImporter = employeeImporter;
+        this.employeeETags = employeeETags;
+        this.employeeJsonCache = employeeJsonCache;
+        this.protobufConverter = protobufConverter;
     }
 
     @Operation(summary = "Get all employees", 
-               description = "Retrieve a list of all employees with optional pagination")
+               description = "Retrieve a list of all employees with offset pagination, "
+                           + "or keyset pagination when a cursor is supplied. "
+                           + "The count mode chooses between an exact total, a maintained estimate, or none")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved employees",
                     content = @Content(schema = @Schema(implementation = EmployeeListResponseDto.class))),
+        @ApiResponse(responseCode = "304", description = "No employee changed since the given ETag or date"),
         @ApiResponse(responseCode = "500", description = "Internal server error",
                     content = @Content(schema = @Schema(implementation = ErrorResponseDto.class)))
     })
@@ -73,32 +130,153 @@ public class EmployeeController {
             @RequestParam(defaultValue = "id") String sortBy,
             
             @Parameter(description = "Sort direction", example = "asc")
-            @RequestParam(defaultValue = "asc") String sortDir) {
-        
-        logger.info("Getting all employees - page: {}, size: {}, sortBy: {}, sortDir: {}", 
-                   page, size, sortBy, sortDir);
+            @RequestParam(defaultValue = "asc") String sortDir,
+
+            @Parameter(description = "Keyset cursor from a previous response's links.next; "
+                                   + "pass an empty value to start keyset pagination (page is then ignored)")
+            @RequestParam(required = false) String cursor,
+
+            @Parameter(description = "How to produce the total: exact (COUNT query), "
+                                   + "estimated (maintained counter) or none (hasNext only)", example = "estimated")
+            @RequestParam(defaultValue = "estimated") String count,
 
+            @Parameter(description = "Comma-separated fields to return, from id, name and role; "
+                                   + "all when absent", example = "id,name")
+            @RequestParam(required = false) String fields,
+
+            WebRequest webRequest) {
+        
+        logger.info("Getting all employees - page: {}, size: {}, sortBy: {}, sortDir: {}, count: {}, fields: {}", 
+                   page, size, sortBy, sortDir, count, fields);
+        Set<EmployeeField> selected = selectedFields(fields);
         Sort.Direction direction = SecurityUtils.normalizeUnicode(sortDir).equalsIgnoreCase("desc") ? 
                                   Sort.Direction.DESC : Sort.Direction.ASC;
+        // Parameters are checked before preconditions, so a matching ETag never answers 304 to a bad request
+        KeysetCursor position = cursor != null ? keysetPosition(cursor, size, sortBy, direction) : null;
+        CountMode countMode = position == null ? countMode(count) : null;
+        if (employeeETags.checkCollection(webRequest)) {
+            return notModified();
+        }
+        if (position != null) {
+            return ResponseEntity.ok(scrollEmployees(position, size, selected));
+        }
+
         Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
         
-        Page<EmployeeDto> employeePage = employeeService.findAll(pageable);
-        EmployeeListResponseDto response = new EmployeeListResponseDto(
-            employeePage.getContent(), 
-            page, 
-            size, 
-            employeePage.getTotalElements()
-        );
-
-        logger.info("Successfully retrieved {} employees", employeePage.getNumberOfElements());
+        EmployeeListResponseDto response;
+        if (countMode == CountMode.EXACT) {
+            Page<EmployeeDto> employeePage = employeeService.findAll(pageable, selected);
+            response = new EmployeeListResponseDto(employeePage.getContent(), page, size,
+                    employeePage.getTotalElements(), employeePage.hasNext(), countMode);
+        } else {
+            Slice<EmployeeDto> employeeSlice = employeeService.findSlice(pageable, selected);
+            Long totalElements = countMode == CountMode.ESTIMATED ? employeeService.count() : null;
+            response = new EmployeeListResponseDto(employeeSlice.getContent(), page, size,
+                    totalElements, employeeSlice.hasNext(), countMode);
+        }
+
+        logger.info("Successfully retrieved {} employees", response.getEmbedded().getEmployeeList().size());
         return ResponseEntity.ok(response);
     }
 
+    private static CountMode countMode(String count) {
+        try {
+            return CountMode.from(count);
+        } catch (IllegalArgumentException ex) {
+            throw new EmployeeValidationException("count", count, ex.getMessage());
+        }
+    }
+
+    private static KeysetCursor keysetPosition(String cursor, int size, String sortBy, Sort.Direction direction) {
+        try {
+            SecurityUtils.validatePaginationParams(0, size);
+            return cursor.isBlank()
+                    ? KeysetCursor.first(sortBy, direction)
+                    : KeysetCursor.decode(cursor);
+        } catch (IllegalArgumentException ex) {
+            logger.warn("Rejected keyset pagination request: {}", ex.getMessage());
+            throw new EmployeeValidationException("cursor", cursor, ex.getMessage());
+        }
+    }
+
+    private EmployeeListResponseDto scrollEmployees(KeysetCursor position, int size, Set<EmployeeField> fields) {
+        Window<EmployeeDto> window = employeeService.findAll(position.toScrollPosition(), position.toSort(), size);
+        String nextCursor = null;
+        String nextLink = null;
+        if (window.hasNext() && !window.isEmpty()) {
+            nextCursor = KeysetCursor.after(position.getSortBy(), position.getDirection(),
+                                            window.positionAt(window.size() - 1)).encode();
+            nextLink = UriComponentsBuilder.fromPath("/api/v1/employees")
+                    .queryParam("size", size)
+                    .queryParam("cursor", nextCursor)
+                    .toUriString();
+        }
+
+        logger.info("Successfully retrieved {} employees by keyset, hasNext: {}", window.size(), nextCursor != null);
+        return new EmployeeListResponseDto(retain(window.getContent(), fields), size, nextCursor, nextLink);
+    }
+
+    @Operation(summary = "Export all employees", 
+               description = "Stream every employee, ordered by id, as NDJSON or CSV in constant memory")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Export stream started"),
+        @ApiResponse(responseCode = "400", description = "Unsupported export format",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDto.class)))
+    })
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('USER')")
+    public ResponseEntity<StreamingResponseBody> exportEmployees(
+            @Parameter(description = "Export format: ndjson or csv", example = "ndjson")
+            @RequestParam(defaultValue = "ndjson") String format) {
+        
+        BulkFormat exportFormat;
+        try {
+            exportFormat = BulkFormat.from(format);
+        } catch (IllegalArgumentException ex) {
+            throw new EmployeeValidationException("format", format, ex.getMessage());
+        }
+        logger.info("Exporting all employees as {}", exportFormat);
+
+        StreamingResponseBody body = outputStream -> employeeExporter.export(exportFormat, outputStream);
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(exportFormat.getFileName()).build().toString())
+                .body(body);
+    }
+
+    @Operation(summary = "Import employees", 
+               description = "Stream NDJSON or CSV (with a header containing name and role) and create "
+                           + "one employee per line; invalid lines are skipped and reported")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Import finished, see summary for rejected lines",
+                    content = @Content(schema = @Schema(implementation = ImportSummaryDto.class))),
+        @ApiResponse(responseCode = "400", description = "CSV header is missing required columns",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDto.class))),
+        @ApiResponse(responseCode = "415", description = "Unsupported content type",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDto.class)))
+    })
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_NDJSON_VALUE, "text/csv"})
+    @PreAuthorize("hasRole('USER')")
+    public ResponseEntity<ImportSummaryDto> importEmployees(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            InputStream body) throws IOException {
+        
+        BulkFormat importFormat = BulkFormat.from(contentType);
+        logger.info("Importing employees as {}", importFormat);
+
+        ImportSummaryDto summary = employeeImporter.importEmployees(importFormat, body);
+
+        logger.info("Import finished - imported: {}, failed: {}", summary.getImported(), summary.getFailed());
+        return ResponseEntity.ok(summary);
+    }
+
     @Operation(summary = "Get employee by ID", 
                description = "Retrieve a specific employee by their ID")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Employee found",
                     content = @Content(schema = @Schema(implementation = EmployeeDto.class))),
+        @ApiResponse(responseCode = "304", description = "Employee unchanged since the given ETag"),
         @ApiResponse(responseCode = "404", description = "Employee not found",
                     content = @Content(schema = @Schema(implementation = ErrorResponseDto.class))),
         @ApiResponse(responseCode = "400", description = "Invalid ID format",
@@ -106,21 +284,74 @@ public class EmployeeController {
     })
     @GetMapping("/{id}")
     @PreAuthorize("hasRole('USER')")
-    public ResponseEntity<EmployeeDto> getEmployeeById(
+    public ResponseEntity<?> getEmployeeById(
             @Parameter(description = "Employee ID", required = true, example = "1")
-            @PathVariable @Min(1) Long id) {
+            @PathVariable @Min(1) Long id,
+
+            WebRequest webRequest) {
         
         logger.info("Getting employee with id: {}", id);
         
-        return employeeService.findById(id)
-                .map(employee -> {
-                    logger.info("Employee found with id: {}", id);
-                    return ResponseEntity.ok(employee);
-                })
+        EmployeeDto employee = employeeService.findById(id)
                 .orElseThrow(() -> {
                     logger.warn("Employee not found with id: {}", id);
                     return new EmployeeNotFoundException(id);
                 });
+        if (employeeETags.checkResource(webRequest, employee)) {
+            logger.debug("Employee with id {} not modified", id);
+            return notModified();
+        }
+        logger.info("Employee found with id: {}", id);
+        if (EmployeeJsonCache.acceptsJson(webRequest.getHeader(HttpHeaders.ACCEPT))) {
+            Optional<EmployeeJsonCache.SerializedEmployee> serialized = employeeJsonCache.get(employee);
+            if (serialized.isPresent()) {
+                return serialized(serialized.get(), webRequest);
+            }
+        }
+        return ResponseEntity.ok(employee);
+    }
+
+    @Operation(summary = "Get employees by IDs", 
+               description = "Retrieve up to 100 employees in one call; results follow request order "
+                           + "and unknown IDs are marked as not found")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Lookup completed",
+                    content = @Content(schema = @Schema(implementation = EmployeeBatchResponseDto.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid or too many IDs",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDto.class)))
+    })
+    @GetMapping(params = "ids")
+    @PreAuthorize("hasRole('USER')")
+    public ResponseEntity<EmployeeBatchResponseDto> getEmployeesByIds(
+            @Parameter(description = "Comma-separated employee IDs", required = true, example = "1,2,3")
+            @RequestParam @Size(min = 1, max = 100) List<@Min(1) Long> ids,
+
+            WebRequest webRequest) {
+        
+        logger.info("Getting {} employees by id", ids.size());
+        if (employeeETags.checkCollection(webRequest)) {
+            return notModified();
+        }
+        return ResponseEntity.ok(new EmployeeBatchResponseDto(employeeService.findAllById(ids)));
+    }
+
+    @Operation(summary = "Get employees by IDs (large sets)", 
+               description = "Retrieve up to 1000 employees in one call; results follow request order "
+                           + "and unknown IDs are marked as not found")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Lookup completed",
+                    content = @Content(schema = @Schema(implementation = EmployeeBatchResponseDto.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid or too many IDs",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDto.class)))
+    })
+    @PostMapping("/batch")
+    @PreAuthorize("hasRole('USER')")
+    public ResponseEntity<EmployeeBatchResponseDto> getEmployeesByIdsBatch(
+            @Parameter(description = "Employee IDs", required = true)
+            @Valid @RequestBody EmployeeBatchRequestDto request) {
+        
+        logger.info("Getting {} employees by id (batch)", request.getIds().size());
+        return ResponseEntity.ok(new EmployeeBatchResponseDto(employeeService.findAllById(request.getIds())));
     }
 
     @Operation(summary = "Create new employee", 
@@ -156,6 +387,8 @@ public class EmployeeController {
         @ApiResponse(responseCode = "201", description = "Employee created successfully",
                     content = @Content(schema = @Schema(implementation = EmployeeDto.class))),
         @ApiResponse(responseCode = "400", description = "Invalid input data",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDto.class))),
+        @ApiResponse(responseCode = "412", description = "Employee missing or not at the If-Match version",
                     content = @Content(schema = @Schema(implementation = ErrorResponseDto.class)))
     })
     @PutMapping("/{id}")
@@ -165,20 +398,29 @@ public class EmployeeController {
             @PathVariable @Min(1) Long id,
             
             @Parameter(description = "Updated employee data", required = true)
-            @Valid @RequestBody EmployeeDto employeeDto) {
+            @Valid @RequestBody EmployeeDto employeeDto,
+
+            @Parameter(description = "Only replace the employee at this ETag; never creates", example = "\"1-0\"")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         
         logger.info("Updating employee with id: {}, data: {}", id, employeeDto);
+
+        if (ifMatch != null) {
+            EmployeeDto replaced = employeeService.replace(id, employeeDto, employeeETags.requiredVersion(id, ifMatch));
+            logger.info("Employee replaced successfully with id: {}", id);
+            return tagged(replaced);
+        }
         
-        boolean exists = employeeService.existsById(id);
-        EmployeeDto updatedEmployee = employeeService.update(id, employeeDto);
+        UpsertResult result = employeeService.update(id, employeeDto);
         
-        if (exists) {
+        if (!result.created()) {
             logger.info("Employee updated successfully with id: {}", id);
-            return ResponseEntity.ok(updatedEmployee);
+            return tagged(result.employee());
         } else {
-            logger.info("Employee created successfully with id: {}", id);
-            URI location = URI.create(String.format("/api/v1/employees/%d", id));
-            return ResponseEntity.created(location).body(updatedEmployee);
+            Long createdId = result.employee().getId();
+            logger.info("Employee created successfully with id: {}", createdId);
+            URI location = URI.create(String.format("/api/v1/employees/%d", createdId));
+            return ResponseEntity.created(location).body(result.employee());
         }
     }
 
@@ -190,6 +432,10 @@ public class EmployeeController {
         @ApiResponse(responseCode = "404", description = "Employee not found",
                     content = @Content(schema = @Schema(implementation = ErrorResponseDto.class))),
         @ApiResponse(responseCode = "400", description = "Invalid input data",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDto.class))),
+        @ApiResponse(responseCode = "409", description = "Employee changed while being updated",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDto.class))),
+        @ApiResponse(responseCode = "412", description = "Employee missing or not at the If-Match version",
                     content = @Content(schema = @Schema(implementation = ErrorResponseDto.class)))
     })
     @PatchMapping("/{id}")
@@ -199,14 +445,19 @@ public class EmployeeController {
             @PathVariable @Min(1) Long id,
             
             @Parameter(description = "Partial employee data", required = true)
-            @RequestBody EmployeeDto employeeDto) {
+            @RequestBody EmployeeDto employeeDto,
+
+            @Parameter(description = "Only update the employee at this ETag", example = "\"1-0\"")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         
         logger.info("Partially updating employee with id: {}, data: {}", id, employeeDto);
         
-        EmployeeDto updatedEmployee = employeeService.partialUpdate(id, employeeDto);
+        EmployeeDto updatedEmployee = ifMatch != null
+                ? employeeService.partialUpdate(id, employeeDto, employeeETags.requiredVersion(id, ifMatch))
+                : employeeService.partialUpdate(id, employeeDto);
         if (updatedEmployee != null) {
             logger.info("Employee partially updated successfully with id: {}", id);
-            return ResponseEntity.ok(updatedEmployee);
+            return tagged(updatedEmployee);
         } else {
             logger.warn("Employee not found for partial update with id: {}", id);
             throw new EmployeeNotFoundException(id);
@@ -218,15 +469,26 @@ public class EmployeeController {
     @ApiResponses(value = {
         @ApiResponse(responseCode = "204", description = "Employee deleted successfully"),
         @ApiResponse(responseCode = "404", description = "Employee not found",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDto.class))),
+        @ApiResponse(responseCode = "412", description = "Employee missing or not at the If-Match version",
                     content = @Content(schema = @Schema(implementation = ErrorResponseDto.class)))
     })
     @DeleteMapping("/{id}")
     @PreAuthorize("hasRole('USER')")
     public ResponseEntity<Void> deleteEmployee(
             @Parameter(description = "Employee ID", required = true, example = "1")
-            @PathVariable @Min(1) Long id) {
+            @PathVariable @Min(1) Long id,
+
+            @Parameter(description = "Only delete the employee at this ETag", example = "\"1-0\"")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         
         logger.info("Deleting employee with id: {}", id);
+
+        if (ifMatch != null) {
+            employeeService.deleteById(id, employeeETags.requiredVersion(id, ifMatch));
+            logger.info("Employee deleted successfully with id: {}", id);
+            return ResponseEntity.noContent().build();
+        }
         
         boolean deleted = employeeService.deleteById(id);
         if (deleted) {
@@ -239,7 +501,12 @@ public class EmployeeController {
     }
 
     @Operation(summary = "Search employees by name", 
-               description = "Search for employees by name (case-insensitive)")
+               description = "Search for employees by name (case-insensitive), optionally holding a role, "
+                           + "one page at a time. Where the database full-text index is enabled, searches "
+                           + "without a role use it to narrow the names containing the text by the text's "
+                           + "whole words, matching substrings when it has none the index holds. "
+                           + "With fuzzy=true every word may carry typos, up to maxEdits per word (fewer "
+                           + "for short words), and the closest limit matches are returned best first")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Search completed successfully",
                     content = @Content(schema = @Schema(implementation = EmployeeListResponseDto.class))),
@@ -250,17 +517,156 @@ public class EmployeeController {
     @PreAuthorize("hasRole('USER')")
     public ResponseEntity<EmployeeListResponseDto> searchEmployeesByName(
             @Parameter(description = "Name to search for", required = true, example = "John")
-            @RequestParam String name) {
+            @RequestParam String name,
+            @Parameter(description = "Only return employees with this role (case-insensitive)", example = "Developer")
+            @RequestParam(required = false) String role,
+            @Parameter(description = "Tolerate typos, ranking by edit distance", example = "false")
+            @RequestParam(defaultValue = "false") boolean fuzzy,
+            @Parameter(description = "Largest edit distance per word when fuzzy (0-2)", example = "2")
+            @RequestParam(defaultValue = "2") @Min(0) @Max(2) int maxEdits,
+            @Parameter(description = "Maximum number of results when fuzzy (1-100)", example = "20")
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int limit,
+            @Parameter(description = "Page number (0-based) when not fuzzy", example = "0")
+            @RequestParam(defaultValue = "0") @Min(0) int page,
+            @Parameter(description = "Page size (1-1000) when not fuzzy", example = "20")
+            @RequestParam(defaultValue = "20") @Min(1) @Max(1000) int size,
+            @Parameter(description = "Comma-separated fields to return, from id, name and role; "
+                                   + "all when absent", example = "id,name")
+            @RequestParam(required = false) String fields,
+            WebRequest webRequest) {
         
-        logger.info("Searching employees by name: {}", name);
+        logger.info("Searching employees by name: {}, role: {}, fuzzy: {}, fields: {}", name, role, fuzzy, fields);
+        Set<EmployeeField> selected = selectedFields(fields);
         
-        List<EmployeeDto> employees = employeeService.findByNameContainingIgnoreCase(name);
-        EmployeeListResponseDto response = new EmployeeListResponseDto(employees);
+        if (fuzzy && FuzzyTokenIndex.tokenize(name).length > FuzzyTokenIndex.MAX_QUERY_WORDS) {
+            throw new EmployeeValidationException("name", name,
+                    "Fuzzy search takes at most " + FuzzyTokenIndex.MAX_QUERY_WORDS + " words");
+        }
+        if (employeeETags.checkCollection(webRequest)) {
+            return notModified();
+        }
+        if (fuzzy) {
+            List<EmployeeDto> employees = employeeService.findByNameFuzzy(name, role, maxEdits, limit);
+            logger.info("Found {} employees close to name: {}", employees.size(), name);
+            return ResponseEntity.ok(new EmployeeListResponseDto(retain(employees, selected)));
+        }
+
+        Pageable pageable = PageRequest.of(page, size, Sort.by("id"));
+        // Full-text matches are loaded through the employee cache, so only the filter query narrows its columns
+        Page<EmployeeDto> employeePage = role == null
+                ? employeeService.findByNameContainingIgnoreCase(name, pageable)
+                        .map(employee -> EmployeeField.retain(employee, selected))
+                : employeeService.findAll(EmployeeFilter.of(name, role), pageable, selected);
+        EmployeeListResponseDto response = new EmployeeListResponseDto(employeePage.getContent(), page, size,
+                employeePage.getTotalElements(), employeePage.hasNext(), CountMode.EXACT);
         
-        logger.info("Found {} employees matching name: {}", employees.size(), name);
+        logger.info("Found {} of {} employees matching name: {}", 
+                   employeePage.getNumberOfElements(), employeePage.getTotalElements(), name);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Filter employees", 
+               description = "Page through employees meeting every given criterion: name substring "
+                           + "(case-insensitive), role (case-insensitive) and creation or modification "
+                           + "time ranges, each from inclusive and to exclusive")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Filter completed successfully",
+                    content = @Content(schema = @Schema(implementation = EmployeeListResponseDto.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid filter, pagination or sort parameters",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDto.class)))
+    })
+    @GetMapping("/filter")
+    @PreAuthorize("hasRole('USER')")
+    public ResponseEntity<EmployeeListResponseDto> filterEmployees(
+            @Parameter(description = "Name substring to match", example = "John")
+            @RequestParam(required = false) String name,
+
+            @Parameter(description = "Role to match", example = "Developer")
+            @RequestParam(required = false) String role,
+
+            @Parameter(description = "Created at or after (ISO date-time)", example = "2024-01-01T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+
+            @Parameter(description = "Created before (ISO date-time)", example = "2025-01-01T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+
+            @Parameter(description = "Last modified at or after (ISO date-time)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime updatedFrom,
+
+            @Parameter(description = "Last modified before (ISO date-time)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime updatedTo,
+
+            @Parameter(description = "Page number (0-based)", example = "0")
+            @RequestParam(defaultValue = "0") @Min(0) int page,
+
+            @Parameter(description = "Page size (1-1000)", example = "10")
+            @RequestParam(defaultValue = "10") @Min(1) @Max(1000) int size,
+
+            @Parameter(description = "Sort field", example = "name")
+            @RequestParam(defaultValue = "id") String sortBy,
+
+            @Parameter(description = "Sort direction", example = "asc")
+            @RequestParam(defaultValue = "asc") String sortDir,
+
+            @Parameter(description = "Comma-separated fields to return, from id, name and role; "
+                                   + "all when absent", example = "id,name")
+            @RequestParam(required = false) String fields,
+
+            WebRequest webRequest) {
+
+        EmployeeFilter filter;
+        Set<EmployeeField> selected = selectedFields(fields);
+        try {
+            SecurityUtils.validateSortField(sortBy);
+            filter = new EmployeeFilter(name, role, createdFrom, createdTo, updatedFrom, updatedTo);
+        } catch (IllegalArgumentException ex) {
+            logger.warn("Rejected employee filter request: {}", ex.getMessage());
+            throw new EmployeeValidationException(ex.getMessage());
+        }
+        logger.info("Filtering employees by {} - page: {}, size: {}, sortBy: {}, sortDir: {}", 
+                   filter, page, size, sortBy, sortDir);
+        if (employeeETags.checkCollection(webRequest)) {
+            return notModified();
+        }
+
+        Sort.Direction direction = SecurityUtils.normalizeUnicode(sortDir).equalsIgnoreCase("desc") ? 
+                                  Sort.Direction.DESC : Sort.Direction.ASC;
+        // Break ties on id so rows sharing a sort value cannot repeat or vanish across pages
+        Sort sort = "id".equals(sortBy) ? Sort.by(direction, "id") : Sort.by(direction, sortBy).and(Sort.by("id"));
+        Page<EmployeeDto> employeePage = employeeService.findAll(filter, PageRequest.of(page, size, sort), selected);
+        EmployeeListResponseDto response = new EmployeeListResponseDto(employeePage.getContent(), page, size,
+                employeePage.getTotalElements(), employeePage.hasNext(), CountMode.EXACT);
+
+        logger.info("Found {} of {} employees matching {}", 
+                   employeePage.getNumberOfElements(), employeePage.getTotalElements(), filter);
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "Suggest names and roles", 
+               description = "Autocomplete: distinct employee names and roles starting with the prefix, "
+                           + "ignoring case and accents, in alphabetical order. Served from memory, or from "
+                           + "the database while the in-memory index is being built")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Suggestions retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid prefix or limit",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDto.class)))
+    })
+    @GetMapping("/suggest")
+    @PreAuthorize("hasRole('USER')")
+    public ResponseEntity<List<SuggestionDto>> suggest(
+            @Parameter(description = "Beginning of a name or role", required = true, example = "Jo")
+            @RequestParam @NotBlank @Size(max = 100) String prefix,
+            @Parameter(description = "Maximum number of suggestions (1-50)", example = "10")
+            @RequestParam(defaultValue = "10") @Min(1) @Max(50) int limit,
+            WebRequest webRequest) {
+        
+        logger.debug("Suggesting names and roles for prefix: {}", prefix);
+        if (employeeETags.checkCollection(webRequest)) {
+            return notModified();
+        }
+        return ResponseEntity.ok(employeeService.suggest(prefix, limit));
+    }
+
     @Operation(summary = "Get employees by role", 
                description = "Retrieve all employees with a specific role")
     @ApiResponses(value = {
@@ -271,17 +677,48 @@ public class EmployeeController {
     @PreAuthorize("hasRole('USER')")
     public ResponseEntity<EmployeeListResponseDto> getEmployeesByRole(
             @Parameter(description = "Employee role", required = true, example = "Developer")
-            @PathVariable String role) {
+            @PathVariable String role,
+            @Parameter(description = "Comma-separated fields to return, from id, name and role; "
+                                   + "all when absent", example = "id,name")
+            @RequestParam(required = false) String fields,
+            WebRequest webRequest) {
         
-        logger.info("Getting employees by role: {}", role);
+        logger.info("Getting employees by role: {}, fields: {}", role, fields);
+        Set<EmployeeField> selected = selectedFields(fields);
+        if (employeeETags.checkCollection(webRequest)) {
+            return notModified();
+        }
         
+        // Served from the role index and employee cache, or the query cache, so trimmed rather than re-queried
         List<EmployeeDto> employees = employeeService.findByRole(role);
-        EmployeeListResponseDto response = new EmployeeListResponseDto(employees);
+        EmployeeListResponseDto response = new EmployeeListResponseDto(retain(employees, selected));
         
         logger.info("Found {} employees with role: {}", employees.size(), role);
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "Get employee count by role", 
+               description = "Get the number of employees with a specific role (case-insensitive)")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Count retrieved successfully")
+    })
+    @GetMapping("/role/{role}/count")
+    @PreAuthorize("hasRole('USER')")
+    public ResponseEntity<Long> getEmployeeCountByRole(
+            @Parameter(description = "Employee role", required = true, example = "Developer")
+            @PathVariable String role,
+            WebRequest webRequest) {
+        logger.info("Getting employee count by role: {}", role);
+        if (employeeETags.checkCollection(webRequest)) {
+            return notModified();
+        }
+        
+        long count = employeeService.countByRole(role);
+        
+        logger.info("Employee count with role {}: {}", role, count);
+        return ResponseEntity.ok(count);
+    }
+
     @Operation(summary = "Get employee count", 
                description = "Get the total number of employees")
     @ApiResponses(value = {
@@ -289,12 +726,86 @@ public class EmployeeController {
     })
     @GetMapping("/count")
     @PreAuthorize("hasRole('USER')")
-    public ResponseEntity<Long> getEmployeeCount() {
+    public ResponseEntity<Long> getEmployeeCount(WebRequest webRequest) {
         logger.info("Getting total employee count");
+        if (employeeETags.checkCollection(webRequest)) {
+            return notModified();
+        }
         
         long count = employeeService.count();
         
         logger.info("Total employee count: {}", count);
         return ResponseEntity.ok(count);
     }
+
+    @Operation(summary = "Get protobuf schema", 
+               description = "Get the protobuf messages, generated from the DTOs, of employees, employee lists "
+                           + "and errors as sent and accepted with application/x-protobuf")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Schema retrieved successfully")
+    })
+    @GetMapping(value = "/schema.proto", produces = MediaType.TEXT_PLAIN_VALUE)
+    @PreAuthorize("hasRole('USER')")
+    public ResponseEntity<String> getProtobufSchema() {
+        logger.debug("Getting protobuf schema");
+        // The list schema already declares EmployeeDto, so two sources cover all three messages
+        String schema = protobufConverter.schemaSource(EmployeeListResponseDto.class) + "\n"
+                + protobufConverter.schemaSource(ErrorResponseDto.class);
+        return ResponseEntity.ok(schema);
+    }
+
+    private static Set<EmployeeField> selectedFields(String fields) {
+        try {
+            return EmployeeField.parse(fields);
+        } catch (IllegalArgumentException ex) {
+            logger.warn("Rejected field selection: {}", ex.getMessage());
+            throw new EmployeeValidationException("fields", fields, ex.getMessage());
+        }
+    }
+
+    /**
+     * Copies of the employees with only the selected fields, leaving loaded and cached DTOs untouched
+     */
+    private static List<EmployeeDto> retain(List<EmployeeDto> employees, Set<EmployeeField> fields) {
+        if (fields.containsAll(EmployeeField.ALL)) {
+            return employees;
+        }
+        return employees.stream().map(employee -> EmployeeField.retain(employee, fields)).toList();
+    }
+
+    /**
+     * Empty 304 response; the validators were set by {@link EmployeeETags}
+     */
+    private static <T> ResponseEntity<T> notModified() {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+    }
+
+    /**
+     * 200 response with pre-serialized JSON, copied to the output stream as is
+     * The gzip copy is sent when there is one and the client accepts it
+     */
+    private static ResponseEntity<byte[]> serialized(EmployeeJsonCache.SerializedEmployee employee,
+                                                     WebRequest webRequest) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON);
+        if (employee.gzip() == null) {
+            return response.body(employee.json());
+        }
+        response.header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (EmployeeJsonCache.acceptsGzip(webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(employee.gzip());
+        }
+        return response.body(employee.json());
+    }
+
+    /**
+     * 200 response carrying the employee's ETag when its new version is known,
+     * so the client can make its next write conditional without a GET
+     */
+    private static ResponseEntity<EmployeeDto> tagged(EmployeeDto employee) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (employee.getVersion() != null) {
+            response.eTag(EmployeeETags.resourceTag(employee.getId(), employee.getVersion()));
+        }
+        return response.body(employee);
+    }
 }
@@ -1,21 +1,264 @@
 package org.sanjeevas.springrest;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.sanjeevas.springrest.cache.EmployeeTableState;
+import org.sanjeevas.springrest.dto.EmployeeDto;
+import org.sanjeevas.springrest.index.EmployeeSearchTerms;
+import org.sanjeevas.springrest.index.TermCount;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.jpa.repository.query.EscapeCharacter;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for Employee entity
- * Extends JpaRepository to provide CRUD operations and custom queries
+ * Extends JpaRepository to provide CRUD operations and custom queries, and
+ * JpaSpecificationExecutor for dynamically combined filters
+ * The ...AsDto queries select id, name and role straight into EmployeeDto for
+ * read-only lists: no entity is hydrated, snapshotted for dirty checking or
+ * mapped, and the audit and version columns are not read
+ * Role lookups are marked cacheable for Hibernate's query cache, which drops
+ * them whenever the employees table is written
  * 
  * @author Sanjeeva
- * @version 1.0
+ * @version 1.6
  */
 @Repository
-public interface EmployeeRepository extends JpaRepository<Employee, Long> {
+public interface EmployeeRepository extends JpaRepository<Employee, Long>, JpaSpecificationExecutor<Employee> {
+
+    /**
+     * Scroll through all employees using keyset pagination
+     * The sort must end in a unique key so the position is unambiguous
+     * 
+     * @param position Keyset position after which to continue
+     * @param sort Sort order, ending with id
+     * @param limit Maximum number of employees to return
+     * @return Window of employees with the position of each element
+     */
+    Window<Employee> findAllBy(ScrollPosition position, Sort sort, Limit limit);
+
+    /**
+     * Retrieve a page of employees without the COUNT query a Page needs
+     * Fetches one extra row to tell whether another page follows
+     * 
+     * @param pageable Pagination information
+     * @return Slice of employees
+     */
+    Slice<Employee> findAllBy(Pageable pageable);
+
+    /**
+     * Stream all employees ordered by id through a forward-only cursor
+     * Must be consumed and closed inside a transaction; entities are loaded
+     * read-only and the JDBC driver fetches 500 rows per round trip. The
+     * second-level cache is bypassed so a full pass does not evict hot entries;
+     * Hibernate restores the session's cache mode once the cursor is open, so
+     * callers set it to IGNORE for the rows they read as well
+     * 
+     * @return Stream of employees
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    @Query("SELECT e FROM Employee e ORDER BY e.id")
+    Stream<Employee> streamAllBy();
+
+    /**
+     * Stream the searchable fields of every employee for building in-memory indexes
+     * Must be consumed and closed inside a transaction; bypasses the second-level cache
+     * 
+     * @return Stream of id, name and role
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    @Query("SELECT new org.sanjeevas.springrest.index.EmployeeSearchTerms(e.id, e.name, e.role) FROM Employee e")
+    Stream<EmployeeSearchTerms> streamSearchTermsBy();
+
+    /**
+     * Retrieve all employees as DTOs
+     * 
+     * @return List of all employees
+     */
+    @Query("SELECT new org.sanjeevas.springrest.dto.EmployeeDto(e.id, e.name, e.role) FROM Employee e")
+    List<EmployeeDto> findAllAsDto();
+
+    /**
+     * Retrieve a page of employees as DTOs
+     * 
+     * @param pageable Pagination information; sort properties are those of Employee
+     * @return Page of employees
+     */
+    @Query(value = "SELECT new org.sanjeevas.springrest.dto.EmployeeDto(e.id, e.name, e.role) FROM Employee e",
+           countQuery = "SELECT COUNT(e) FROM Employee e")
+    Page<EmployeeDto> findAllAsDto(Pageable pageable);
+
+    /**
+     * Retrieve a page of employees as DTOs without counting the total
+     * Fetches one extra row to tell whether another page follows
+     * 
+     * @param pageable Pagination information; sort properties are those of Employee
+     * @return Slice of employees
+     */
+    @Query("SELECT new org.sanjeevas.springrest.dto.EmployeeDto(e.id, e.name, e.role) FROM Employee e")
+    Slice<EmployeeDto> findSliceAsDto(Pageable pageable);
+
+    /**
+     * Find employees by ID as DTOs, with the version their ETag is made from
+     * 
+     * @param ids Employee IDs
+     * @return Employees found, in no particular order
+     */
+    @Query("SELECT new org.sanjeevas.springrest.dto.EmployeeDto(e.id, e.name, e.role, e.version) FROM Employee e "
+            + "WHERE e.id IN :ids")
+    List<EmployeeDto> findAllAsDtoById(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Find employees by role key as DTOs, an index seek on role_key
+     * 
+     * @param roleKey Role key as produced by {@link Employee#roleKeyOf(String)}
+     * @return List of employees with the role
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("SELECT new org.sanjeevas.springrest.dto.EmployeeDto(e.id, e.name, e.role) FROM Employee e "
+            + "WHERE e.roleKey = :roleKey")
+    List<EmployeeDto> findAsDtoByRoleKey(@Param("roleKey") String roleKey);
+
+    /**
+     * Find employees by role as DTOs, compared through the indexed role key
+     * 
+     * @param role Role to search for
+     * @return List of employees with the specified role
+     */
+    default List<EmployeeDto> findAsDtoByRole(String role) {
+        return findAsDtoByRoleKey(Employee.roleKeyOf(role));
+    }
+
+    /**
+     * Find employees whose lower-cased name matches a LIKE pattern, as DTOs
+     * 
+     * @param pattern Lower-case pattern escaped with {@link EscapeCharacter#DEFAULT}
+     * @return List of matching employees
+     */
+    @Query("SELECT new org.sanjeevas.springrest.dto.EmployeeDto(e.id, e.name, e.role) FROM Employee e "
+            + "WHERE LOWER(e.name) LIKE :pattern ESCAPE '\\'")
+    List<EmployeeDto> findAsDtoByNameLike(@Param("pattern") String pattern);
+
+    /**
+     * Find employees by name containing the given string (case-insensitive) as DTOs
+     * Wildcards in the name are taken literally, as in the derived query
+     * 
+     * @param name Name to search for
+     * @return List of matching employees
+     */
+    default List<EmployeeDto> findAsDtoByNameContainingIgnoreCase(String name) {
+        return findAsDtoByNameLike(containsPattern(name));
+    }
+
+    /**
+     * Find employees whose lower-cased name matches a LIKE pattern and holding a role key, as DTOs
+     * 
+     * @param pattern Lower-case pattern escaped with {@link EscapeCharacter#DEFAULT}
+     * @param roleKey Role key as produced by {@link Employee#roleKeyOf(String)}
+     * @return List of matching employees
+     */
+    @Query("SELECT new org.sanjeevas.springrest.dto.EmployeeDto(e.id, e.name, e.role) FROM Employee e "
+            + "WHERE e.roleKey = :roleKey AND LOWER(e.name) LIKE :pattern ESCAPE '\\'")
+    List<EmployeeDto> findAsDtoByNameLikeAndRoleKey(@Param("pattern") String pattern,
+                                                   @Param("roleKey") String roleKey);
+
+    /**
+     * Find employees by name (case-insensitive) and role as DTOs
+     * 
+     * @param name Name to search for
+     * @param role Role to search for
+     * @return List of employees matching both criteria
+     */
+    default List<EmployeeDto> findAsDtoByNameContainingIgnoreCaseAndRole(String name, String role) {
+        return findAsDtoByNameLikeAndRoleKey(containsPattern(name), Employee.roleKeyOf(role));
+    }
+
+    /**
+     * Summarize the table for change detection; one scan, no entity loads
+     *
+     * @return Row count, latest update time and version sum
+     */
+    @Query("SELECT new org.sanjeevas.springrest.cache.EmployeeTableState("
+            + "COUNT(e), MAX(e.updatedAt), COALESCE(SUM(e.version), 0L)) FROM Employee e")
+    EmployeeTableState findTableState();
+
+    /**
+     * Count employees per distinct name matching a lower-case LIKE pattern, in name order
+     * 
+     * @param pattern Lower-case pattern escaped with {@link EscapeCharacter#DEFAULT}
+     * @param limit Maximum number of names
+     * @return Names with their employee counts
+     */
+    @Query("SELECT new org.sanjeevas.springrest.index.TermCount(e.name, COUNT(e)) FROM Employee e "
+            + "WHERE LOWER(e.name) LIKE :pattern ESCAPE '\\' GROUP BY e.name ORDER BY LOWER(e.name)")
+    List<TermCount> countByNameLike(@Param("pattern") String pattern, Limit limit);
+
+    /**
+     * Count employees per distinct role matching a lower-case LIKE pattern, in role order
+     * 
+     * @param pattern Lower-case pattern escaped with {@link EscapeCharacter#DEFAULT}
+     * @param limit Maximum number of roles
+     * @return Roles with their employee counts
+     */
+    @Query("SELECT new org.sanjeevas.springrest.index.TermCount(e.role, COUNT(e)) FROM Employee e "
+            + "WHERE LOWER(e.role) LIKE :pattern ESCAPE '\\' GROUP BY e.role ORDER BY LOWER(e.role)")
+    List<TermCount> countByRoleLike(@Param("pattern") String pattern, Limit limit);
+
+    /**
+     * Count employees per distinct name starting with a prefix (case-insensitive)
+     * 
+     * @param prefix Prefix to match; wildcards are taken literally
+     * @param limit Maximum number of names
+     * @return Names with their employee counts, in name order
+     */
+    default List<TermCount> countByNameStartingWithIgnoreCase(String prefix, int limit) {
+        return countByNameLike(prefixPattern(prefix), Limit.of(limit));
+    }
+
+    /**
+     * Count employees per distinct role starting with a prefix (case-insensitive)
+     * 
+     * @param prefix Prefix to match; wildcards are taken literally
+     * @param limit Maximum number of roles
+     * @return Roles with their employee counts, in role order
+     */
+    default List<TermCount> countByRoleStartingWithIgnoreCase(String prefix, int limit) {
+        return countByRoleLike(prefixPattern(prefix), Limit.of(limit));
+    }
+
+    private static String prefixPattern(String prefix) {
+        return EscapeCharacter.DEFAULT.escape(prefix.trim().toLowerCase(Locale.ROOT)) + "%";
+    }
+
+    private static String containsPattern(String name) {
+        return "%" + EscapeCharacter.DEFAULT.escape(name.toLowerCase(Locale.ROOT)) + "%";
+    }
 
     /**
      * Find employees by name containing the given string (case-insensitive)
@@ -25,22 +268,43 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long> {
      */
     List<Employee> findByNameContainingIgnoreCase(String name);
 
+    /**
+     * Find employees by role key, an index seek on role_key
+     * 
+     * @param roleKey Role key as produced by {@link Employee#roleKeyOf(String)}
+     * @return List of employees with the role
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Employee> findByRoleKey(String roleKey);
+
     /**
      * Find employees by exact role match (case-insensitive)
      * 
      * @param role Role to search for
      * @return List of employees with the specified role
      */
-    List<Employee> findByRoleIgnoreCase(String role);
+    default List<Employee> findByRoleIgnoreCase(String role) {
+        return findByRoleKey(Employee.roleKeyOf(role));
+    }
 
     /**
-     * Find employees by role using custom query
+     * Find employees by role, compared through the indexed role key
      * 
      * @param role Role to search for
      * @return List of employees with the specified role
      */
-    @Query("SELECT e FROM Employee e WHERE LOWER(e.role) = LOWER(:role)")
-    List<Employee> findByRole(@Param("role") String role);
+    default List<Employee> findByRole(String role) {
+        return findByRoleKey(Employee.roleKeyOf(role));
+    }
+
+    /**
+     * Find employees by name and role key
+     * 
+     * @param name Name to search for
+     * @param roleKey Role key as produced by {@link Employee#roleKeyOf(String)}
+     * @return List of employees matching both criteria
+     */
+    List<Employee> findByNameContainingIgnoreCaseAndRoleKey(String name, String roleKey);
 
     /**
      * Find employees by name and role
@@ -49,7 +313,18 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long> {
      * @param role Role to search for
      * @return List of employees matching both criteria
      */
-    List<Employee> findByNameContainingIgnoreCaseAndRoleIgnoreCase(String name, String role);
+    default List<Employee> findByNameContainingIgnoreCaseAndRoleIgnoreCase(String name, String role) {
+        return findByNameContainingIgnoreCaseAndRoleKey(name, Employee.roleKeyOf(role));
+    }
+
+    /**
+     * Count employees by role key
+     * 
+     * @param roleKey Role key as produced by {@link Employee#roleKeyOf(String)}
+     * @return Number of employees with the role
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    long countByRoleKey(String roleKey);
 
     /**
      * Count employees by role
@@ -57,7 +332,29 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long> {
      * @param role Role to count
      * @return Number of employees with the specified role
      */
-    long countByRoleIgnoreCase(String role);
+    default long countByRoleIgnoreCase(String role) {
+        return countByRoleKey(Employee.roleKeyOf(role));
+    }
+
+    /**
+     * Distinct roles of rows written before role_key existed
+     * 
+     * @return Roles whose rows have no role key yet
+     */
+    @Query("SELECT DISTINCT e.role FROM Employee e WHERE e.roleKey IS NULL")
+    List<String> findRolesWithoutRoleKey();
+
+    /**
+     * Set the role key on rows written before role_key existed
+     * Bulk update: bypasses the persistence context, version and entity listeners
+     * 
+     * @param role Role whose rows to update
+     * @param roleKey Role key for that role
+     * @return Number of rows updated
+     */
+    @Modifying
+    @Query("UPDATE Employee e SET e.roleKey = :roleKey WHERE e.role = :role AND e.roleKey IS NULL")
+    int backfillRoleKey(@Param("role") String role, @Param("roleKey") String roleKey);
 
     /**
      * Check if employee exists by name
@@ -0,0 +1,65 @@
+package org.sanjeevas.springrest.bulk;
+
+import org.springframework.http.MediaType;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Wire formats supported by the employee export and import
+ *
+ * @author Sanjeeva
+ * @version 1.0
+ */
+public enum BulkFormat {
+
+    NDJSON(MediaType.APPLICATION_NDJSON, "ndjson"),
+    CSV(new MediaType("text", "csv", StandardCharsets.UTF_8), "csv");
+
+    private final MediaType mediaType;
+    private final String fileExtension;
+
+    BulkFormat(MediaType mediaType, String fileExtension) {
+        this.mediaType = mediaType;
+        this.fileExtension = fileExtension;
+    }
+
+    /**
+     * Parse a request parameter value
+     *
+     * @param value Format name, case-insensitive
+     * @return Matching format
+     * @throws IllegalArgumentException if the value is not a supported format
+     */
+    public static BulkFormat from(String value) {
+        for (BulkFormat format : values()) {
+            if (format.name().equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Format must be one of ndjson, csv");
+    }
+
+    /**
+     * Resolve the format of a request body
+     *
+     * @param contentType Content type of the body
+     * @return Matching format
+     * @throws IllegalArgumentException if the content type is not a supported format
+     */
+    public static BulkFormat from(MediaType contentType) {
+        for (BulkFormat format : values()) {
+            if (format.mediaType.isCompatibleWith(contentType)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Content type must be application/x-ndjson or text/csv");
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public String getFileName() {
+        return "employees." + fileExtension;
+    }
+}
@@ -0,0 +1,61 @@
+package org.sanjeevas.springrest.bulk;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Positive;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Tuning for the streaming employee import
+ * Bound from app.bulk.import.*
+ *
+ * @author Sanjeeva
+ * @version 1.0
+ */
+@ConfigurationProperties(prefix = "app.bulk.import")
+@Validated
+public class BulkImportProperties {
+
+    /**
+     * Rows written per transaction; keep a multiple of hibernate.jdbc.batch_size
+     */
+    @Positive(message = "Import chunk size must be positive")
+    @Max(value = 10000, message = "Import chunk size too large (max 10000)")
+    private int chunkSize = 500;
+
+    /**
+     * Per-line errors reported before the list is truncated
+     */
+    @Positive(message = "Import max errors must be positive")
+    private int maxErrors = 1000;
+
+    /**
+     * Longest accepted input line in characters
+     */
+    @Positive(message = "Import max line length must be positive")
+    private int maxLineLength = 8192;
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    public int getMaxErrors() {
+        return maxErrors;
+    }
+
+    public void setMaxErrors(int maxErrors) {
+        this.maxErrors = maxErrors;
+    }
+
+    public int getMaxLineLength() {
+        return maxLineLength;
+    }
+
+    public void setMaxLineLength(int maxLineLength) {
+        this.maxLineLength = maxLineLength;
+    }
+}
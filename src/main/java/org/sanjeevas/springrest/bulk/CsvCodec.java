@@ -0,0 +1,85 @@
+package org.sanjeevas.springrest.bulk;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal RFC 4180 field encoding and decoding for single-line records
+ * Leading formula characters are neutralised on export and restored on import
+ * so exported files cannot trigger spreadsheet formula injection
+ *
+ * @author Sanjeeva
+ * @version 1.0
+ */
+final class CsvCodec {
+
+    static final String LINE_SEPARATOR = "\r\n";
+
+    private static final String FORMULA_PREFIXES = "=+-@\t\r";
+    private static final char FORMULA_ESCAPE = '\'';
+
+    private CsvCodec() {
+    }
+
+    /**
+     * Encode a value as a CSV field, quoting only when required
+     */
+    static String encode(String value) {
+        if (value == null || value.isEmpty()) {
+            return "";
+        }
+        String safe = FORMULA_PREFIXES.indexOf(value.charAt(0)) >= 0 ? FORMULA_ESCAPE + value : value;
+        if (safe.indexOf(',') < 0 && safe.indexOf('"') < 0 && safe.indexOf('\n') < 0 && safe.indexOf('\r') < 0) {
+            return safe;
+        }
+        return '"' + safe.replace("\"", "\"\"") + '"';
+    }
+
+    /**
+     * Split a record into decoded fields
+     *
+     * @throws IllegalArgumentException if a quoted field is not terminated
+     */
+    static List<String> decode(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean wasQuoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char ch = line.charAt(i);
+            if (quoted) {
+                if (ch != '"') {
+                    field.append(ch);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (ch == '"' && field.isEmpty()) {
+                quoted = true;
+                wasQuoted = true;
+            } else if (ch == ',') {
+                fields.add(restore(field.toString(), wasQuoted));
+                field.setLength(0);
+                wasQuoted = false;
+            } else {
+                field.append(ch);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        fields.add(restore(field.toString(), wasQuoted));
+        return fields;
+    }
+
+    private static String restore(String value, boolean wasQuoted) {
+        String trimmed = wasQuoted ? value : value.trim();
+        if (trimmed.length() > 1 && trimmed.charAt(0) == FORMULA_ESCAPE
+                && FORMULA_PREFIXES.indexOf(trimmed.charAt(1)) >= 0) {
+            return trimmed.substring(1);
+        }
+        return trimmed;
+    }
+}
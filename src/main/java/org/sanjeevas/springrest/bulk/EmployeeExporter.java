@@ -0,0 +1,152 @@
+package org.sanjeevas.springrest.bulk;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.persistence.EntityManager;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.sanjeevas.springrest.Employee;
+import org.sanjeevas.springrest.EmployeeRepository;
+import org.sanjeevas.springrest.dto.EmployeeDto;
+import org.sanjeevas.springrest.mapper.EmployeeMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Streams every employee to an output stream in constant memory
+ * Rows are read through a forward-only database cursor, written as they arrive,
+ * and the persistence context is cleared after each chunk so nothing accumulates,
+ * in the session or in the second-level cache
+ *
+ * @author Sanjeeva
+ * @version 1.1
+ */
+@Component
+public class EmployeeExporter {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeExporter.class);
+
+    /** Matches the JDBC fetch size of {@link EmployeeRepository#streamAllBy()} */
+    static final int CHUNK_SIZE = 500;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final EmployeeRepository employeeRepository;
+    private final EmployeeMapper employeeMapper;
+    private final EntityManager entityManager;
+    private final ObjectWriter rowWriter;
+
+    public EmployeeExporter(EmployeeRepository employeeRepository, EmployeeMapper employeeMapper,
+                            EntityManager entityManager, ObjectMapper objectMapper) {
+        this.employeeRepository = employeeRepository;
+        this.employeeMapper = employeeMapper;
+        this.entityManager = entityManager;
+        this.rowWriter = objectMapper.writerFor(EmployeeDto.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * Write all employees, ordered by id, to the given stream
+     * The stream is flushed after every chunk but not closed
+     *
+     * @param format Output format
+     * @param outputStream Destination, typically the response body
+     * @return Number of employees written
+     * @throws IOException if writing to the stream fails
+     */
+    @Transactional(readOnly = true)
+    public long export(BulkFormat format, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+        RowWriter rows = format == BulkFormat.CSV ? new CsvRowWriter(writer) : new NdjsonRowWriter(writer);
+
+        long count = 0;
+        // Rows are hydrated as the cursor advances, after the query's own cache mode is
+        // restored, so the session keeps a full pass out of the second-level cache
+        Session session = entityManager.unwrap(Session.class);
+        CacheMode cacheMode = session.getCacheMode();
+        session.setCacheMode(CacheMode.IGNORE);
+        try (Stream<Employee> employees = employeeRepository.streamAllBy()) {
+            Iterator<Employee> iterator = employees.iterator();
+            while (iterator.hasNext()) {
+                rows.write(employeeMapper.toDto(iterator.next()));
+                if (++count % CHUNK_SIZE == 0) {
+                    entityManager.clear();
+                    rows.flush();
+                }
+            }
+        } finally {
+            session.setCacheMode(cacheMode);
+        }
+        rows.flush();
+
+        logger.info("Exported {} employees as {}", count, format);
+        return count;
+    }
+
+    private interface RowWriter {
+
+        void write(EmployeeDto employee) throws IOException;
+
+        void flush() throws IOException;
+    }
+
+    private final class NdjsonRowWriter implements RowWriter {
+
+        private final JsonGenerator generator;
+
+        private NdjsonRowWriter(Writer writer) throws IOException {
+            this.generator = rowWriter.createGenerator(writer)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        }
+
+        @Override
+        public void write(EmployeeDto employee) throws IOException {
+            rowWriter.writeValue(generator, employee);
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void flush() throws IOException {
+            generator.flush();
+        }
+    }
+
+    private static final class CsvRowWriter implements RowWriter {
+
+        private final Writer writer;
+
+        private CsvRowWriter(Writer writer) throws IOException {
+            this.writer = writer;
+            writer.write("id,name,role");
+            writer.write(CsvCodec.LINE_SEPARATOR);
+        }
+
+        @Override
+        public void write(EmployeeDto employee) throws IOException {
+            writer.write(String.valueOf(employee.getId()));
+            writer.write(',');
+            writer.write(CsvCodec.encode(employee.getName()));
+            writer.write(',');
+            writer.write(CsvCodec.encode(employee.getRole()));
+            writer.write(CsvCodec.LINE_SEPARATOR);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            writer.flush();
+        }
+    }
+}
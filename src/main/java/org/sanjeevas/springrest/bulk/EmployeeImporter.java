@@ -0,0 +1,300 @@
+package org.sanjeevas.springrest.bulk;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.sanjeevas.springrest.Employee;
+import org.sanjeevas.springrest.EmployeeRepository;
+import org.sanjeevas.springrest.dto.EmployeeDto;
+import org.sanjeevas.springrest.dto.ImportSummaryDto;
+import org.sanjeevas.springrest.exception.EmployeeValidationException;
+import org.sanjeevas.springrest.mapper.EmployeeMapper;
+import org.sanjeevas.springrest.security.SecurityUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+/**
+ * Imports employees from an NDJSON or CSV stream
+ * Lines are parsed and validated on the calling thread while the previous chunk
+ * is written in its own transaction on a worker thread, so at most two chunks are
+ * held in memory whatever the size of the upload
+ *
+ * @author Sanjeeva
+ * @version 1.0
+ */
+@Component
+public class EmployeeImporter {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeImporter.class);
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final EmployeeRepository employeeRepository;
+    private final EmployeeMapper employeeMapper;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ObjectReader rowReader;
+    private final AsyncTaskExecutor writeExecutor;
+    private final BulkImportProperties properties;
+
+    public EmployeeImporter(EmployeeRepository employeeRepository, EmployeeMapper employeeMapper,
+                            EntityManager entityManager, PlatformTransactionManager transactionManager,
+                            Validator validator, ObjectMapper objectMapper,
+                            @Qualifier("applicationTaskExecutor") AsyncTaskExecutor writeExecutor,
+                            BulkImportProperties properties) {
+        this.employeeRepository = employeeRepository;
+        this.employeeMapper = employeeMapper;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.validator = validator;
+        this.rowReader = objectMapper.readerFor(EmployeeDto.class);
+        this.writeExecutor = writeExecutor;
+        this.properties = properties;
+    }
+
+    /**
+     * Import every line of the given stream
+     * Invalid lines are reported and skipped; valid lines are committed in chunks
+     *
+     * @param format Input format
+     * @param inputStream Upload body, read exactly once and not closed
+     * @return Summary with per-line errors
+     * @throws IOException if reading the stream fails
+     * @throws EmployeeValidationException if the CSV header is missing required columns
+     */
+    public ImportSummaryDto importEmployees(BulkFormat format, InputStream inputStream) throws IOException {
+        LineReader reader = new LineReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8),
+                                           properties.getMaxLineLength());
+        RowParser parser = format == BulkFormat.CSV ? null : this::parseNdjson;
+        ImportSummaryDto summary = new ImportSummaryDto();
+
+        int chunkSize = properties.getChunkSize();
+        List<Row> chunk = new ArrayList<>(chunkSize);
+        CompletableFuture<ChunkResult> inFlight = CompletableFuture.completedFuture(ChunkResult.NONE);
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (parser == null) {
+                    // First non-blank CSV line is the header
+                    parser = csvParser(line);
+                    continue;
+                }
+
+                summary.setProcessed(summary.getProcessed() + 1);
+                try {
+                    if (reader.isTruncated()) {
+                        throw new IllegalArgumentException(
+                                "Line exceeds " + properties.getMaxLineLength() + " characters");
+                    }
+                    chunk.add(new Row(reader.getLineNumber(), validate(parser.parse(line))));
+                } catch (IllegalArgumentException ex) {
+                    reject(summary, List.of(new ImportSummaryDto.LineError(reader.getLineNumber(), ex.getMessage())));
+                }
+
+                if (chunk.size() == chunkSize) {
+                    merge(summary, inFlight.join());
+                    List<Row> rows = chunk;
+                    inFlight = CompletableFuture.supplyAsync(() -> writeChunk(rows), writeExecutor);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+        } finally {
+            merge(summary, inFlight.join());
+        }
+        if (!chunk.isEmpty()) {
+            merge(summary, writeChunk(chunk));
+        }
+
+        logger.info("Imported {} of {} employees as {}, {} rejected",
+                    summary.getImported(), summary.getProcessed(), format, summary.getFailed());
+        return summary;
+    }
+
+    private EmployeeDto parseNdjson(String line) {
+        EmployeeDto employee;
+        try {
+            employee = rowReader.readValue(line);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalArgumentException("Malformed JSON: " + ex.getOriginalMessage());
+        }
+        if (employee == null) {
+            throw new IllegalArgumentException("Expected a JSON object");
+        }
+        return employee;
+    }
+
+    private RowParser csvParser(String headerLine) {
+        String columns = headerLine.startsWith("\uFEFF") ? headerLine.substring(1) : headerLine;
+        List<String> header;
+        try {
+            header = CsvCodec.decode(columns).stream()
+                    .map(column -> column.toLowerCase(Locale.ROOT))
+                    .toList();
+        } catch (IllegalArgumentException ex) {
+            throw new EmployeeValidationException("header", headerLine, "Malformed CSV header: " + ex.getMessage());
+        }
+        int nameColumn = header.indexOf("name");
+        int roleColumn = header.indexOf("role");
+        if (nameColumn < 0 || roleColumn < 0) {
+            throw new EmployeeValidationException("header", headerLine, "CSV header must contain name and role columns");
+        }
+        return line -> {
+            List<String> fields = CsvCodec.decode(line);
+            if (fields.size() != header.size()) {
+                throw new IllegalArgumentException("Expected " + header.size() + " fields but found " + fields.size());
+            }
+            return new EmployeeDto(fields.get(nameColumn), fields.get(roleColumn));
+        };
+    }
+
+    private EmployeeDto validate(EmployeeDto employee) {
+        List<ConstraintViolation<EmployeeDto>> violations = validator.validate(employee).stream()
+                .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                .toList();
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .collect(Collectors.joining("; ")));
+        }
+        return new EmployeeDto(SecurityUtils.validateAndSanitizeName(employee.getName()),
+                               SecurityUtils.validateAndSanitizeRole(employee.getRole()));
+    }
+
+    /**
+     * Write a chunk in one transaction; if the database rejects it, retry row by
+     * row so a single bad line does not discard its neighbours
+     */
+    private ChunkResult writeChunk(List<Row> rows) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> persist(rows));
+            return new ChunkResult(rows.size(), List.of());
+        } catch (RuntimeException ex) {
+            logger.warn("Import chunk of {} rows failed, retrying row by row: {}", rows.size(), ex.getMessage());
+        }
+
+        long imported = 0;
+        List<ImportSummaryDto.LineError> errors = new ArrayList<>();
+        for (Row row : rows) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> persist(List.of(row)));
+                imported++;
+            } catch (RuntimeException ex) {
+                logger.warn("Import line {} rejected by the database: {}", row.line(), ex.getMessage());
+                errors.add(new ImportSummaryDto.LineError(row.line(), "Rejected by the database"));
+            }
+        }
+        return new ChunkResult(imported, errors);
+    }
+
+    private void persist(List<Row> rows) {
+        List<Employee> employees = new ArrayList<>(rows.size());
+        for (Row row : rows) {
+            employees.add(employeeMapper.toEntity(row.employee()));
+        }
+        employeeRepository.saveAll(employees);
+        employeeRepository.flush();
+        entityManager.clear();
+    }
+
+    private void merge(ImportSummaryDto summary, ChunkResult result) {
+        summary.setImported(summary.getImported() + result.imported());
+        reject(summary, result.errors());
+    }
+
+    private void reject(ImportSummaryDto summary, List<ImportSummaryDto.LineError> errors) {
+        summary.setFailed(summary.getFailed() + errors.size());
+        for (ImportSummaryDto.LineError error : errors) {
+            if (summary.getErrors().size() < properties.getMaxErrors()) {
+                summary.getErrors().add(error);
+            } else {
+                summary.setErrorsTruncated(true);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface RowParser {
+
+        EmployeeDto parse(String line);
+    }
+
+    private record Row(long line, EmployeeDto employee) {
+    }
+
+    private record ChunkResult(long imported, List<ImportSummaryDto.LineError> errors) {
+
+        static final ChunkResult NONE = new ChunkResult(0, List.of());
+    }
+
+    /**
+     * Line reader that never buffers more than the configured line length,
+     * so a missing newline cannot exhaust memory
+     */
+    private static final class LineReader {
+
+        private final Reader reader;
+        private final int maxLength;
+        private final StringBuilder line = new StringBuilder();
+        private long lineNumber;
+        private boolean truncated;
+
+        private LineReader(Reader reader, int maxLength) {
+            this.reader = new BufferedReader(reader, BUFFER_SIZE);
+            this.maxLength = maxLength;
+        }
+
+        String readLine() throws IOException {
+            line.setLength(0);
+            truncated = false;
+            int ch;
+            while ((ch = reader.read()) != -1 && ch != '\n') {
+                if (line.length() < maxLength) {
+                    line.append((char) ch);
+                } else {
+                    truncated = true;
+                }
+            }
+            if (ch == -1 && line.isEmpty() && !truncated) {
+                return null;
+            }
+            lineNumber++;
+            if (!line.isEmpty() && line.charAt(line.length() - 1) == '\r') {
+                line.setLength(line.length() - 1);
+            }
+            return line.toString();
+        }
+
+        long getLineNumber() {
+            return lineNumber;
+        }
+
+        boolean isTruncated() {
+            return truncated;
+        }
+    }
+}
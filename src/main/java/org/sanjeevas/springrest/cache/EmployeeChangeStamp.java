@@ -0,0 +1,99 @@
+package org.sanjeevas.springrest.cache;
+
+import org.sanjeevas.springrest.EmployeeRepository;
+import org.sanjeevas.springrest.event.EmployeeChangeEvent;
+import org.sanjeevas.springrest.event.EmployeeChangeListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Global modification stamp for the employee collection
+ * Advanced after every committed change, so anything derived from the whole
+ * collection (lists, searches, counts) is unchanged while the stamp is. The
+ * generation is the start time, keeping stamps from different runs apart.
+ * Advanced after every other listener has applied the change, so a new stamp is
+ * never paired with an index or cache that still holds the old state.
+ * Committed changes only reach this instance's listeners, so writes from other
+ * instances or from outside JPA (SQL, bulk statements) are caught by comparing
+ * an {@link EmployeeTableState} read every app.cache.change-stamp.check-interval;
+ * until then such writes may be answered 304. Updates that stamp neither
+ * updated_at nor version are not detected.
+ *
+ * @author Sanjeeva
+ * @version 1.1
+ */
+@Component
+public class EmployeeChangeStamp implements EmployeeChangeListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeChangeStamp.class);
+
+    private final EmployeeRepository employeeRepository;
+    private final long generation = System.currentTimeMillis();
+
+    // Sequence and time of the last change, swapped together
+    private volatile Stamp current = new Stamp(0, generation);
+
+    // Table state at the last check, null before the first; only the scheduled check touches it
+    private volatile EmployeeTableState checkedState;
+
+    public EmployeeChangeStamp(EmployeeRepository employeeRepository) {
+        this.employeeRepository = employeeRepository;
+    }
+
+    /**
+     * @return Opaque token that changes whenever any employee changes
+     */
+    public String get() {
+        return Long.toString(generation, 36) + "." + current.sequence;
+    }
+
+    /**
+     * @return Time of the last change, or the start time before any change, in epoch milliseconds
+     */
+    public long lastModified() {
+        return current.lastModified;
+    }
+
+    @Override
+    public void onEmployeeChanges(List<EmployeeChangeEvent> events) {
+        advance();
+    }
+
+    @Override
+    public void onOutcomeUnknown() {
+        // Whatever happened, clients must not keep what they had
+        advance();
+    }
+
+    /**
+     * Advance the stamp if the table changed since the last check
+     * Changes this instance saw advance it once more, and so does the first check,
+     * which has nothing to compare with; either only costs clients a full response
+     */
+    @Scheduled(fixedDelayString = "${app.cache.change-stamp.check-interval:PT30S}",
+               initialDelayString = "${app.cache.change-stamp.check-interval:PT30S}")
+    public void checkDatabase() {
+        EmployeeTableState state = employeeRepository.findTableState();
+        if (!state.equals(checkedState)) {
+            logger.debug("Employees table changed since the last check: {}", state);
+            advance();
+        }
+        checkedState = state;
+    }
+
+    @Override
+    public int getOrder() {
+        return LOWEST_PRECEDENCE;
+    }
+
+    private synchronized void advance() {
+        current = new Stamp(current.sequence + 1, Math.max(System.currentTimeMillis(), current.lastModified));
+    }
+
+    private record Stamp(long sequence, long lastModified) {
+    }
+}
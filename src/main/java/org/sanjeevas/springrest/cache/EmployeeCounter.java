@@ -0,0 +1,104 @@
+package org.sanjeevas.springrest.cache;
+
+import org.sanjeevas.springrest.EmployeeRepository;
+import org.sanjeevas.springrest.event.EmployeeChangeEvent;
+import org.sanjeevas.springrest.event.EmployeeChangeListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Maintained total number of employees
+ * Seeded from the database once at startup, adjusted by committed creates and
+ * deletes, and periodically re-synced to correct drift; reads never hit the database
+ *
+ * @author Sanjeeva
+ * @version 1.1
+ */
+@Component
+public class EmployeeCounter implements EmployeeChangeListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeCounter.class);
+
+    private final EmployeeRepository employeeRepository;
+    private final LongAdder count = new LongAdder();
+    private volatile boolean seeded;
+
+    // Drift measured by the previous resync, applied if the next one agrees
+    private long pendingDrift;
+
+    public EmployeeCounter(EmployeeRepository employeeRepository) {
+        this.employeeRepository = employeeRepository;
+    }
+
+    /**
+     * @return Current employee count
+     */
+    public long get() {
+        if (!seeded) {
+            resync();
+        }
+        return count.sum();
+    }
+
+    /**
+     * Seed once the application, including any data loaders, has started
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        resync();
+    }
+
+    /**
+     * Re-read the count from the database and correct any drift
+     * Applied as a delta so that concurrent adjustments are not lost. The COUNT
+     * and the sum are not read atomically, so a change committing between them
+     * looks like drift; once seeded, drift is only applied after two consecutive
+     * resyncs measure the same amount.
+     */
+    @Scheduled(fixedDelayString = "${app.cache.employee-count.resync-interval:PT5M}",
+               initialDelayString = "${app.cache.employee-count.resync-interval:PT5M}")
+    public synchronized void resync() {
+        long actual = employeeRepository.count();
+        long drift = actual - count.sum();
+        if (!seeded) {
+            count.add(drift);
+            pendingDrift = 0;
+            seeded = true;
+            logger.debug("Employee count seeded from database: {}", actual);
+            return;
+        }
+        if (drift == 0) {
+            pendingDrift = 0;
+        } else if (drift == pendingDrift) {
+            count.add(drift);
+            pendingDrift = 0;
+            logger.warn("Employee count drifted by {}, re-synced to {}", drift, actual);
+        } else {
+            pendingDrift = drift;
+            logger.debug("Employee count off by {}, waiting for the next resync to confirm", drift);
+        }
+    }
+
+    @Override
+    public void onEmployeeChanges(List<EmployeeChangeEvent> events) {
+        for (EmployeeChangeEvent event : events) {
+            if (event.getType() == EmployeeChangeEvent.Type.CREATED) {
+                count.increment();
+            } else if (event.getType() == EmployeeChangeEvent.Type.DELETED) {
+                count.decrement();
+            }
+        }
+    }
+
+    @Override
+    public void onOutcomeUnknown() {
+        seeded = false;
+    }
+}
@@ -0,0 +1,121 @@
+package org.sanjeevas.springrest.cache;
+
+import org.sanjeevas.springrest.dto.EmployeeDto;
+import org.sanjeevas.springrest.event.EmployeeChangeEvent;
+import org.sanjeevas.springrest.event.EmployeeChangeListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Supplier;
+
+/**
+ * In-memory copy of the full employee collection, ordered by ID
+ * Loaded once, then kept current by applying each committed change in O(log n)
+ * instead of being evicted and reloaded after every write
+ *
+ * @author Sanjeeva
+ * @version 1.0
+ */
+@Component
+public class EmployeeListCache implements EmployeeChangeListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeListCache.class);
+
+    private final Object lock = new Object();
+    private final Object loadLock = new Object();
+
+    // Null until loaded, and again after an unknown transaction outcome
+    private volatile ConcurrentSkipListMap<Long, EmployeeDto> entries;
+
+    // Changes committed while a load is running, replayed onto the loaded snapshot; guarded by lock
+    private List<EmployeeChangeEvent> replay;
+
+    /**
+     * Return all employees, loading them once when the cache is empty
+     *
+     * @param loader Full load from the database, used only on a miss
+     * @return Snapshot of all employees ordered by ID
+     */
+    public List<EmployeeDto> getAll(Supplier<List<EmployeeDto>> loader) {
+        ConcurrentSkipListMap<Long, EmployeeDto> current = entries;
+        if (current != null) {
+            return new ArrayList<>(current.values());
+        }
+
+        synchronized (loadLock) {
+            current = entries;
+            if (current != null) {
+                return new ArrayList<>(current.values());
+            }
+
+            synchronized (lock) {
+                replay = new ArrayList<>();
+            }
+
+            List<EmployeeDto> loaded;
+            try {
+                loaded = loader.get();
+            } catch (RuntimeException ex) {
+                synchronized (lock) {
+                    replay = null;
+                }
+                throw ex;
+            }
+
+            synchronized (lock) {
+                if (replay != null) {
+                    ConcurrentSkipListMap<Long, EmployeeDto> map = new ConcurrentSkipListMap<>();
+                    loaded.forEach(employee -> map.put(employee.getId(), employee));
+                    replay.forEach(event -> apply(map, event));
+                    logger.debug("Employee list cache loaded with {} entries, {} replayed changes",
+                                map.size(), replay.size());
+                    entries = map;
+                    replay = null;
+                    return new ArrayList<>(map.values());
+                }
+            }
+            return loaded;
+        }
+    }
+
+    /**
+     * Drop the cached collection; the next read reloads it
+     */
+    public void invalidate() {
+        synchronized (lock) {
+            entries = null;
+            replay = null;
+        }
+    }
+
+    @Override
+    public void onEmployeeChanges(List<EmployeeChangeEvent> events) {
+        synchronized (lock) {
+            if (replay != null) {
+                replay.addAll(events);
+            }
+            ConcurrentSkipListMap<Long, EmployeeDto> current = entries;
+            if (current != null) {
+                events.forEach(event -> apply(current, event));
+            }
+        }
+    }
+
+    @Override
+    public void onOutcomeUnknown() {
+        logger.info("Employee list cache invalidated after unknown transaction outcome");
+        invalidate();
+    }
+
+    private static void apply(ConcurrentSkipListMap<Long, EmployeeDto> map, EmployeeChangeEvent event) {
+        if (event.getType() == EmployeeChangeEvent.Type.DELETED) {
+            map.remove(event.getId());
+        } else {
+            map.put(event.getId(), event.getEmployee());
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package org.sanjeevas.springrest.cache;
+
+import java.time.LocalDateTime;
+
+/**
+ * Summary of the employees table that moves with any insert, delete or update
+ * stamping updated_at or version, whoever wrote it
+ *
+ * @param rows Number of employees
+ * @param lastUpdated Latest updated_at, or null for an empty table
+ * @param versionSum Sum of all row versions
+ * @author Sanjeeva
+ * @version 1.0
+ */
+public record EmployeeTableState(long rows, LocalDateTime lastUpdated, long versionSum) {
+}
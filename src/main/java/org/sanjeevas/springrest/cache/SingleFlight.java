@@ -0,0 +1,65 @@
+package org.sanjeevas.springrest.cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Collapses concurrent loads of the same key into one
+ * The first caller for a key runs the loader; callers arriving while it is still
+ * running wait for and share its result or exception. Nothing is retained once
+ * the load completes, so this is not a cache.
+ *
+ * @param <K> Key type
+ * @param <V> Result type
+ * @author Sanjeeva
+ * @version 1.0
+ */
+public final class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Run the loader for the key unless an identical load is already in flight
+     *
+     * @param key Identity of the load
+     * @param loader Loader run by the first caller
+     * @param onShared Called when this caller joins a load already in flight
+     * @return Result of the load
+     */
+    public V execute(K key, Supplier<V> loader, Runnable onShared) {
+        CompletableFuture<V> load = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, load);
+        if (existing != null) {
+            onShared.run();
+            return await(existing);
+        }
+
+        try {
+            V value = loader.get();
+            load.complete(value);
+            return value;
+        } catch (RuntimeException | Error ex) {
+            load.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, load);
+        }
+    }
+
+    private static <V> V await(CompletableFuture<V> load) {
+        try {
+            return load.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+}
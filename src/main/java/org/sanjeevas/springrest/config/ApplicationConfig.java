@@ -1,33 +1,23 @@
 package org.sanjeevas.springrest.config;
 
-import org.springframework.cache.CacheManager;
-import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
-import org.springframework.context.annotation.Bean;
+import org.sanjeevas.springrest.bulk.BulkImportProperties;
+import org.sanjeevas.springrest.index.SearchProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
- * Application configuration for caching and JPA auditing
- * 
+ * Application configuration for JPA auditing, scheduled maintenance tasks,
+ * bulk import and search index settings
+ * Cache configuration lives in {@link CacheConfig}
+ *
  * @author Sanjeeva
- * @version 1.0
+ * @version 1.3
  */
 @Configuration
-@EnableCaching
 @EnableJpaAuditing
+@EnableScheduling
+@EnableConfigurationProperties({BulkImportProperties.class, SearchProperties.class})
 public class ApplicationConfig {
-
-    /**
-     * Configure cache manager for application-level caching
-     * In production, consider using Redis or other distributed cache
-     */
-    @Bean
-    public CacheManager cacheManager() {
-        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(
-            "employees", "employee", "employeeCount"
-        );
-        cacheManager.setAllowNullValues(true);
-        return cacheManager;
-    }
 }
@@ -0,0 +1,101 @@
+package org.sanjeevas.springrest.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.sanjeevas.springrest.dto.EmployeeDto;
+import org.sanjeevas.springrest.web.EmployeeJsonCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Cache configuration backed by Caffeine
+ * Every cache is bounded; Caffeine's W-TinyLFU policy only admits a new entry
+ * over the eviction victim when it has been requested more often, so one-off
+ * ID scans cannot flush the hot working set
+ *
+ * @author Sanjeeva
+ * @version 1.1
+ */
+@Configuration
+@EnableCaching
+@EnableConfigurationProperties(CacheSpecProperties.class)
+public class CacheConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheConfig.class);
+
+    private static final long DEFAULT_MAXIMUM_SIZE = 1000L;
+
+    /**
+     * Configure cache manager for application-level caching
+     * Caches listed under app.cache.caffeine.caches get their own bounds,
+     * any other cache requested at runtime falls back to the defaults
+     */
+    @Bean
+    public CacheManager cacheManager(CacheSpecProperties properties) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setAllowNullValues(true);
+        cacheManager.setCaffeine(builder(properties.getDefaults()));
+
+        for (Map.Entry<String, CacheSpecProperties.CacheSpec> entry : properties.getCaches().entrySet()) {
+            cacheManager.registerCustomCache(entry.getKey(), builder(entry.getValue()).build());
+            logger.info("Registered bounded cache '{}'", entry.getKey());
+        }
+        return cacheManager;
+    }
+
+    private static Caffeine<Object, Object> builder(CacheSpecProperties.CacheSpec spec) {
+        if (spec.getMaximumSize() != null && spec.getMaximumWeight() != null) {
+            throw new IllegalStateException("Cache maximum-size and maximum-weight are mutually exclusive");
+        }
+
+        Caffeine<Object, Object> builder = Caffeine.newBuilder();
+        if (spec.getMaximumWeight() != null) {
+            builder.maximumWeight(spec.getMaximumWeight())
+                   .weigher((Object key, Object value) -> estimateWeight(value));
+        } else {
+            builder.maximumSize(spec.getMaximumSize() != null ? spec.getMaximumSize() : DEFAULT_MAXIMUM_SIZE);
+        }
+        if (spec.getExpireAfterWrite() != null) {
+            builder.expireAfterWrite(spec.getExpireAfterWrite());
+        }
+        if (spec.getExpireAfterAccess() != null) {
+            builder.expireAfterAccess(spec.getExpireAfterAccess());
+        }
+        if (spec.isRecordStats()) {
+            builder.recordStats();
+        }
+        return builder;
+    }
+
+    /**
+     * Approximate retained size in bytes, used when a cache is bounded by weight
+     */
+    static int estimateWeight(Object value) {
+        if (value instanceof EmployeeDto dto) {
+            return 64 + stringWeight(dto.getName()) + stringWeight(dto.getRole());
+        }
+        if (value instanceof EmployeeJsonCache.SerializedEmployee serialized) {
+            return 64 + serialized.json().length + (serialized.gzip() != null ? 16 + serialized.gzip().length : 0);
+        }
+        if (value instanceof Collection<?> values) {
+            long total = 32;
+            for (Object element : values) {
+                total += estimateWeight(element);
+            }
+            return (int) Math.min(Integer.MAX_VALUE, total);
+        }
+        return 16;
+    }
+
+    private static int stringWeight(String value) {
+        return value == null ? 0 : 40 + value.length();
+    }
+}
@@ -0,0 +1,115 @@
+package org.sanjeevas.springrest.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Per-cache sizing and expiry settings for the Caffeine cache manager
+ * Bound from app.cache.caffeine.defaults.* and app.cache.caffeine.caches.[name].*
+ *
+ * @author Sanjeeva
+ * @version 1.1
+ */
+@ConfigurationProperties(prefix = "app.cache.caffeine")
+@Validated
+public class CacheSpecProperties {
+
+    /**
+     * Settings applied to caches without an explicit entry in {@link #caches}
+     */
+    @Valid
+    private CacheSpec defaults = new CacheSpec();
+
+    /**
+     * Settings keyed by cache name
+     */
+    @Valid
+    private Map<String, CacheSpec> caches = new LinkedHashMap<>();
+
+    public CacheSpec getDefaults() {
+        return defaults;
+    }
+
+    public void setDefaults(CacheSpec defaults) {
+        this.defaults = defaults;
+    }
+
+    public Map<String, CacheSpec> getCaches() {
+        return caches;
+    }
+
+    public void setCaches(Map<String, CacheSpec> caches) {
+        this.caches = caches;
+    }
+
+    /**
+     * Bounds and expiry for a single cache. Either maximumSize or maximumWeight
+     * may be set, never both; when neither is set maximumSize defaults to 1000.
+     */
+    public static class CacheSpec {
+
+        @Positive(message = "Cache maximum size must be positive")
+        private Long maximumSize;
+
+        @Positive(message = "Cache maximum weight must be positive")
+        private Long maximumWeight;
+
+        /**
+         * Time-to-live measured from the last write
+         */
+        private Duration expireAfterWrite;
+
+        /**
+         * Time-to-idle measured from the last read or write
+         */
+        private Duration expireAfterAccess;
+
+        private boolean recordStats = true;
+
+        public Long getMaximumSize() {
+            return maximumSize;
+        }
+
+        public void setMaximumSize(Long maximumSize) {
+            this.maximumSize = maximumSize;
+        }
+
+        public Long getMaximumWeight() {
+            return maximumWeight;
+        }
+
+        public void setMaximumWeight(Long maximumWeight) {
+            this.maximumWeight = maximumWeight;
+        }
+
+        public Duration getExpireAfterWrite() {
+            return expireAfterWrite;
+        }
+
+        public void setExpireAfterWrite(Duration expireAfterWrite) {
+            this.expireAfterWrite = expireAfterWrite;
+        }
+
+        public Duration getExpireAfterAccess() {
+            return expireAfterAccess;
+        }
+
+        public void setExpireAfterAccess(Duration expireAfterAccess) {
+            this.expireAfterAccess = expireAfterAccess;
+        }
+
+        public boolean isRecordStats() {
+            return recordStats;
+        }
+
+        public void setRecordStats(boolean recordStats) {
+            this.recordStats = recordStats;
+        }
+    }
+}
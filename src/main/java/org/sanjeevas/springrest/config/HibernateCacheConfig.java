@@ -0,0 +1,87 @@
+package org.sanjeevas.springrest.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import java.net.URI;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Hibernate second-level and query cache regions held in an embedded Caffeine JCache provider
+ * Each application context gets its own cache manager with every region created
+ * up front from app.cache.hibernate.regions, so Hibernate fails fast on a region
+ * nobody has bounded instead of creating an unbounded one
+ *
+ * @author Sanjeeva
+ * @version 1.0
+ */
+@Configuration
+@EnableConfigurationProperties(HibernateCacheProperties.class)
+public class HibernateCacheConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(HibernateCacheConfig.class);
+
+    private static final long DEFAULT_MAXIMUM_SIZE = 1000L;
+
+    /**
+     * JCache manager owning the Hibernate cache regions, closed with the context
+     */
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(HibernateCacheProperties properties) {
+        // A URI of its own keeps contexts in the same JVM (tests) from sharing regions
+        URI uri = URI.create("urn:springrest:hibernate:" + UUID.randomUUID());
+        CacheManager cacheManager = new CaffeineCachingProvider()
+                .getCacheManager(uri, HibernateCacheConfig.class.getClassLoader());
+
+        for (Map.Entry<String, CacheSpecProperties.CacheSpec> entry : properties.getRegions().entrySet()) {
+            cacheManager.createCache(entry.getKey(), configuration(entry.getKey(), entry.getValue()));
+            logger.info("Registered Hibernate cache region '{}'", entry.getKey());
+        }
+        return cacheManager;
+    }
+
+    /**
+     * Hand the cache manager to Hibernate's JCache region factory
+     */
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheCustomizer(CacheManager hibernateCacheManager) {
+        return hibernateProperties -> {
+            hibernateProperties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    static CaffeineConfiguration<Object, Object> configuration(String region, CacheSpecProperties.CacheSpec spec) {
+        if (spec.getMaximumWeight() != null) {
+            throw new IllegalStateException("Hibernate cache region '" + region + "' cannot be bounded by weight");
+        }
+        boolean expires = spec.getExpireAfterWrite() != null || spec.getExpireAfterAccess() != null;
+        if (expires && RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME.equals(region)) {
+            // Losing a timestamp would let the query cache serve results older than the last write
+            throw new IllegalStateException("Hibernate cache region '" + region + "' must not expire");
+        }
+
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(
+                spec.getMaximumSize() != null ? spec.getMaximumSize() : DEFAULT_MAXIMUM_SIZE));
+        if (spec.getExpireAfterWrite() != null) {
+            configuration.setExpireAfterWrite(OptionalLong.of(spec.getExpireAfterWrite().toNanos()));
+        }
+        if (spec.getExpireAfterAccess() != null) {
+            configuration.setExpireAfterAccess(OptionalLong.of(spec.getExpireAfterAccess().toNanos()));
+        }
+        configuration.setStatisticsEnabled(spec.isRecordStats());
+        return configuration;
+    }
+}
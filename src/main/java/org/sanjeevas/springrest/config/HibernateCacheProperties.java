@@ -0,0 +1,36 @@
+package org.sanjeevas.springrest.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.Valid;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounds and expiry for Hibernate's second-level cache regions
+ * Bound from app.cache.hibernate.regions.[region].*, using the same settings as
+ * the application caches; maximum-weight is not supported since Hibernate's
+ * cache entries have no useful size estimate
+ *
+ * @author Sanjeeva
+ * @version 1.0
+ */
+@ConfigurationProperties(prefix = "app.cache.hibernate")
+@Validated
+public class HibernateCacheProperties {
+
+    /**
+     * Settings keyed by region name; every region Hibernate uses must be listed
+     */
+    @Valid
+    private Map<String, CacheSpecProperties.CacheSpec> regions = new LinkedHashMap<>();
+
+    public Map<String, CacheSpecProperties.CacheSpec> getRegions() {
+        return regions;
+    }
+
+    public void setRegions(Map<String, CacheSpecProperties.CacheSpec> regions) {
+        this.regions = regions;
+    }
+}
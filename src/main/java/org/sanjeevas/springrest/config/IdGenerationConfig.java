@@ -0,0 +1,23 @@
+package org.sanjeevas.springrest.config;
+
+import org.sanjeevas.springrest.id.IdGenerationProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Passes app.id.* settings to Hibernate, where the employee id generator reads them
+ *
+ * @author Sanjeeva
+ * @version 1.0
+ */
+@Configuration
+@EnableConfigurationProperties(IdGenerationProperties.class)
+public class IdGenerationConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer idGenerationHibernateProperties(IdGenerationProperties properties) {
+        return hibernateProperties -> hibernateProperties.putAll(properties.toHibernateSettings());
+    }
+}
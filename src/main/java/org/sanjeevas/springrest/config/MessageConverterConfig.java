@@ -0,0 +1,68 @@
+package org.sanjeevas.springrest.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.sanjeevas.springrest.dto.EmployeeDto;
+import org.sanjeevas.springrest.dto.EmployeeListResponseDto;
+import org.sanjeevas.springrest.dto.ErrorResponseDto;
+import org.sanjeevas.springrest.web.JacksonProtobufHttpMessageConverter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Binary encodings chosen by the Accept and Content-Type headers, next to JSON
+ * CBOR and Smile carry every DTO; protobuf carries employees, employee lists and
+ * errors. Each is built from the application's Jackson settings, and JSON stays
+ * first so clients that do not ask for a binary encoding still get JSON.
+ *
+ * @author Sanjeeva
+ * @version 1.0
+ */
+@Configuration
+public class MessageConverterConfig implements WebMvcConfigurer {
+
+    /**
+     * Replaces the default CBOR converter, which would use an unconfigured mapper
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(
+                builder.createXmlMapper(false).factory(new CBORFactory()).build());
+    }
+
+    /**
+     * Replaces the default Smile converter, which would use an unconfigured mapper
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(
+                builder.createXmlMapper(false).factory(new SmileFactory()).build());
+    }
+
+    @Bean
+    public JacksonProtobufHttpMessageConverter protobufHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new JacksonProtobufHttpMessageConverter(builder,
+                Set.of(EmployeeDto.class, EmployeeListResponseDto.class, ErrorResponseDto.class));
+    }
+
+    /**
+     * Converter beans without a default counterpart are put first; move protobuf
+     * last so it is only picked when asked for
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        List<HttpMessageConverter<?>> protobuf = converters.stream()
+                .filter(JacksonProtobufHttpMessageConverter.class::isInstance)
+                .toList();
+        converters.removeAll(protobuf);
+        converters.addAll(protobuf);
+    }
+}
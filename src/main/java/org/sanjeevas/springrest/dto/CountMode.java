@@ -0,0 +1,46 @@
+package org.sanjeevas.springrest.dto;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.Locale;
+
+/**
+ * How the total of a paged employee listing is produced
+ *
+ * @author Sanjeeva
+ * @version 1.0
+ */
+@Schema(description = "Source of the total element count", allowableValues = {"exact", "estimated", "none"})
+public enum CountMode {
+
+    /** COUNT(*) run alongside the page query */
+    EXACT,
+
+    /** Maintained counter, at most one resync interval stale for out-of-band writes */
+    ESTIMATED,
+
+    /** No total; only whether another page follows */
+    NONE;
+
+    /**
+     * Parse a request parameter value
+     *
+     * @param value Mode name, case-insensitive
+     * @return Matching mode
+     * @throws IllegalArgumentException if the value is not a known mode
+     */
+    public static CountMode from(String value) {
+        for (CountMode mode : values()) {
+            if (mode.name().equalsIgnoreCase(value)) {
+                return mode;
+            }
+        }
+        throw new IllegalArgumentException("Count mode must be one of exact, estimated, none");
+    }
+
+    @JsonValue
+    public String getValue() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
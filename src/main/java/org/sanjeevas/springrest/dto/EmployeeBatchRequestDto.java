@@ -0,0 +1,38 @@
+package org.sanjeevas.springrest.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Request body for fetching many employees by ID
+ * 
+ * @author Sanjeeva
+ * @version 1.0
+ */
+@Schema(description = "Batch lookup request")
+public class EmployeeBatchRequestDto {
+
+    @NotEmpty(message = "At least one employee id is required")
+    @Size(max = 1000, message = "Too many employee ids (max 1000)")
+    @Schema(description = "Employee IDs to fetch", example = "[1, 2, 3]", requiredMode = Schema.RequiredMode.REQUIRED)
+    private List<@NotNull(message = "Employee id is required") @Positive(message = "Employee id must be positive") Long> ids;
+
+    public EmployeeBatchRequestDto() {}
+
+    public EmployeeBatchRequestDto(List<Long> ids) {
+        this.ids = ids;
+    }
+
+    public List<Long> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<Long> ids) {
+        this.ids = ids;
+    }
+}
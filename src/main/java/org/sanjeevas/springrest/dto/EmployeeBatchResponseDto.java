@@ -0,0 +1,88 @@
+package org.sanjeevas.springrest.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Response for a batch lookup, one result per distinct requested ID in request order
+ * 
+ * @author Sanjeeva
+ * @version 1.0
+ */
+@Schema(description = "Batch lookup response")
+public class EmployeeBatchResponseDto {
+
+    @Schema(description = "Number of distinct IDs requested", example = "3")
+    private int requested;
+
+    @Schema(description = "Number of employees found", example = "2")
+    private int found;
+
+    @Schema(description = "Results in request order")
+    private List<Result> results;
+
+    public EmployeeBatchResponseDto(Map<Long, Optional<EmployeeDto>> employees) {
+        this.results = new ArrayList<>(employees.size());
+        employees.forEach((id, employee) -> results.add(new Result(id, employee.orElse(null))));
+        this.requested = results.size();
+        this.found = (int) results.stream().filter(Result::isFound).count();
+    }
+
+    public int getRequested() {
+        return requested;
+    }
+
+    public void setRequested(int requested) {
+        this.requested = requested;
+    }
+
+    public int getFound() {
+        return found;
+    }
+
+    public void setFound(int found) {
+        this.found = found;
+    }
+
+    public List<Result> getResults() {
+        return results;
+    }
+
+    public void setResults(List<Result> results) {
+        this.results = results;
+    }
+
+    @Schema(description = "Lookup result for a single ID")
+    public static class Result {
+        @Schema(description = "Requested employee ID", example = "1")
+        private Long id;
+
+        @Schema(description = "Whether the employee exists", example = "true")
+        private boolean found;
+
+        @Schema(description = "Employee data, absent when not found")
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private EmployeeDto employee;
+
+        public Result(Long id, EmployeeDto employee) {
+            this.id = id;
+            this.found = employee != null;
+            this.employee = employee;
+        }
+
+        // Getters and setters
+        public Long getId() { return id; }
+        public void setId(Long id) { this.id = id; }
+
+        public boolean isFound() { return found; }
+        public void setFound(boolean found) { this.found = found; }
+
+        public EmployeeDto getEmployee() { return employee; }
+        public void setEmployee(EmployeeDto employee) { this.employee = employee; }
+    }
+}
@@ -1,16 +1,21 @@
 package org.sanjeevas.springrest.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 /**
  * Data Transfer Object for Employee
+ * The version is not part of the JSON body; it travels as the ETag header
+ * Null fields are left out, so fields not selected with ?fields= do not appear
  * 
  * @author Sanjeeva
- * @version 1.0
+ * @version 1.2
  */
 @Schema(description = "Employee Data Transfer Object")
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class EmployeeDto {
 
     @Schema(description = "Employee ID", example = "1", accessMode = Schema.AccessMode.READ_ONLY)
@@ -26,6 +31,10 @@ public class EmployeeDto {
     @Schema(description = "Employee role/position", example = "Software Engineer", requiredMode = Schema.RequiredMode.REQUIRED)
     private String role;
 
+    @JsonIgnore
+    @Schema(hidden = true)
+    private Long version;
+
     // Default constructor
     public EmployeeDto() {}
 
@@ -42,6 +51,12 @@ public class EmployeeDto {
         this.role = role;
     }
 
+    // Full constructor with the row version
+    public EmployeeDto(Long id, String name, String role, Long version) {
+        this(id, name, role);
+        this.version = version;
+    }
+
     // Getters and Setters
     public Long getId() {
         return id;
@@ -67,6 +82,17 @@ public class EmployeeDto {
         this.role = role;
     }
 
+    /**
+     * @return Row version, or null where the DTO was read without it
+     */
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     @Override
     public String toString() {
         return "EmployeeDto{" +
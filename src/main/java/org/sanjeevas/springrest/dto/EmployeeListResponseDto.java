@@ -1,13 +1,16 @@
 package org.sanjeevas.springrest.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Response wrapper for employee list with pagination metadata
+ * The no-argument constructors let clients decode it from any negotiated format
  * 
  * @author Sanjeeva
- * @version 1.0
+ * @version 1.1
  */
 @Schema(description = "Employee list response with HAL-like structure")
 public class EmployeeListResponseDto {
@@ -16,8 +19,19 @@ public class EmployeeListResponseDto {
     private EmbeddedEmployees embedded;
 
     @Schema(description = "Pagination and metadata information")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private PageMetadata page;
 
+    @Schema(description = "Keyset pagination information (cursor mode only)")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private CursorMetadata cursor;
+
+    @Schema(description = "Navigation links keyed by relation, e.g. next")
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private Map<String, String> links;
+
+    public EmployeeListResponseDto() {}
+
     public EmployeeListResponseDto(List<EmployeeDto> employees) {
         this.embedded = new EmbeddedEmployees(employees);
         this.page = new PageMetadata(employees.size(), 0, employees.size());
@@ -28,6 +42,18 @@ public class EmployeeListResponseDto {
         this.page = new PageMetadata(size, page, totalElements);
     }
 
+    public EmployeeListResponseDto(List<EmployeeDto> employees, int page, int size,
+                                   Long totalElements, boolean hasNext, CountMode countMode) {
+        this.embedded = new EmbeddedEmployees(employees);
+        this.page = new PageMetadata(size, page, totalElements, hasNext, countMode);
+    }
+
+    public EmployeeListResponseDto(List<EmployeeDto> employees, int size, String nextCursor, String nextLink) {
+        this.embedded = new EmbeddedEmployees(employees);
+        this.cursor = new CursorMetadata(size, nextCursor);
+        this.links = nextLink != null ? Map.of("next", nextLink) : Map.of();
+    }
+
     public EmbeddedEmployees getEmbedded() {
         return embedded;
     }
@@ -44,11 +70,29 @@ public class EmployeeListResponseDto {
         this.page = page;
     }
 
+    public CursorMetadata getCursor() {
+        return cursor;
+    }
+
+    public void setCursor(CursorMetadata cursor) {
+        this.cursor = cursor;
+    }
+
+    public Map<String, String> getLinks() {
+        return links;
+    }
+
+    public void setLinks(Map<String, String> links) {
+        this.links = links;
+    }
+
     @Schema(description = "Embedded employees collection")
     public static class EmbeddedEmployees {
         @Schema(description = "List of employees")
         private List<EmployeeDto> employeeList;
 
+        public EmbeddedEmployees() {}
+
         public EmbeddedEmployees(List<EmployeeDto> employeeList) {
             this.employeeList = employeeList;
         }
@@ -70,17 +114,33 @@ public class EmployeeListResponseDto {
         @Schema(description = "Current page number (0-based)", example = "0")
         private int number;
 
-        @Schema(description = "Total number of elements", example = "100")
-        private long totalElements;
+        @Schema(description = "Total number of elements, absent when count mode is none", example = "100")
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private Long totalElements;
+
+        @Schema(description = "Total number of pages, absent when count mode is none", example = "10")
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private Integer totalPages;
+
+        @Schema(description = "Whether another page follows", example = "true")
+        private boolean hasNext;
 
-        @Schema(description = "Total number of pages", example = "10")
-        private int totalPages;
+        @Schema(description = "How totalElements was produced", example = "estimated")
+        private CountMode countMode;
+
+        public PageMetadata() {}
 
         public PageMetadata(int size, int number, long totalElements) {
+            this(size, number, totalElements, (long) (number + 1) * size < totalElements, CountMode.EXACT);
+        }
+
+        public PageMetadata(int size, int number, Long totalElements, boolean hasNext, CountMode countMode) {
             this.size = size;
             this.number = number;
             this.totalElements = totalElements;
-            this.totalPages = (int) Math.ceil((double) totalElements / size);
+            this.totalPages = totalElements != null ? (int) Math.ceil((double) totalElements / size) : null;
+            this.hasNext = hasNext;
+            this.countMode = countMode;
         }
 
         // Getters and setters
@@ -90,10 +150,47 @@ public class EmployeeListResponseDto {
         public int getNumber() { return number; }
         public void setNumber(int number) { this.number = number; }
 
-        public long getTotalElements() { return totalElements; }
-        public void setTotalElements(long totalElements) { this.totalElements = totalElements; }
+        public Long getTotalElements() { return totalElements; }
+        public void setTotalElements(Long totalElements) { this.totalElements = totalElements; }
+
+        public Integer getTotalPages() { return totalPages; }
+        public void setTotalPages(Integer totalPages) { this.totalPages = totalPages; }
+
+        public boolean isHasNext() { return hasNext; }
+        public void setHasNext(boolean hasNext) { this.hasNext = hasNext; }
+
+        public CountMode getCountMode() { return countMode; }
+        public void setCountMode(CountMode countMode) { this.countMode = countMode; }
+    }
+
+    @Schema(description = "Keyset pagination metadata")
+    public static class CursorMetadata {
+        @Schema(description = "Requested page size", example = "10")
+        private int size;
+
+        @Schema(description = "Opaque cursor for the next page, absent on the last page")
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private String next;
+
+        @Schema(description = "Whether another page follows", example = "true")
+        private boolean hasNext;
+
+        public CursorMetadata() {}
+
+        public CursorMetadata(int size, String next) {
+            this.size = size;
+            this.next = next;
+            this.hasNext = next != null;
+        }
+
+        // Getters and setters
+        public int getSize() { return size; }
+        public void setSize(int size) { this.size = size; }
+
+        public String getNext() { return next; }
+        public void setNext(String next) { this.next = next; }
 
-        public int getTotalPages() { return totalPages; }
-        public void setTotalPages(int totalPages) { this.totalPages = totalPages; }
+        public boolean isHasNext() { return hasNext; }
+        public void setHasNext(boolean hasNext) { this.hasNext = hasNext; }
     }
 }
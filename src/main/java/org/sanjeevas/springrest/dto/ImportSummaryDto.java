@@ -0,0 +1,94 @@
+package org.sanjeevas.springrest.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of a bulk employee import
+ *
+ * @author Sanjeeva
+ * @version 1.0
+ */
+@Schema(description = "Bulk import summary with per-line errors")
+public class ImportSummaryDto {
+
+    @Schema(description = "Data lines read, excluding blank lines and the CSV header", example = "500000")
+    private long processed;
+
+    @Schema(description = "Employees created", example = "499998")
+    private long imported;
+
+    @Schema(description = "Lines rejected by validation or by the database", example = "2")
+    private long failed;
+
+    @Schema(description = "Per-line errors, capped at the configured maximum")
+    private List<LineError> errors = new ArrayList<>();
+
+    @Schema(description = "Whether more errors occurred than are listed", example = "false")
+    private boolean errorsTruncated;
+
+    public ImportSummaryDto() {}
+
+    public long getProcessed() {
+        return processed;
+    }
+
+    public void setProcessed(long processed) {
+        this.processed = processed;
+    }
+
+    public long getImported() {
+        return imported;
+    }
+
+    public void setImported(long imported) {
+        this.imported = imported;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    public void setFailed(long failed) {
+        this.failed = failed;
+    }
+
+    public List<LineError> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<LineError> errors) {
+        this.errors = errors;
+    }
+
+    public boolean isErrorsTruncated() {
+        return errorsTruncated;
+    }
+
+    public void setErrorsTruncated(boolean errorsTruncated) {
+        this.errorsTruncated = errorsTruncated;
+    }
+
+    @Schema(description = "Rejected input line")
+    public static class LineError {
+        @Schema(description = "1-based line number in the upload", example = "42")
+        private long line;
+
+        @Schema(description = "Reason the line was rejected", example = "Name contains invalid characters")
+        private String message;
+
+        public LineError(long line, String message) {
+            this.line = line;
+            this.message = message;
+        }
+
+        // Getters and setters
+        public long getLine() { return line; }
+        public void setLine(long line) { this.line = line; }
+
+        public String getMessage() { return message; }
+        public void setMessage(String message) { this.message = message; }
+    }
+}
@@ -0,0 +1,78 @@
+package org.sanjeevas.springrest.dto;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.Locale;
+
+/**
+ * Autocomplete suggestion: a distinct employee name or role starting with the typed prefix
+ * 
+ * @author Sanjeeva
+ * @version 1.0
+ */
+@Schema(description = "Autocomplete suggestion")
+public class SuggestionDto {
+
+    @Schema(description = "Field the suggestion comes from", allowableValues = {"name", "role"})
+    public enum Type {
+        NAME,
+        ROLE;
+
+        @JsonValue
+        public String getValue() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    @Schema(description = "Suggested text", example = "John Doe")
+    private String text;
+
+    @Schema(description = "Field the text comes from", example = "name")
+    private Type type;
+
+    @Schema(description = "Number of employees with this text", example = "1")
+    private int count;
+
+    public SuggestionDto() {
+    }
+
+    public SuggestionDto(String text, Type type, int count) {
+        this.text = text;
+        this.type = type;
+        this.count = count;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public void setText(String text) {
+        this.text = text;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public void setType(Type type) {
+        this.type = type;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public void setCount(int count) {
+        this.count = count;
+    }
+
+    @Override
+    public String toString() {
+        return "SuggestionDto{" +
+                "text='" + text + '\'' +
+                ", type=" + type +
+                ", count=" + count +
+                '}';
+    }
+}
@@ -0,0 +1,66 @@
+package org.sanjeevas.springrest.event;
+
+import org.sanjeevas.springrest.dto.EmployeeDto;
+
+import java.util.Objects;
+
+/**
+ * A single committed change to an employee row
+ * Carries the full post-change state so listeners can apply it without a reload
+ *
+ * @author Sanjeeva
+ * @version 1.0
+ */
+public final class EmployeeChangeEvent {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    private final Type type;
+    private final Long id;
+    private final EmployeeDto employee;
+
+    private EmployeeChangeEvent(Type type, Long id, EmployeeDto employee) {
+        this.type = Objects.requireNonNull(type, "type");
+        this.id = Objects.requireNonNull(id, "id");
+        this.employee = employee;
+    }
+
+    public static EmployeeChangeEvent created(EmployeeDto employee) {
+        return new EmployeeChangeEvent(Type.CREATED, employee.getId(), employee);
+    }
+
+    public static EmployeeChangeEvent updated(EmployeeDto employee) {
+        return new EmployeeChangeEvent(Type.UPDATED, employee.getId(), employee);
+    }
+
+    public static EmployeeChangeEvent deleted(Long id) {
+        return new EmployeeChangeEvent(Type.DELETED, id, null);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    /**
+     * @return the post-change state, or null for {@link Type#DELETED}
+     */
+    public EmployeeDto getEmployee() {
+        return employee;
+    }
+
+    @Override
+    public String toString() {
+        return "EmployeeChangeEvent{" +
+                "type=" + type +
+                ", id=" + id +
+                '}';
+    }
+}
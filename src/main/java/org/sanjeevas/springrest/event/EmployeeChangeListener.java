@@ -0,0 +1,38 @@
+package org.sanjeevas.springrest.event;
+
+import org.springframework.core.Ordered;
+
+import java.util.List;
+
+/**
+ * Receives employee changes once their transaction has completed
+ * Implementations are discovered as Spring beans by {@link EmployeeChangePublisher}
+ * and called in {@link #getOrder()} order
+ *
+ * @author Sanjeeva
+ * @version 1.1
+ */
+public interface EmployeeChangeListener extends Ordered {
+
+    /**
+     * Apply changes from a committed transaction, in the order they were flushed
+     *
+     * @param events Committed changes
+     */
+    void onEmployeeChanges(List<EmployeeChangeEvent> events);
+
+    /**
+     * Called when a transaction that wrote employees finished with an unknown
+     * outcome; derived state can no longer be trusted and must be rebuilt
+     */
+    void onOutcomeUnknown();
+
+    /**
+     * Listeners deriving state from employees keep the default; listeners that
+     * announce the change to others run after them
+     */
+    @Override
+    default int getOrder() {
+        return 0;
+    }
+}
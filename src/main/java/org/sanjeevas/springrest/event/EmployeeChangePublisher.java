@@ -0,0 +1,101 @@
+package org.sanjeevas.springrest.event;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collects employee changes made inside a transaction and hands them to every
+ * {@link EmployeeChangeListener} after the transaction completes
+ * Committed changes are applied, rolled back changes are dropped and an unknown
+ * outcome asks listeners to rebuild
+ *
+ * @author Sanjeeva
+ * @version 1.0
+ */
+@Component
+public class EmployeeChangePublisher {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeChangePublisher.class);
+
+    // Resolved lazily: listeners depend on repositories, which are created after this bean
+    private final ObjectProvider<EmployeeChangeListener> listeners;
+
+    public EmployeeChangePublisher(ObjectProvider<EmployeeChangeListener> listeners) {
+        this.listeners = listeners;
+    }
+
+    /**
+     * Record a change; delivered immediately when no transaction is active
+     *
+     * @param event The change to publish
+     */
+    public void publish(EmployeeChangeEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            dispatch(List.of(event));
+            return;
+        }
+
+        PendingChanges pending = (PendingChanges) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingChanges();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.events.add(event);
+    }
+
+    private void dispatch(List<EmployeeChangeEvent> events) {
+        listeners.orderedStream().forEach(listener -> {
+            try {
+                listener.onEmployeeChanges(events);
+            } catch (RuntimeException ex) {
+                logger.error("Employee change listener {} failed, requesting rebuild",
+                            listener.getClass().getSimpleName(), ex);
+                listener.onOutcomeUnknown();
+            }
+        });
+    }
+
+    private void dispatchOutcomeUnknown() {
+        listeners.orderedStream().forEach(EmployeeChangeListener::onOutcomeUnknown);
+    }
+
+    /**
+     * Per-transaction buffer, bound as a transaction resource keyed by the publisher
+     */
+    private final class PendingChanges implements TransactionSynchronization {
+
+        private final List<EmployeeChangeEvent> events = new ArrayList<>();
+
+        @Override
+        public void suspend() {
+            TransactionSynchronizationManager.unbindResource(EmployeeChangePublisher.this);
+        }
+
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(EmployeeChangePublisher.this, this);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(EmployeeChangePublisher.this);
+
+            if (status == STATUS_COMMITTED) {
+                dispatch(events);
+            } else if (status == STATUS_UNKNOWN) {
+                logger.warn("Transaction outcome unknown for {} employee changes", events.size());
+                dispatchOutcomeUnknown();
+            } else {
+                logger.debug("Discarding {} employee changes from rolled back transaction", events.size());
+            }
+        }
+    }
+}
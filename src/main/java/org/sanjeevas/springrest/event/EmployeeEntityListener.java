@@ -0,0 +1,41 @@
+package org.sanjeevas.springrest.event;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.sanjeevas.springrest.Employee;
+import org.sanjeevas.springrest.mapper.EmployeeMapper;
+
+/**
+ * JPA entity listener that turns Employee lifecycle callbacks into change events
+ * Instantiated by Hibernate through Spring's bean container, so every write path,
+ * including direct repository calls, is observed
+ *
+ * @author Sanjeeva
+ * @version 1.0
+ */
+public class EmployeeEntityListener {
+
+    private final EmployeeChangePublisher publisher;
+    private final EmployeeMapper employeeMapper;
+
+    public EmployeeEntityListener(EmployeeChangePublisher publisher, EmployeeMapper employeeMapper) {
+        this.publisher = publisher;
+        this.employeeMapper = employeeMapper;
+    }
+
+    @PostPersist
+    public void onPersist(Employee employee) {
+        publisher.publish(EmployeeChangeEvent.created(employeeMapper.toDto(employee)));
+    }
+
+    @PostUpdate
+    public void onUpdate(Employee employee) {
+        publisher.publish(EmployeeChangeEvent.updated(employeeMapper.toDto(employee)));
+    }
+
+    @PostRemove
+    public void onRemove(Employee employee) {
+        publisher.publish(EmployeeChangeEvent.deleted(employee.getId()));
+    }
+}
@@ -0,0 +1,22 @@
+package org.sanjeevas.springrest.exception;
+
+/**
+ * Custom exception for when a conditional write finds the employee missing or
+ * at a version other than the one the client's If-Match named
+ * 
+ * @author Sanjeeva
+ * @version 1.0
+ */
+public class EmployeePreconditionFailedException extends RuntimeException {
+
+    private final Long employeeId;
+
+    public EmployeePreconditionFailedException(Long id) {
+        super("Employee with id: " + id + " does not exist at the version given in If-Match");
+        this.employeeId = id;
+    }
+
+    public Long getEmployeeId() {
+        return employeeId;
+    }
+}
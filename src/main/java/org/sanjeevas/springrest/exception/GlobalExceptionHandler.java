@@ -3,6 +3,7 @@ package org.sanjeevas.springrest.exception;
 import org.sanjeevas.springrest.dto.ErrorResponseDto;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -16,6 +17,7 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 import org.springframework.web.servlet.NoHandlerFoundException;
 
+import jakarta.persistence.OptimisticLockException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolationException;
 import java.util.List;
@@ -26,7 +28,7 @@ import java.util.UUID;
  * Provides consistent error responses across the application
  * 
  * @author Sanjeeva
- * @version 1.0
+ * @version 1.1
  */
 @RestControllerAdvice
 public class GlobalExceptionHandler {
@@ -56,6 +58,52 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
     }
 
+    /**
+     * Handle EmployeePreconditionFailedException
+     */
+    @ExceptionHandler(EmployeePreconditionFailedException.class)
+    public ResponseEntity<ErrorResponseDto> handleEmployeePreconditionFailedException(
+            EmployeePreconditionFailedException ex, HttpServletRequest request) {
+        
+        String traceId = generateTraceId();
+        logger.warn("Precondition failed - TraceId: {}, Message: {}", traceId, ex.getMessage());
+
+        ErrorResponseDto errorResponse = new ErrorResponseDto(
+                HttpStatus.PRECONDITION_FAILED.value(),
+                "PRECONDITION_FAILED",
+                "Employee has changed",
+                ex.getMessage(),
+                request.getRequestURI(),
+                null,
+                traceId
+        );
+
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(errorResponse);
+    }
+
+    /**
+     * Handle optimistic locking failures: another write changed the row first
+     */
+    @ExceptionHandler({OptimisticLockingFailureException.class, OptimisticLockException.class})
+    public ResponseEntity<ErrorResponseDto> handleOptimisticLockingFailureException(
+            RuntimeException ex, HttpServletRequest request) {
+        
+        String traceId = generateTraceId();
+        logger.warn("Concurrent modification - TraceId: {}, Message: {}", traceId, ex.getMessage());
+
+        ErrorResponseDto errorResponse = new ErrorResponseDto(
+                HttpStatus.CONFLICT.value(),
+                "CONCURRENT_MODIFICATION",
+                "Employee was modified concurrently",
+                "Another request changed the employee first; fetch it again and retry",
+                request.getRequestURI(),
+                null,
+                traceId
+        );
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
     /**
      * Handle EmployeeValidationException
      */
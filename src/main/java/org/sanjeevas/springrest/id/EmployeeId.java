@@ -0,0 +1,21 @@
+package org.sanjeevas.springrest.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks an identifier generated by {@link EmployeeIdGenerator}
+ * The strategy is chosen by configuration rather than fixed in the mapping
+ *
+ * @author Sanjeeva
+ * @version 1.0
+ */
+@IdGeneratorType(EmployeeIdGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface EmployeeId {
+}
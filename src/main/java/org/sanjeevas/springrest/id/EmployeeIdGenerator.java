@@ -0,0 +1,76 @@
+package org.sanjeevas.springrest.id;
+
+import org.hibernate.boot.model.relational.Database;
+import org.hibernate.boot.model.relational.SqlStringGenerationContext;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.id.OptimizableGenerator;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.id.enhanced.StandardOptimizerDescriptor;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Employee id generator assigning ids before insert, so Hibernate can batch inserts
+ * Delegates to a pooled sequence that reserves a block of ids per round trip
+ * (a table on databases without sequences, such as MySQL), or to a node-local
+ * {@link SnowflakeIdGenerator}. Settings come from {@link IdGenerationProperties}.
+ *
+ * @author Sanjeeva
+ * @version 1.0
+ */
+public class EmployeeIdGenerator implements IdentifierGenerator {
+
+    public static final String STRATEGY_SETTING = "app.id.strategy";
+    public static final String ALLOCATION_SIZE_SETTING = "app.id.allocation-size";
+    public static final String NODE_ID_SETTING = "app.id.node-id";
+
+    public static final String SEQUENCE_NAME = "employees_seq";
+
+    private SequenceStyleGenerator sequence;
+    private SnowflakeIdGenerator snowflake;
+
+    @Override
+    public void configure(Type type, Properties parameters, ServiceRegistry serviceRegistry) {
+        Map<String, Object> settings = serviceRegistry.requireService(ConfigurationService.class).getSettings();
+        IdGenerationProperties.Strategy strategy = IdGenerationProperties.Strategy.valueOf(
+                String.valueOf(settings.getOrDefault(STRATEGY_SETTING, IdGenerationProperties.Strategy.POOLED)));
+
+        if (strategy == IdGenerationProperties.Strategy.SNOWFLAKE) {
+            snowflake = new SnowflakeIdGenerator(Long.parseLong(String.valueOf(settings.getOrDefault(NODE_ID_SETTING, 0))));
+            return;
+        }
+
+        Properties sequenceParameters = new Properties();
+        sequenceParameters.putAll(parameters);
+        sequenceParameters.put(SequenceStyleGenerator.SEQUENCE_PARAM, SEQUENCE_NAME);
+        sequenceParameters.put(OptimizableGenerator.INCREMENT_PARAM,
+                String.valueOf(settings.getOrDefault(ALLOCATION_SIZE_SETTING, 50)));
+        sequenceParameters.put(OptimizableGenerator.OPT_PARAM, StandardOptimizerDescriptor.POOLED.getExternalName());
+        sequence = new SequenceStyleGenerator();
+        sequence.configure(type, sequenceParameters, serviceRegistry);
+    }
+
+    @Override
+    public void registerExportables(Database database) {
+        if (sequence != null) {
+            sequence.registerExportables(database);
+        }
+    }
+
+    @Override
+    public void initialize(SqlStringGenerationContext context) {
+        if (sequence != null) {
+            sequence.initialize(context);
+        }
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return snowflake != null ? snowflake.nextId() : sequence.generate(session, object);
+    }
+}
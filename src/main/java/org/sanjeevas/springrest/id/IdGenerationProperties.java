@@ -0,0 +1,81 @@
+package org.sanjeevas.springrest.id;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.util.Map;
+
+/**
+ * Employee id generation settings
+ * Bound from app.id.* and handed to Hibernate for {@link EmployeeIdGenerator}
+ *
+ * @author Sanjeeva
+ * @version 1.0
+ */
+@ConfigurationProperties(prefix = "app.id")
+@Validated
+public class IdGenerationProperties {
+
+    public enum Strategy {
+        /** Database sequence (or table) reserving allocationSize ids per round trip */
+        POOLED,
+        /** Time-ordered node-local ids; every instance needs a distinct nodeId */
+        SNOWFLAKE
+    }
+
+    @NotNull(message = "Id strategy is required")
+    private Strategy strategy = Strategy.POOLED;
+
+    /**
+     * Ids reserved per sequence call; also the sequence increment, so changing
+     * it on an existing database requires altering the sequence accordingly
+     */
+    @Positive(message = "Id allocation size must be positive")
+    private int allocationSize = 50;
+
+    /**
+     * Node id for the snowflake strategy, unique per running instance
+     */
+    @Min(value = 0, message = "Id node id cannot be negative")
+    @Max(value = SnowflakeIdGenerator.MAX_NODE_ID, message = "Id node id too large (max 1023)")
+    private long nodeId;
+
+    /**
+     * @return Settings in the form read by {@link EmployeeIdGenerator}
+     */
+    public Map<String, Object> toHibernateSettings() {
+        return Map.of(
+            EmployeeIdGenerator.STRATEGY_SETTING, strategy.name(),
+            EmployeeIdGenerator.ALLOCATION_SIZE_SETTING, allocationSize,
+            EmployeeIdGenerator.NODE_ID_SETTING, nodeId
+        );
+    }
+
+    public Strategy getStrategy() {
+        return strategy;
+    }
+
+    public void setStrategy(Strategy strategy) {
+        this.strategy = strategy;
+    }
+
+    public int getAllocationSize() {
+        return allocationSize;
+    }
+
+    public void setAllocationSize(int allocationSize) {
+        this.allocationSize = allocationSize;
+    }
+
+    public long getNodeId() {
+        return nodeId;
+    }
+
+    public void setNodeId(long nodeId) {
+        this.nodeId = nodeId;
+    }
+}
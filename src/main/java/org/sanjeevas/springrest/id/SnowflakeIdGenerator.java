@@ -0,0 +1,67 @@
+package org.sanjeevas.springrest.id;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Time-ordered 64-bit identifiers that need no coordination between nodes
+ * Layout: 41 bits of milliseconds since 2024-01-01T00:00:00Z, 10 bits of node id
+ * and a 12-bit per-millisecond sequence, giving 4096 ids per millisecond per node
+ * for roughly 69 years. Uniqueness across instances relies on distinct node ids.
+ *
+ * @author Sanjeeva
+ * @version 1.0
+ */
+public final class SnowflakeIdGenerator {
+
+    static final long EPOCH_MILLIS = 1_704_067_200_000L;
+    static final int NODE_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    public static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private final long nodeId;
+    private final LongSupplier clock;
+    private long lastTimestamp = -1L;
+    private long sequence;
+
+    public SnowflakeIdGenerator(long nodeId) {
+        this(nodeId, System::currentTimeMillis);
+    }
+
+    SnowflakeIdGenerator(long nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("Node id must be between 0 and " + MAX_NODE_ID);
+        }
+        this.nodeId = nodeId;
+        this.clock = clock;
+    }
+
+    /**
+     * @return Next identifier, strictly greater than any previously returned by this instance
+     */
+    public synchronized long nextId() {
+        // A clock that steps backwards keeps issuing from the last timestamp
+        long timestamp = Math.max(clock.getAsLong(), lastTimestamp);
+        if (timestamp == lastTimestamp) {
+            sequence = (sequence + 1) & SEQUENCE_MASK;
+            if (sequence == 0) {
+                timestamp = awaitNextMillis(lastTimestamp);
+            }
+        } else {
+            sequence = 0;
+        }
+        lastTimestamp = timestamp;
+        return ((timestamp - EPOCH_MILLIS) << (NODE_BITS + SEQUENCE_BITS))
+                | (nodeId << SEQUENCE_BITS)
+                | sequence;
+    }
+
+    private long awaitNextMillis(long after) {
+        long timestamp = clock.getAsLong();
+        while (timestamp <= after) {
+            Thread.onSpinWait();
+            timestamp = clock.getAsLong();
+        }
+        return timestamp;
+    }
+}
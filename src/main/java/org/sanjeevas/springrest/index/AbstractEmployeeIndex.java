@@ -0,0 +1,163 @@
+package org.sanjeevas.springrest.index;
+
+import org.sanjeevas.springrest.EmployeeRepository;
+import org.sanjeevas.springrest.dto.EmployeeDto;
+import org.sanjeevas.springrest.event.EmployeeChangeEvent;
+import org.sanjeevas.springrest.event.EmployeeChangeListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Lifecycle shared by the in-memory employee indexes
+ * Built from the database once at startup and kept current by committed
+ * employee changes. Until a build completes, and whenever a change could not be
+ * applied, {@link #isReady()} is false so callers fall back to the database.
+ *
+ * @author Sanjeeva
+ * @version 1.0
+ */
+public abstract class AbstractEmployeeIndex implements EmployeeChangeListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(AbstractEmployeeIndex.class);
+
+    private final String indexName;
+    private final EmployeeRepository employeeRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final AsyncTaskExecutor rebuildExecutor;
+    private final boolean enabled;
+
+    private volatile boolean ready;
+
+    // Ids changed while a build is streaming, whose streamed rows are stale
+    private final Set<Long> changedDuringBuild = ConcurrentHashMap.newKeySet();
+
+    protected AbstractEmployeeIndex(String indexName, EmployeeRepository employeeRepository,
+                                    PlatformTransactionManager transactionManager,
+                                    AsyncTaskExecutor rebuildExecutor, boolean enabled) {
+        this.indexName = indexName;
+        this.employeeRepository = employeeRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.rebuildExecutor = rebuildExecutor;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Start over with an empty index that receives all changes from now on
+     */
+    protected abstract void reset();
+
+    /**
+     * Add an employee streamed during a build
+     * Rows of employees changed since the build started are not passed in
+     *
+     * @param employee Streamed employee
+     */
+    protected abstract void load(EmployeeSearchTerms employee);
+
+    /**
+     * Index the committed state of a created or updated employee
+     *
+     * @param employee Post-change state
+     */
+    protected abstract void put(EmployeeDto employee);
+
+    /**
+     * Forget a deleted employee
+     *
+     * @param id Employee ID
+     */
+    protected abstract void remove(Long id);
+
+    /**
+     * @return Short description of the index contents for logging
+     */
+    protected abstract String describe();
+
+    /**
+     * @return true once built and while every committed change has been applied
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Build once the application, including any data loaders, has started
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (enabled) {
+            build();
+        } else {
+            logger.info("{} disabled, searches use the database", indexName);
+        }
+    }
+
+    /**
+     * Replace the index with one freshly loaded from the database
+     * Changes committed while loading are applied to the new index as they arrive
+     * and the streamed rows of those employees are skipped
+     */
+    public synchronized void build() {
+        ready = false;
+        reset();
+        changedDuringBuild.clear();
+
+        long start = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<EmployeeSearchTerms> employees = employeeRepository.streamSearchTermsBy()) {
+                employees.forEach(employee -> {
+                    if (!changedDuringBuild.contains(employee.id())) {
+                        load(employee);
+                    }
+                });
+            }
+        });
+        changedDuringBuild.clear();
+        ready = true;
+        logger.info("{} built: {} in {} ms", indexName, describe(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @Override
+    public void onEmployeeChanges(List<EmployeeChangeEvent> events) {
+        if (!enabled) {
+            return;
+        }
+        for (EmployeeChangeEvent event : events) {
+            if (!ready) {
+                changedDuringBuild.add(event.getId());
+            }
+            if (event.getType() == EmployeeChangeEvent.Type.DELETED) {
+                remove(event.getId());
+            } else {
+                put(event.getEmployee());
+            }
+        }
+    }
+
+    @Override
+    public void onOutcomeUnknown() {
+        if (!enabled) {
+            return;
+        }
+        ready = false;
+        logger.warn("{} may be stale, rebuilding", indexName);
+        rebuildExecutor.execute(() -> {
+            try {
+                build();
+            } catch (RuntimeException ex) {
+                logger.error("{} rebuild failed, searches use the database", indexName, ex);
+            }
+        });
+    }
+}
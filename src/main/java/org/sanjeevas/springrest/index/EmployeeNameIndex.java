@@ -0,0 +1,161 @@
+package org.sanjeevas.springrest.index;
+
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
+import org.sanjeevas.springrest.EmployeeRepository;
+import org.sanjeevas.springrest.dto.EmployeeDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Optional;
+
+/**
+ * Trigram index over employee names serving name "contains" searches, with
+ * a symmetric-delete word index alongside it serving typo-tolerant searches
+ * The word index needs the name being replaced to unindex its words, which the
+ * trigram index holds, so both are updated together under one lock
+ *
+ * @author Sanjeeva
+ * @version 1.3
+ */
+@Component
+public class EmployeeNameIndex extends AbstractEmployeeIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeNameIndex.class);
+
+    // Matches above max(BROAD_MATCH_MIN, size / BROAD_MATCH_DIVISOR) are cheaper to scan for
+    private static final int BROAD_MATCH_MIN = 1000;
+    private static final int BROAD_MATCH_DIVISOR = 32;
+
+    private volatile TrigramIndex index = new TrigramIndex();
+    private volatile FuzzyTokenIndex fuzzyIndex;
+
+    // Pairs each trigram update with its word index update; build() holds the monitor
+    private final Object updateLock = new Object();
+
+    private final boolean fuzzyEnabled;
+    private final int maxEdits;
+
+    public EmployeeNameIndex(EmployeeRepository employeeRepository, PlatformTransactionManager transactionManager,
+                             @Qualifier("applicationTaskExecutor") AsyncTaskExecutor rebuildExecutor,
+                             SearchProperties properties) {
+        super("Employee name index", employeeRepository, transactionManager, rebuildExecutor,
+              properties.getNameIndex().isEnabled());
+        this.fuzzyEnabled = properties.getFuzzy().isEnabled();
+        this.maxEdits = properties.getFuzzy().getMaxEdits();
+        this.fuzzyIndex = fuzzyEnabled ? new FuzzyTokenIndex(maxEdits) : null;
+    }
+
+    /**
+     * Find the ids of employees whose name contains the query, ignoring case
+     * Loading a match by id costs about thirty times scanning a row, so a query
+     * matching more than a small share of all employees is left to the database
+     *
+     * @param name Substring to look for
+     * @return Matching ids in ascending order, or empty if the index is not ready
+     *         or the query is too broad to beat a table scan
+     */
+    public Optional<long[]> search(String name) {
+        if (!isReady()) {
+            return Optional.empty();
+        }
+        TrigramIndex current = index;
+        long[] ids = current.search(name);
+        if (ids.length > Math.max(BROAD_MATCH_MIN, current.size() / BROAD_MATCH_DIVISOR)) {
+            logger.debug("Name search matched {} of {} employees, deferring to the database",
+                        ids.length, current.size());
+            return Optional.empty();
+        }
+        return Optional.of(ids);
+    }
+
+    /**
+     * Find the ids among a set of employees whose name contains the query, ignoring case
+     * The database has to visit every employee in the set as well, so no
+     * query is too broad here
+     *
+     * @param name Substring to look for
+     * @param within Ids of the employees to search, typically those passing another filter
+     * @return Matching ids in ascending order, or empty if the index is not ready
+     */
+    public Optional<long[]> search(String name, Roaring64NavigableMap within) {
+        if (!isReady()) {
+            return Optional.empty();
+        }
+        return Optional.of(index.search(name, within));
+    }
+
+    /**
+     * Find the ids of employees whose name holds a word close to each query word
+     *
+     * @param name Words to look for, with typos
+     * @param edits Largest edit distance per word
+     * @param limit Maximum number of ids to return
+     * @param within Ids of the employees to search, or null to search all
+     * @return Matching ids, fewest edits first, or empty if typo-tolerant search
+     *         is disabled or the index is not ready
+     */
+    public Optional<long[]> searchFuzzy(String name, int edits, int limit, Roaring64NavigableMap within) {
+        FuzzyTokenIndex current = fuzzyIndex;
+        if (!isReady() || current == null) {
+            return Optional.empty();
+        }
+        return Optional.of(current.search(name, edits, limit, within));
+    }
+
+    /**
+     * @return Largest edit distance typo-tolerant searches are indexed for
+     */
+    public int getMaxEdits() {
+        return maxEdits;
+    }
+
+    @Override
+    protected void reset() {
+        synchronized (updateLock) {
+            index = new TrigramIndex();
+            fuzzyIndex = fuzzyEnabled ? new FuzzyTokenIndex(maxEdits) : null;
+        }
+    }
+
+    @Override
+    protected void load(EmployeeSearchTerms employee) {
+        synchronized (updateLock) {
+            if (index.putIfAbsent(employee.id(), employee.name()) && fuzzyIndex != null) {
+                fuzzyIndex.add(employee.id(), employee.name());
+            }
+        }
+    }
+
+    @Override
+    protected void put(EmployeeDto employee) {
+        synchronized (updateLock) {
+            String previous = index.put(employee.getId(), employee.getName());
+            if (fuzzyIndex != null) {
+                fuzzyIndex.replace(employee.getId(), previous, employee.getName());
+            }
+        }
+    }
+
+    @Override
+    protected void remove(Long id) {
+        synchronized (updateLock) {
+            String previous = index.remove(id);
+            if (fuzzyIndex != null) {
+                fuzzyIndex.remove(id, previous);
+            }
+        }
+    }
+
+    @Override
+    protected String describe() {
+        TrigramIndex current = index;
+        FuzzyTokenIndex currentFuzzy = fuzzyIndex;
+        return current.size() + " employees, " + current.gramCount() + " trigrams"
+                + (currentFuzzy == null ? "" : ", " + currentFuzzy.wordCount() + " words, "
+                + currentFuzzy.deleteCount() + " word deletes");
+    }
+}
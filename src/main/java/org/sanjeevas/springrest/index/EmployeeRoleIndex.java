@@ -0,0 +1,86 @@
+package org.sanjeevas.springrest.index;
+
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
+import org.sanjeevas.springrest.EmployeeRepository;
+import org.sanjeevas.springrest.dto.EmployeeDto;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Optional;
+
+/**
+ * Role dictionary with one id bitmap per role serving role filters and counts
+ *
+ * @author Sanjeeva
+ * @version 1.0
+ */
+@Component
+public class EmployeeRoleIndex extends AbstractEmployeeIndex {
+
+    private volatile RoleBitmapIndex index = new RoleBitmapIndex();
+
+    public EmployeeRoleIndex(EmployeeRepository employeeRepository, PlatformTransactionManager transactionManager,
+                             @Qualifier("applicationTaskExecutor") AsyncTaskExecutor rebuildExecutor,
+                             SearchProperties properties) {
+        super("Employee role index", employeeRepository, transactionManager, rebuildExecutor,
+              properties.getRoleIndex().isEnabled());
+    }
+
+    /**
+     * Find the ids of employees holding a role, ignoring case
+     *
+     * @param role Role to look up
+     * @return Matching ids in ascending order, or empty if the index is not ready
+     */
+    public Optional<long[]> ids(String role) {
+        return isReady() ? Optional.of(index.ids(role)) : Optional.empty();
+    }
+
+    /**
+     * Count the employees holding a role, ignoring case
+     *
+     * @param role Role to count
+     * @return Number of employees, or empty if the index is not ready
+     */
+    public Optional<Long> count(String role) {
+        return isReady() ? Optional.of(index.count(role)) : Optional.empty();
+    }
+
+    /**
+     * Snapshot the ids of employees holding a role, for intersecting with other filters
+     *
+     * @param role Role to look up
+     * @return Matching ids, or empty if the index is not ready
+     */
+    public Optional<Roaring64NavigableMap> members(String role) {
+        return isReady() ? Optional.of(index.members(role)) : Optional.empty();
+    }
+
+    @Override
+    protected void reset() {
+        index = new RoleBitmapIndex();
+    }
+
+    @Override
+    protected void load(EmployeeSearchTerms employee) {
+        index.add(employee.id(), employee.role());
+    }
+
+    @Override
+    protected void put(EmployeeDto employee) {
+        index.put(employee.getId(), employee.getRole());
+    }
+
+    @Override
+    protected void remove(Long id) {
+        index.remove(id);
+    }
+
+    @Override
+    protected String describe() {
+        RoleBitmapIndex current = index;
+        return current.size() + " employees, " + current.roleCount() + " roles";
+    }
+}
@@ -0,0 +1,13 @@
+package org.sanjeevas.springrest.index;
+
+/**
+ * Searchable fields of an employee, as streamed to build the in-memory indexes
+ *
+ * @param id Employee ID
+ * @param name Employee name
+ * @param role Employee role
+ * @author Sanjeeva
+ * @version 1.0
+ */
+public record EmployeeSearchTerms(Long id, String name, String role) {
+}
@@ -0,0 +1,69 @@
+package org.sanjeevas.springrest.index;
+
+import org.sanjeevas.springrest.EmployeeRepository;
+import org.sanjeevas.springrest.dto.EmployeeDto;
+import org.sanjeevas.springrest.dto.SuggestionDto;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Prefix dictionary of employee names and roles serving autocomplete
+ *
+ * @author Sanjeeva
+ * @version 1.1
+ */
+@Component
+public class EmployeeSuggestionIndex extends AbstractEmployeeIndex {
+
+    private volatile SuggestionIndex index = new SuggestionIndex();
+
+    public EmployeeSuggestionIndex(EmployeeRepository employeeRepository,
+                                   PlatformTransactionManager transactionManager,
+                                   @Qualifier("applicationTaskExecutor") AsyncTaskExecutor rebuildExecutor,
+                                   SearchProperties properties) {
+        super("Employee suggestion index", employeeRepository, transactionManager, rebuildExecutor,
+              properties.getSuggest().isEnabled());
+    }
+
+    /**
+     * Suggest names and roles starting with the prefix
+     *
+     * @param prefix Typed prefix
+     * @param limit Maximum number of suggestions
+     * @return Suggestions in alphabetical order, or empty while the index is not ready
+     */
+    public Optional<List<SuggestionDto>> suggest(String prefix, int limit) {
+        return isReady() ? Optional.of(index.suggest(prefix, limit)) : Optional.empty();
+    }
+
+    @Override
+    protected void reset() {
+        index = new SuggestionIndex();
+    }
+
+    @Override
+    protected void load(EmployeeSearchTerms employee) {
+        index.putIfAbsent(employee.id(), employee.name(), employee.role());
+    }
+
+    @Override
+    protected void put(EmployeeDto employee) {
+        index.put(employee.getId(), employee.getName(), employee.getRole());
+    }
+
+    @Override
+    protected void remove(Long id) {
+        index.remove(id);
+    }
+
+    @Override
+    protected String describe() {
+        SuggestionIndex current = index;
+        return current.size() + " employees, " + current.termCount() + " distinct names and roles";
+    }
+}
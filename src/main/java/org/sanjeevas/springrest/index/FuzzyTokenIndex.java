@@ -0,0 +1,561 @@
+package org.sanjeevas.springrest.index;
+
+import org.roaringbitmap.longlong.LongIterator;
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Symmetric-delete index answering typo-tolerant word searches
+ * Texts are split into lower-cased words. Each distinct word is stored once with
+ * the ids whose text holds it, and every string obtained by deleting up to
+ * maxEdits characters from its first {@value #PREFIX_LENGTH} characters points
+ * back to it. Two words within maxEdits edits share such a
+ * delete, so a query only verifies the few words its own deletes reach instead
+ * of computing an edit distance against every word.
+ * Most distinct words in a large name list are held by a single id, so a word
+ * keeps its one id inline and only gets a compressed bitmap once shared. Words
+ * no text holds any more stay in the dictionary until the index is rebuilt.
+ *
+ * @author Sanjeeva
+ * @version 1.0
+ */
+public final class FuzzyTokenIndex {
+
+    // Only the start of longer words feeds the deletes, bounding their number per word
+    static final int PREFIX_LENGTH = 7;
+
+    // Each query word multiplies the distance combinations ranked
+    public static final int MAX_QUERY_WORDS = 4;
+
+    private final int maxEdits;
+
+    // Marks a word held by no id, or by several ids kept in shared
+    private static final long NO_ID = Long.MIN_VALUE;
+
+    private final List<String> words = new ArrayList<>();
+    private long[] singles = new long[1 << 10];
+    private Roaring64NavigableMap[] shared = new Roaring64NavigableMap[1 << 10];
+    private final DeleteTable deletes = new DeleteTable();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Lock readLock = lock.readLock();
+    private final Lock writeLock = lock.writeLock();
+
+    /**
+     * @param maxEdits Largest edit distance searches can ask for
+     */
+    public FuzzyTokenIndex(int maxEdits) {
+        if (maxEdits < 0 || maxEdits > DeleteTable.DEPTH_MASK) {
+            throw new IllegalArgumentException("maxEdits must be between 0 and " + DeleteTable.DEPTH_MASK);
+        }
+        this.maxEdits = maxEdits;
+    }
+
+    /**
+     * @return Largest edit distance searches can ask for
+     */
+    public int getMaxEdits() {
+        return maxEdits;
+    }
+
+    /**
+     * Index the words of a text for an id
+     *
+     * @param id Identifier to return from searches
+     * @param text Text to index
+     */
+    public void add(long id, String text) {
+        writeLock.lock();
+        try {
+            addWords(id, text);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Replace the words indexed for an id
+     *
+     * @param id Identifier to return from searches
+     * @param previous Text previously indexed for the id, or null
+     * @param text Text to index
+     */
+    public void replace(long id, String previous, String text) {
+        writeLock.lock();
+        try {
+            removeWords(id, previous);
+            addWords(id, text);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Remove the words indexed for an id
+     *
+     * @param id Identifier to remove
+     * @param previous Text previously indexed for the id, or null
+     */
+    public void remove(long id, String previous) {
+        writeLock.lock();
+        try {
+            removeWords(id, previous);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Find the ids whose text holds, for every word of the query, a word within
+     * that word's edit budget, ranked by the summed distances and then by id
+     *
+     * @param query Words to look for, in any order
+     * @param edits Largest edit distance per word, capped by the index's maxEdits
+     *              and by {@link #editsFor(String, int)}
+     * @param limit Maximum number of ids to return
+     * @param within Ids to restrict the search to, or null to search all ids
+     * @return Matching ids, best first
+     */
+    public long[] search(String query, int edits, int limit, Roaring64NavigableMap within) {
+        String[] queryWords = tokenize(query);
+        if (queryWords.length == 0 || queryWords.length > MAX_QUERY_WORDS) {
+            return new long[0];
+        }
+        readLock.lock();
+        try {
+            // levels[i][d]: ids holding a word at distance d from query word i
+            Roaring64NavigableMap[][] levels = new Roaring64NavigableMap[queryWords.length][];
+            int worst = 0;
+            for (int i = 0; i < queryWords.length; i++) {
+                int wordEdits = editsFor(queryWords[i], Math.min(edits, maxEdits));
+                levels[i] = matchLevels(queryWords[i], wordEdits, within);
+                if (levels[i] == null) {
+                    return new long[0];
+                }
+                worst += wordEdits;
+            }
+            return rank(levels, worst, limit);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Score a text against a query the way {@link #search} ranks it
+     *
+     * @param query Words to look for
+     * @param text Text to score
+     * @param edits Largest edit distance per word
+     * @return Summed distance of the closest word for each query word, or -1 if
+     *         some query word has no word within its edit budget
+     */
+    public static int score(String query, String text, int edits) {
+        String[] textWords = tokenize(text);
+        int total = 0;
+        for (String queryWord : tokenize(query)) {
+            int wordEdits = editsFor(queryWord, edits);
+            int best = wordEdits + 1;
+            for (String textWord : textWords) {
+                best = Math.min(best, distance(queryWord, textWord, wordEdits));
+            }
+            if (best > wordEdits) {
+                return -1;
+            }
+            total += best;
+        }
+        return total;
+    }
+
+    /**
+     * Edit budget of a query word: short words tolerate fewer typos, as every
+     * short word is a couple of edits away from many others
+     *
+     * @param word Lower-cased query word
+     * @param edits Requested edit distance
+     * @return 0 for words up to 2 characters, at most 1 up to 5, otherwise edits
+     */
+    public static int editsFor(String word, int edits) {
+        if (word.length() <= 2) {
+            return 0;
+        }
+        return word.length() <= 5 ? Math.min(edits, 1) : edits;
+    }
+
+    /**
+     * @return Number of distinct words held by at least one id
+     */
+    public int wordCount() {
+        readLock.lock();
+        try {
+            int count = 0;
+            for (int wordId = 0; wordId < words.size(); wordId++) {
+                if (isHeld(wordId)) {
+                    count++;
+                }
+            }
+            return count;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * @return Number of delete entries pointing at words
+     */
+    public int deleteCount() {
+        readLock.lock();
+        try {
+            return deletes.size();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    private Roaring64NavigableMap[] matchLevels(String queryWord, int edits, Roaring64NavigableMap within) {
+        Roaring64NavigableMap[] levels = new Roaring64NavigableMap[edits + 1];
+        boolean any = false;
+        BitSet checked = new BitSet(words.size());
+        for (Map.Entry<String, Integer> delete : deletesOf(queryWord, edits).entrySet()) {
+            for (int entry = deletes.head(delete.getKey().hashCode()); entry != -1; entry = deletes.next(entry)) {
+                int value = deletes.value(entry);
+                if ((value & DeleteTable.DEPTH_MASK) > edits) {
+                    continue;
+                }
+                int wordId = value >>> DeleteTable.DEPTH_BITS;
+                if (checked.get(wordId) || !isHeld(wordId)) {
+                    continue;
+                }
+                checked.set(wordId);
+                int distance = distance(queryWord, words.get(wordId), edits);
+                if (distance > edits) {
+                    continue;
+                }
+                if (levels[distance] == null) {
+                    levels[distance] = new Roaring64NavigableMap();
+                }
+                addHolders(wordId, levels[distance]);
+                any = true;
+            }
+        }
+        if (!any) {
+            return null;
+        }
+        for (int d = 0; d <= edits; d++) {
+            if (levels[d] == null) {
+                levels[d] = new Roaring64NavigableMap();
+            } else if (within != null) {
+                levels[d].and(within);
+            }
+        }
+        return levels;
+    }
+
+    /**
+     * Collect ids in order of increasing summed distance, then id. An id first
+     * appears under the combination of its closest words, as every other
+     * combination it belongs to sums higher.
+     */
+    private static long[] rank(Roaring64NavigableMap[][] levels, int worst, int limit) {
+        long[] ranked = new long[limit];
+        int count = 0;
+        Roaring64NavigableMap seen = new Roaring64NavigableMap();
+        for (int total = 0; total <= worst && count < limit; total++) {
+            Roaring64NavigableMap matches = new Roaring64NavigableMap();
+            for (int[] combination : combinations(levels, total)) {
+                Roaring64NavigableMap combined = new Roaring64NavigableMap();
+                combined.or(levels[0][combination[0]]);
+                for (int i = 1; i < combination.length && !combined.isEmpty(); i++) {
+                    combined.and(levels[i][combination[i]]);
+                }
+                matches.or(combined);
+            }
+            matches.andNot(seen);
+            seen.or(matches);
+            LongIterator iterator = matches.getLongIterator();
+            while (iterator.hasNext() && count < limit) {
+                ranked[count++] = iterator.next();
+            }
+        }
+        return count == limit ? ranked : Arrays.copyOf(ranked, count);
+    }
+
+    private static List<int[]> combinations(Roaring64NavigableMap[][] levels, int total) {
+        List<int[]> combinations = new ArrayList<>();
+        collect(levels, total, 0, new int[levels.length], combinations);
+        return combinations;
+    }
+
+    private static void collect(Roaring64NavigableMap[][] levels, int remaining, int word, int[] current,
+                                List<int[]> combinations) {
+        if (word == levels.length) {
+            if (remaining == 0) {
+                combinations.add(current.clone());
+            }
+            return;
+        }
+        for (int d = 0; d < levels[word].length && d <= remaining; d++) {
+            if (!levels[word][d].isEmpty()) {
+                current[word] = d;
+                collect(levels, remaining - d, word + 1, current, combinations);
+            }
+        }
+    }
+
+    private void addWords(long id, String text) {
+        for (String word : tokenize(text)) {
+            int wordId = wordIdOf(word);
+            if (wordId == -1) {
+                wordId = newWord(word);
+            }
+            long single = singles[wordId];
+            if (shared[wordId] != null) {
+                shared[wordId].addLong(id);
+            } else if (single == NO_ID) {
+                singles[wordId] = id;
+            } else if (single != id) {
+                shared[wordId] = Roaring64NavigableMap.bitmapOf(single, id);
+                singles[wordId] = NO_ID;
+            }
+        }
+    }
+
+    private void removeWords(long id, String text) {
+        if (text == null) {
+            return;
+        }
+        for (String word : tokenize(text)) {
+            int wordId = wordIdOf(word);
+            if (wordId == -1) {
+                continue;
+            }
+            if (shared[wordId] != null) {
+                shared[wordId].removeLong(id);
+            } else if (singles[wordId] == id) {
+                singles[wordId] = NO_ID;
+            }
+        }
+    }
+
+    private int newWord(String word) {
+        int wordId = words.size();
+        words.add(word);
+        if (wordId == singles.length) {
+            singles = Arrays.copyOf(singles, wordId * 2);
+            shared = Arrays.copyOf(shared, wordId * 2);
+        }
+        singles[wordId] = NO_ID;
+        for (Map.Entry<String, Integer> delete : deletesOf(word, maxEdits).entrySet()) {
+            deletes.add(delete.getKey().hashCode(), (wordId << DeleteTable.DEPTH_BITS) | delete.getValue());
+        }
+        return wordId;
+    }
+
+    /**
+     * Look a word up through its undeleted prefix entry, shared only by words
+     * with the same prefix
+     */
+    private int wordIdOf(String word) {
+        String prefix = word.length() > PREFIX_LENGTH ? word.substring(0, PREFIX_LENGTH) : word;
+        for (int entry = deletes.head(prefix.hashCode()); entry != -1; entry = deletes.next(entry)) {
+            int value = deletes.value(entry);
+            int wordId = value >>> DeleteTable.DEPTH_BITS;
+            if ((value & DeleteTable.DEPTH_MASK) == 0 && words.get(wordId).equals(word)) {
+                return wordId;
+            }
+        }
+        return -1;
+    }
+
+    private boolean isHeld(int wordId) {
+        return singles[wordId] != NO_ID || (shared[wordId] != null && !shared[wordId].isEmpty());
+    }
+
+    private void addHolders(int wordId, Roaring64NavigableMap target) {
+        if (shared[wordId] != null) {
+            target.or(shared[wordId]);
+        } else if (singles[wordId] != NO_ID) {
+            target.addLong(singles[wordId]);
+        }
+    }
+
+    /**
+     * Strings reachable by deleting up to edits characters from the word's
+     * prefix, each with the fewest deletions reaching it
+     */
+    static Map<String, Integer> deletesOf(String word, int edits) {
+        String prefix = word.length() > PREFIX_LENGTH ? word.substring(0, PREFIX_LENGTH) : word;
+        Map<String, Integer> deletes = new HashMap<>();
+        deletes.put(prefix, 0);
+        List<String> frontier = List.of(prefix);
+        for (int depth = 1; depth <= edits; depth++) {
+            List<String> next = new ArrayList<>();
+            for (String current : frontier) {
+                for (int i = 0; i < current.length(); i++) {
+                    String delete = current.substring(0, i) + current.substring(i + 1);
+                    if (deletes.putIfAbsent(delete, depth) == null) {
+                        next.add(delete);
+                    }
+                }
+            }
+            frontier = next;
+        }
+        return deletes;
+    }
+
+    /**
+     * Distinct lower-cased words of the text, split on anything but letters and digits
+     *
+     * @param text Text to split, may be null
+     * @return Words in order of first occurrence
+     */
+    public static String[] tokenize(String text) {
+        if (text == null) {
+            return new String[0];
+        }
+        Set<String> tokens = new LinkedHashSet<>();
+        String lower = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= lower.length(); i++) {
+            boolean wordChar = i < lower.length() && Character.isLetterOrDigit(lower.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                tokens.add(lower.substring(start, i));
+                start = -1;
+            }
+        }
+        return tokens.toArray(new String[0]);
+    }
+
+    /**
+     * Optimal string alignment distance (Levenshtein plus adjacent transpositions)
+     *
+     * @return The distance, or max + 1 once it is known to exceed max
+     */
+    static int distance(String a, String b, int max) {
+        if (Math.abs(a.length() - b.length()) > max) {
+            return max + 1;
+        }
+        int[] previous2 = new int[b.length() + 1];
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                int value = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    value = Math.min(value, previous2[j - 2] + 1);
+                }
+                current[j] = value;
+                rowMin = Math.min(rowMin, value);
+            }
+            if (rowMin > max) {
+                return max + 1;
+            }
+            int[] recycled = previous2;
+            previous2 = previous;
+            previous = current;
+            current = recycled;
+        }
+        return Math.min(previous[b.length()], max + 1);
+    }
+
+    /**
+     * Multimap from delete hashes to packed (word id, deletions) entries, kept in
+     * primitive arrays: one entry per delete of every word adds up to millions.
+     * Hash collisions only add candidates, which verification rejects.
+     */
+    static final class DeleteTable {
+
+        static final int DEPTH_BITS = 2;
+        static final int DEPTH_MASK = (1 << DEPTH_BITS) - 1;
+
+        private int[] keys = new int[1 << 10];
+        private int[] heads = filled(1 << 10);
+        private int keyCount;
+
+        private int[] values = new int[1 << 10];
+        private int[] nexts = new int[1 << 10];
+        private int size;
+
+        void add(int key, int value) {
+            if ((keyCount + 1) * 2 > keys.length) {
+                rehash();
+            }
+            int slot = slotOf(key);
+            if (heads[slot] == -1) {
+                keys[slot] = key;
+                keyCount++;
+            }
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size + (size >> 1));
+                nexts = Arrays.copyOf(nexts, size + (size >> 1));
+            }
+            values[size] = value;
+            nexts[size] = heads[slot];
+            heads[slot] = size++;
+        }
+
+        int head(int key) {
+            return heads[slotOf(key)];
+        }
+
+        int next(int entry) {
+            return nexts[entry];
+        }
+
+        int value(int entry) {
+            return values[entry];
+        }
+
+        int size() {
+            return size;
+        }
+
+        private int slotOf(int key) {
+            int mask = keys.length - 1;
+            int slot = (key ^ key >>> 16) & mask;
+            while (heads[slot] != -1 && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        private void rehash() {
+            int[] oldKeys = keys;
+            int[] oldHeads = heads;
+            keys = new int[oldKeys.length * 2];
+            heads = filled(oldKeys.length * 2);
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldHeads[i] != -1) {
+                    int slot = slotOf(oldKeys[i]);
+                    keys[slot] = oldKeys[i];
+                    heads[slot] = oldHeads[i];
+                }
+            }
+        }
+
+        private static int[] filled(int length) {
+            int[] array = new int[length];
+            Arrays.fill(array, -1);
+            return array;
+        }
+    }
+}
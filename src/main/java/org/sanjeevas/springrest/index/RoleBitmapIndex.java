@@ -0,0 +1,211 @@
+package org.sanjeevas.springrest.index;
+
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
+import org.sanjeevas.springrest.Employee;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Dictionary-encoded bitmap index over a low-cardinality role value
+ * Each distinct normalized role is assigned an int code on first sight, and each
+ * code owns a compressed bitmap of the ids holding that role. Codes are never
+ * reclaimed, as roles number in the hundreds while ids number in the millions.
+ * An id's current role is found by probing the bitmaps, so no per-id entry is kept.
+ *
+ * @author Sanjeeva
+ * @version 1.0
+ */
+public final class RoleBitmapIndex {
+
+    private final Map<String, Integer> codes = new HashMap<>();
+    private final List<String> roles = new ArrayList<>();
+    private final List<Roaring64NavigableMap> members = new ArrayList<>();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Lock readLock = lock.readLock();
+    private final Lock writeLock = lock.writeLock();
+
+    /**
+     * Index the role of an id, moving it out of any role it previously held
+     *
+     * @param id Identifier to return from lookups
+     * @param role Role to index
+     */
+    public void put(long id, String role) {
+        writeLock.lock();
+        try {
+            removeMember(id);
+            addMember(id, role);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Index the role of an id known not to be indexed yet
+     * Skips the probe for a previous role, for bulk loading
+     *
+     * @param id Identifier to return from lookups
+     * @param role Role to index
+     */
+    public void add(long id, String role) {
+        writeLock.lock();
+        try {
+            addMember(id, role);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Remove an id from the index
+     *
+     * @param id Identifier to remove
+     */
+    public void remove(long id) {
+        writeLock.lock();
+        try {
+            removeMember(id);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Count the ids holding a role, ignoring case and surrounding whitespace
+     *
+     * @param role Role to count
+     * @return Number of ids holding the role
+     */
+    public long count(String role) {
+        readLock.lock();
+        try {
+            Roaring64NavigableMap bitmap = bitmapOf(role);
+            return bitmap == null ? 0 : bitmap.getLongCardinality();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Find the ids holding a role, ignoring case and surrounding whitespace
+     *
+     * @param role Role to look up
+     * @return Matching ids in ascending order
+     */
+    public long[] ids(String role) {
+        readLock.lock();
+        try {
+            Roaring64NavigableMap bitmap = bitmapOf(role);
+            return bitmap == null ? new long[0] : bitmap.toArray();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Copy the bitmap of ids holding a role, for intersecting with other filters
+     *
+     * @param role Role to look up
+     * @return Snapshot of the matching ids, empty if no id holds the role
+     */
+    public Roaring64NavigableMap members(String role) {
+        Roaring64NavigableMap snapshot = new Roaring64NavigableMap();
+        readLock.lock();
+        try {
+            Roaring64NavigableMap bitmap = bitmapOf(role);
+            if (bitmap != null) {
+                snapshot.or(bitmap);
+            }
+            return snapshot;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Count the ids holding each role, keyed by the role as first indexed
+     *
+     * @return Counts of the roles held by at least one id, in dictionary order
+     */
+    public Map<String, Long> counts() {
+        readLock.lock();
+        try {
+            Map<String, Long> counts = new LinkedHashMap<>();
+            for (int code = 0; code < roles.size(); code++) {
+                long count = members.get(code).getLongCardinality();
+                if (count > 0) {
+                    counts.put(roles.get(code), count);
+                }
+            }
+            return counts;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * @return Number of indexed ids
+     */
+    public long size() {
+        readLock.lock();
+        try {
+            long size = 0;
+            for (Roaring64NavigableMap bitmap : members) {
+                size += bitmap.getLongCardinality();
+            }
+            return size;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * @return Number of role codes assigned
+     */
+    public int roleCount() {
+        readLock.lock();
+        try {
+            return roles.size();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    private void addMember(long id, String role) {
+        String key = Employee.roleKeyOf(role);
+        if (key == null) {
+            return;
+        }
+        Integer code = codes.get(key);
+        if (code == null) {
+            code = roles.size();
+            codes.put(key, code);
+            roles.add(role.trim());
+            members.add(new Roaring64NavigableMap());
+        }
+        members.get(code).addLong(id);
+    }
+
+    private void removeMember(long id) {
+        for (Roaring64NavigableMap bitmap : members) {
+            if (bitmap.contains(id)) {
+                bitmap.removeLong(id);
+                return;
+            }
+        }
+    }
+
+    private Roaring64NavigableMap bitmapOf(String role) {
+        String key = Employee.roleKeyOf(role);
+        Integer code = key == null ? null : codes.get(key);
+        return code == null ? null : members.get(code);
+    }
+}
@@ -0,0 +1,150 @@
+package org.sanjeevas.springrest.index;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * In-memory search index settings
+ * Bound from app.search.*
+ *
+ * @author Sanjeeva
+ * @version 1.3
+ */
+@ConfigurationProperties(prefix = "app.search")
+public class SearchProperties {
+
+    private final NameIndex nameIndex = new NameIndex();
+    private final Suggest suggest = new Suggest();
+    private final RoleIndex roleIndex = new RoleIndex();
+    private final Fuzzy fuzzy = new Fuzzy();
+    private final FullText fullText = new FullText();
+
+    public NameIndex getNameIndex() {
+        return nameIndex;
+    }
+
+    public Suggest getSuggest() {
+        return suggest;
+    }
+
+    public RoleIndex getRoleIndex() {
+        return roleIndex;
+    }
+
+    public Fuzzy getFuzzy() {
+        return fuzzy;
+    }
+
+    public FullText getFullText() {
+        return fullText;
+    }
+
+    /**
+     * Trigram index over employee names serving name "contains" searches
+     */
+    public static class NameIndex {
+
+        /**
+         * Build the index at startup; when disabled, searches run as LIKE queries
+         */
+        private boolean enabled = true;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+    }
+
+    /**
+     * Prefix dictionary of names and roles serving autocomplete
+     */
+    public static class Suggest {
+
+        /**
+         * Build the dictionary at startup; when disabled, suggestions are always empty
+         */
+        private boolean enabled = true;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+    }
+
+    /**
+     * Role dictionary with per-role id bitmaps serving role filters and counts
+     */
+    public static class RoleIndex {
+
+        /**
+         * Build the index at startup; when disabled, role lookups query the role_key column
+         */
+        private boolean enabled = true;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+    }
+
+    /**
+     * Symmetric-delete word index kept with the name index, serving typo-tolerant searches
+     */
+    public static class Fuzzy {
+
+        /**
+         * Build the word index with the name index; when disabled, fuzzy searches match substrings
+         */
+        private boolean enabled = true;
+
+        /**
+         * Largest edit distance per word searches can ask for, 0 to 3; each step
+         * multiplies the deletes held per word
+         */
+        private int maxEdits = 2;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getMaxEdits() {
+            return maxEdits;
+        }
+
+        public void setMaxEdits(int maxEdits) {
+            this.maxEdits = maxEdits;
+        }
+    }
+
+    /**
+     * Database full-text index on employee names and roles serving paged name searches
+     */
+    public static class FullText {
+
+        /**
+         * Create the index at startup and search it by words; when disabled, paged
+         * searches match substrings through the name index or LIKE queries
+         */
+        private boolean enabled = false;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+    }
+}
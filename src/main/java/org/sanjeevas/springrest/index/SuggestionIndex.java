@@ -0,0 +1,166 @@
+package org.sanjeevas.springrest.index;
+
+import org.sanjeevas.springrest.dto.SuggestionDto;
+import org.sanjeevas.springrest.security.SecurityUtils;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Pattern;
+
+/**
+ * Sorted in-memory dictionary of distinct employee names and roles for prefix autocomplete
+ * Terms are keyed by their folded form (Unicode-normalized, accents stripped,
+ * lower-cased), so a prefix lookup is a single ordered seek followed by reading
+ * the first matches. Each term counts the employees carrying it and disappears
+ * with the last of them. Reads take no lock; writes are serialized.
+ *
+ * @author Sanjeeva
+ * @version 1.0
+ */
+public final class SuggestionIndex {
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    // Sorts before any folded character, so a name and a role with the same text stay adjacent
+    private static final char TYPE_SEPARATOR = '\0';
+
+    private final NavigableMap<String, Term> terms = new ConcurrentSkipListMap<>();
+    private final Map<Long, Terms> employees = new HashMap<>();
+
+    /**
+     * Index the name and role of an employee, replacing anything previously indexed for it
+     *
+     * @param id Employee ID
+     * @param name Employee name
+     * @param role Employee role
+     */
+    public synchronized void put(long id, String name, String role) {
+        Terms previous = employees.put(id, new Terms(name, role));
+        if (previous != null) {
+            release(previous);
+        }
+        acquire(name, role);
+    }
+
+    /**
+     * Index the name and role of an employee only if nothing is indexed for it yet
+     *
+     * @param id Employee ID
+     * @param name Employee name
+     * @param role Employee role
+     * @return true if the employee was indexed
+     */
+    public synchronized boolean putIfAbsent(long id, String name, String role) {
+        if (employees.putIfAbsent(id, new Terms(name, role)) != null) {
+            return false;
+        }
+        acquire(name, role);
+        return true;
+    }
+
+    /**
+     * Remove an employee from the index
+     *
+     * @param id Employee ID
+     */
+    public synchronized void remove(long id) {
+        Terms previous = employees.remove(id);
+        if (previous != null) {
+            release(previous);
+        }
+    }
+
+    /**
+     * Find names and roles starting with the prefix, in folded alphabetical order
+     *
+     * @param prefix Typed prefix, compared after folding
+     * @param limit Maximum number of suggestions
+     * @return Up to limit suggestions
+     */
+    public List<SuggestionDto> suggest(String prefix, int limit) {
+        String folded = fold(prefix);
+        List<SuggestionDto> suggestions = new ArrayList<>(Math.min(limit, 16));
+        for (Map.Entry<String, Term> entry : terms.tailMap(folded, true).entrySet()) {
+            if (suggestions.size() == limit || !entry.getKey().startsWith(folded)) {
+                break;
+            }
+            Term term = entry.getValue();
+            suggestions.add(new SuggestionDto(term.text(), term.type(), term.count()));
+        }
+        return suggestions;
+    }
+
+    /**
+     * @return Number of indexed employees
+     */
+    public synchronized int size() {
+        return employees.size();
+    }
+
+    /**
+     * @return Number of distinct names and roles
+     */
+    public int termCount() {
+        return terms.size();
+    }
+
+    /**
+     * Fold text for comparison: normalized, without accents, lower-cased
+     *
+     * @param text Text to fold
+     * @return Folded text
+     */
+    static String fold(String text) {
+        if (text == null) {
+            return "";
+        }
+        String normalized = SecurityUtils.normalizeUnicode(text.trim());
+        String stripped = COMBINING_MARKS.matcher(Normalizer.normalize(normalized, Normalizer.Form.NFD)).replaceAll("");
+        return Normalizer.normalize(stripped, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+    }
+
+    private void acquire(String name, String role) {
+        increment(name, SuggestionDto.Type.NAME);
+        increment(role, SuggestionDto.Type.ROLE);
+    }
+
+    private void release(Terms previous) {
+        decrement(previous.name(), SuggestionDto.Type.NAME);
+        decrement(previous.role(), SuggestionDto.Type.ROLE);
+    }
+
+    private void increment(String text, SuggestionDto.Type type) {
+        if (text == null || text.isBlank()) {
+            return;
+        }
+        terms.merge(key(text, type), new Term(text.trim(), type, 1),
+                (existing, added) -> new Term(existing.text(), type, existing.count() + 1));
+    }
+
+    private void decrement(String text, SuggestionDto.Type type) {
+        if (text == null || text.isBlank()) {
+            return;
+        }
+        terms.computeIfPresent(key(text, type),
+                (key, existing) -> existing.count() == 1 ? null : new Term(existing.text(), type, existing.count() - 1));
+    }
+
+    private static String key(String text, SuggestionDto.Type type) {
+        return fold(text) + TYPE_SEPARATOR + type.ordinal();
+    }
+
+    /**
+     * A distinct term, displayed with the spelling of the first employee that carried it
+     */
+    private record Term(String text, SuggestionDto.Type type, int count) {
+    }
+
+    private record Terms(String name, String role) {
+    }
+}
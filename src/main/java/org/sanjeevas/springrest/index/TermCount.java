@@ -0,0 +1,13 @@
+package org.sanjeevas.springrest.index;
+
+/**
+ * A distinct name or role with the number of employees carrying it, as counted
+ * by the database while the suggestion index is not ready
+ *
+ * @param text Name or role as stored
+ * @param count Number of employees with this text
+ * @author Sanjeeva
+ * @version 1.0
+ */
+public record TermCount(String text, long count) {
+}
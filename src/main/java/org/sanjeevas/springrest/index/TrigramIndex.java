@@ -0,0 +1,263 @@
+package org.sanjeevas.springrest.index;
+
+import org.roaringbitmap.longlong.LongIterator;
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory trigram index answering case-insensitive substring searches
+ * Each lower-cased three-character sequence maps to a compressed bitmap of the
+ * ids whose text contains it. A query intersects the bitmaps of its trigrams,
+ * smallest first, and verifies the remaining candidates against the stored text.
+ * Queries shorter than a trigram are answered by scanning the stored text.
+ *
+ * @author Sanjeeva
+ * @version 1.1
+ */
+public final class TrigramIndex {
+
+    static final int GRAM_LENGTH = 3;
+
+    private final Map<Long, Roaring64NavigableMap> postings = new HashMap<>();
+    private final Map<Long, String> texts = new HashMap<>();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Lock readLock = lock.readLock();
+    private final Lock writeLock = lock.writeLock();
+
+    /**
+     * Index the text for an id, replacing anything previously indexed for it
+     *
+     * @param id Identifier to return from searches
+     * @param text Text to index
+     * @return Lower-cased text previously indexed for the id, or null
+     */
+    public String put(long id, String text) {
+        String normalized = normalize(text);
+        writeLock.lock();
+        try {
+            String previous = texts.put(id, normalized);
+            if (previous != null) {
+                removePostings(id, previous);
+            }
+            addPostings(id, normalized);
+            return previous;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Index the text for an id only if nothing is indexed for it yet
+     *
+     * @param id Identifier to return from searches
+     * @param text Text to index
+     * @return true if the text was indexed
+     */
+    public boolean putIfAbsent(long id, String text) {
+        String normalized = normalize(text);
+        writeLock.lock();
+        try {
+            if (texts.putIfAbsent(id, normalized) != null) {
+                return false;
+            }
+            addPostings(id, normalized);
+            return true;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Remove an id from the index
+     *
+     * @param id Identifier to remove
+     * @return Lower-cased text previously indexed for the id, or null
+     */
+    public String remove(long id) {
+        writeLock.lock();
+        try {
+            String previous = texts.remove(id);
+            if (previous != null) {
+                removePostings(id, previous);
+            }
+            return previous;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Find the ids whose text contains the query, ignoring case
+     *
+     * @param query Substring to look for
+     * @return Matching ids in ascending order
+     */
+    public long[] search(String query) {
+        return search(query, null);
+    }
+
+    /**
+     * Find the ids within a set whose text contains the query, ignoring case
+     *
+     * @param query Substring to look for
+     * @param within Ids to restrict the search to, or null to search all ids
+     * @return Matching ids in ascending order
+     */
+    public long[] search(String query, Roaring64NavigableMap within) {
+        String normalized = normalize(query);
+        readLock.lock();
+        try {
+            if (normalized.length() < GRAM_LENGTH) {
+                return within == null ? scan(normalized) : scan(normalized, within);
+            }
+            Roaring64NavigableMap candidates = intersect(normalized);
+            if (candidates == null) {
+                return new long[0];
+            }
+            if (within != null) {
+                candidates.and(within);
+            }
+            return verify(candidates, normalized);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * @return Number of indexed ids
+     */
+    public int size() {
+        readLock.lock();
+        try {
+            return texts.size();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * @return Number of distinct trigrams
+     */
+    public int gramCount() {
+        readLock.lock();
+        try {
+            return postings.size();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    private Roaring64NavigableMap intersect(String query) {
+        List<Roaring64NavigableMap> lists = new ArrayList<>();
+        for (long gram : grams(query)) {
+            Roaring64NavigableMap posting = postings.get(gram);
+            if (posting == null) {
+                return null;
+            }
+            lists.add(posting);
+        }
+        lists.sort(Comparator.comparingLong(Roaring64NavigableMap::getLongCardinality));
+
+        Roaring64NavigableMap candidates = new Roaring64NavigableMap();
+        candidates.or(lists.get(0));
+        for (int i = 1; i < lists.size() && !candidates.isEmpty(); i++) {
+            candidates.and(lists.get(i));
+        }
+        return candidates;
+    }
+
+    /**
+     * Trigrams only prove each piece occurs, not that they occur adjacently
+     */
+    private long[] verify(Roaring64NavigableMap candidates, String query) {
+        long[] matches = new long[(int) candidates.getLongCardinality()];
+        int count = 0;
+        LongIterator iterator = candidates.getLongIterator();
+        while (iterator.hasNext()) {
+            long id = iterator.next();
+            if (texts.get(id).contains(query)) {
+                matches[count++] = id;
+            }
+        }
+        return count == matches.length ? matches : Arrays.copyOf(matches, count);
+    }
+
+    private long[] scan(String query) {
+        long[] matches = new long[texts.size()];
+        int count = 0;
+        for (Map.Entry<Long, String> entry : texts.entrySet()) {
+            if (entry.getValue().contains(query)) {
+                matches[count++] = entry.getKey();
+            }
+        }
+        long[] result = Arrays.copyOf(matches, count);
+        Arrays.sort(result);
+        return result;
+    }
+
+    private long[] scan(String query, Roaring64NavigableMap within) {
+        long[] matches = new long[(int) within.getLongCardinality()];
+        int count = 0;
+        LongIterator iterator = within.getLongIterator();
+        while (iterator.hasNext()) {
+            long id = iterator.next();
+            String text = texts.get(id);
+            if (text != null && text.contains(query)) {
+                matches[count++] = id;
+            }
+        }
+        return count == matches.length ? matches : Arrays.copyOf(matches, count);
+    }
+
+    private void addPostings(long id, String text) {
+        for (long gram : grams(text)) {
+            postings.computeIfAbsent(gram, key -> new Roaring64NavigableMap()).addLong(id);
+        }
+    }
+
+    private void removePostings(long id, String text) {
+        for (long gram : grams(text)) {
+            Roaring64NavigableMap posting = postings.get(gram);
+            if (posting != null) {
+                posting.removeLong(id);
+                if (posting.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    /**
+     * Distinct trigrams of the text, each packed as three 16-bit chars
+     */
+    static long[] grams(String text) {
+        int count = Math.max(0, text.length() - GRAM_LENGTH + 1);
+        long[] grams = new long[count];
+        for (int i = 0; i < count; i++) {
+            grams[i] = ((long) text.charAt(i) << 32) | ((long) text.charAt(i + 1) << 16) | text.charAt(i + 2);
+        }
+        Arrays.sort(grams);
+        int distinct = 0;
+        for (int i = 0; i < count; i++) {
+            if (i == 0 || grams[i] != grams[i - 1]) {
+                grams[distinct++] = grams[i];
+            }
+        }
+        return distinct == count ? grams : Arrays.copyOf(grams, distinct);
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+}
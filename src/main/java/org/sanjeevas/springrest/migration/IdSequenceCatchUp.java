@@ -0,0 +1,84 @@
+package org.sanjeevas.springrest.migration;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.sanjeevas.springrest.id.EmployeeIdGenerator;
+import org.sanjeevas.springrest.id.IdGenerationProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Moves the pooled employee id sequence past ids already in the table
+ * Tables keyed by IDENTITY before the switch to pooled ids keep their rows while
+ * Hibernate creates the sequence (a table on MySQL) starting at 1, so every insert
+ * would hit a duplicate key. This runs while the context starts, before startup
+ * data is loaded and before requests are served, and only ever moves the sequence
+ * forward. A sequence already ahead is left alone, at the cost of one block of ids.
+ *
+ * @author Sanjeeva
+ * @version 1.0
+ */
+@Component
+public class IdSequenceCatchUp implements InitializingBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdSequenceCatchUp.class);
+
+    private static final String SEQUENCE = EmployeeIdGenerator.SEQUENCE_NAME;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Dialect dialect;
+    private final IdGenerationProperties properties;
+
+    public IdSequenceCatchUp(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory,
+                             IdGenerationProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dialect = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect();
+        this.properties = properties;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        advance();
+    }
+
+    /**
+     * Make the next block of ids start above the highest id in the table
+     * The pooled optimizer hands out the allocationSize ids ending at the value it
+     * reads, so the sequence must return at least MAX(id) + allocationSize
+     *
+     * @return true if the sequence was behind and has been moved forward
+     */
+    public boolean advance() {
+        if (properties.getStrategy() != IdGenerationProperties.Strategy.POOLED) {
+            return false;
+        }
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM employees", Long.class);
+        if (maxId == null) {
+            logger.debug("No employees yet; id sequence left as created");
+            return false;
+        }
+        long required = maxId + properties.getAllocationSize();
+
+        boolean advanced;
+        if (dialect.getSequenceSupport().supportsSequences()) {
+            Long next = jdbcTemplate.queryForObject(
+                    dialect.getSequenceSupport().getSequenceNextValString(SEQUENCE), Long.class);
+            advanced = next != null && next < required;
+            if (advanced) {
+                jdbcTemplate.execute("ALTER SEQUENCE " + SEQUENCE + " RESTART WITH " + required);
+            }
+        } else {
+            // Table-backed sequence, as on MySQL; the guard makes concurrent starts harmless
+            advanced = jdbcTemplate.update("UPDATE " + SEQUENCE + " SET next_val = ? WHERE next_val < ?",
+                    required, required) > 0;
+        }
+        if (advanced) {
+            logger.info("Advanced {} past existing employee id {} to {}", SEQUENCE, maxId, required);
+        }
+        return advanced;
+    }
+}
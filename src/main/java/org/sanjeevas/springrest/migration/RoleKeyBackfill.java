@@ -0,0 +1,64 @@
+package org.sanjeevas.springrest.migration;
+
+import org.sanjeevas.springrest.Employee;
+import org.sanjeevas.springrest.EmployeeRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Fills employees.role_key for rows written before the column existed
+ * Hibernate adds the column empty on existing schemas; this runs once per
+ * startup, issues one UPDATE per distinct role still missing a key and is a
+ * no-op once every row has one. Rows written by the application always carry a key.
+ *
+ * @author Sanjeeva
+ * @version 1.0
+ */
+@Component
+public class RoleKeyBackfill implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(RoleKeyBackfill.class);
+
+    private final EmployeeRepository employeeRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public RoleKeyBackfill(EmployeeRepository employeeRepository, PlatformTransactionManager transactionManager) {
+        this.employeeRepository = employeeRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        backfill();
+    }
+
+    /**
+     * Set the role key on every row that has none
+     *
+     * @return Number of rows updated
+     */
+    public int backfill() {
+        List<String> roles = employeeRepository.findRolesWithoutRoleKey();
+        if (roles.isEmpty()) {
+            logger.debug("All employees have a role key");
+            return 0;
+        }
+
+        int updated = 0;
+        for (String role : roles) {
+            // One short transaction per role keeps locks brief on large tables
+            Integer rows = transactionTemplate.execute(status ->
+                    employeeRepository.backfillRoleKey(role, Employee.roleKeyOf(role)));
+            updated += rows == null ? 0 : rows;
+        }
+        logger.info("Backfilled role key on {} employees across {} roles", updated, roles.size());
+        return updated;
+    }
+}
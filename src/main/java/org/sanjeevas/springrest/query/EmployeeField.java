@@ -0,0 +1,104 @@
+package org.sanjeevas.springrest.query;
+
+import org.sanjeevas.springrest.dto.EmployeeDto;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Employee fields a client may select with ?fields=, each naming both the JSON
+ * property and the Employee attribute it is read from
+ *
+ * @author Sanjeeva
+ * @version 1.0
+ */
+public enum EmployeeField {
+
+    ID("id", EmployeeDto::getId, (dto, value) -> dto.setId((Long) value)),
+    NAME("name", EmployeeDto::getName, (dto, value) -> dto.setName((String) value)),
+    ROLE("role", EmployeeDto::getRole, (dto, value) -> dto.setRole((String) value));
+
+    /**
+     * Every field, as selected when the parameter is absent
+     */
+    public static final Set<EmployeeField> ALL = Collections.unmodifiableSet(EnumSet.allOf(EmployeeField.class));
+
+    private final String property;
+    private final Function<EmployeeDto, Object> getter;
+    private final BiConsumer<EmployeeDto, Object> setter;
+
+    EmployeeField(String property, Function<EmployeeDto, Object> getter, BiConsumer<EmployeeDto, Object> setter) {
+        this.property = property;
+        this.getter = getter;
+        this.setter = setter;
+    }
+
+    /**
+     * @return Name of the JSON property and of the Employee attribute
+     */
+    public String getProperty() {
+        return property;
+    }
+
+    /**
+     * Set this field of a DTO from a selected column value
+     */
+    public void set(EmployeeDto dto, Object value) {
+        setter.accept(dto, value);
+    }
+
+    /**
+     * Parse a comma-separated field list against the whitelist
+     *
+     * @param fields Field names, e.g. "id,name"
+     * @return Selected fields, or every field when the list is null or blank
+     * @throws IllegalArgumentException if a name is malformed or not selectable
+     */
+    public static Set<EmployeeField> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+        Set<EmployeeField> selected = EnumSet.noneOf(EmployeeField.class);
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            // Same shape check as sort fields, so names are never echoed unvalidated
+            if (!trimmed.matches("^[a-zA-Z_]\\w*$")) {
+                throw new IllegalArgumentException("Invalid field: " + trimmed);
+            }
+            selected.add(of(trimmed));
+        }
+        return Collections.unmodifiableSet(selected);
+    }
+
+    private static EmployeeField of(String property) {
+        for (EmployeeField field : values()) {
+            if (field.property.equals(property)) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("Field not allowed: " + property
+                + " (allowed: " + ALL.stream().map(EmployeeField::getProperty).toList() + ")");
+    }
+
+    /**
+     * Copy only the selected fields of a DTO, leaving the others null so they are
+     * left out of the response; the DTO itself, which may be cached, is not modified
+     *
+     * @param dto Employee as loaded
+     * @param fields Fields to keep
+     * @return The DTO itself when every field is kept, otherwise a trimmed copy
+     */
+    public static EmployeeDto retain(EmployeeDto dto, Set<EmployeeField> fields) {
+        if (fields.containsAll(ALL)) {
+            return dto;
+        }
+        EmployeeDto trimmed = new EmployeeDto();
+        for (EmployeeField field : fields) {
+            field.set(trimmed, field.getter.apply(dto));
+        }
+        return trimmed;
+    }
+}
@@ -0,0 +1,55 @@
+package org.sanjeevas.springrest.query;
+
+import java.time.LocalDateTime;
+
+/**
+ * Criteria of a combined employee filter; absent criteria match every employee
+ * Ranges include their start and exclude their end
+ *
+ * @param name Substring of the name, ignoring case
+ * @param role Role, ignoring case and surrounding whitespace
+ * @param createdFrom Earliest creation time
+ * @param createdTo Creation time to stop before
+ * @param updatedFrom Earliest last modification time
+ * @param updatedTo Last modification time to stop before
+ * @author Sanjeeva
+ * @version 1.0
+ */
+public record EmployeeFilter(String name, String role,
+                             LocalDateTime createdFrom, LocalDateTime createdTo,
+                             LocalDateTime updatedFrom, LocalDateTime updatedTo) {
+
+    public EmployeeFilter {
+        name = blankToNull(name);
+        role = blankToNull(role);
+        requireOrdered("createdFrom", createdFrom, "createdTo", createdTo);
+        requireOrdered("updatedFrom", updatedFrom, "updatedTo", updatedTo);
+    }
+
+    /**
+     * @param name Substring of the name, ignoring case
+     * @param role Role, ignoring case
+     * @return Filter on name and role only
+     */
+    public static EmployeeFilter of(String name, String role) {
+        return new EmployeeFilter(name, role, null, null, null, null);
+    }
+
+    /**
+     * @return true if no criterion is set
+     */
+    public boolean isEmpty() {
+        return name == null && role == null && createdFrom == null && createdTo == null
+                && updatedFrom == null && updatedTo == null;
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+
+    private static void requireOrdered(String fromName, LocalDateTime from, String toName, LocalDateTime to) {
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new IllegalArgumentException(fromName + " must be before " + toName);
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package org.sanjeevas.springrest.query;
+
+import org.sanjeevas.springrest.index.SearchProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.query.EscapeCharacter;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Paged name "contains" search narrowed by the database's native full-text
+ * index, chosen by the database behind the configured data source
+ * An index holds whole words, while the text may start and end mid-word, so
+ * only words the text fixes as whole words narrow the search: those with
+ * whitespace on both sides, and the last word as a prefix where the dialect
+ * supports prefixes. Words the index leaves out, such as ones below its minimum
+ * length, are skipped. When no word is left, as for a single word, and until the
+ * index has been created after startup, when disabled and on databases without
+ * a dialect, searches return empty so callers fall back to substring matching.
+ *
+ * @author Sanjeeva
+ * @version 1.2
+ */
+@Component
+public class EmployeeFullTextSearch {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeFullTextSearch.class);
+
+    private static final Pattern WORD = Pattern.compile("[\\p{L}\\p{N}]+");
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s");
+
+    // Words beyond this add little selectivity but cost a lookup each
+    static final int MAX_WORDS = 8;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+
+    // Set once the index exists, null while searches must fall back
+    private volatile FullTextDialect dialect;
+
+    public EmployeeFullTextSearch(JdbcTemplate jdbcTemplate, SearchProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = properties.getFullText().isEnabled();
+    }
+
+    /**
+     * Create the index once the application, including any data loaders, has started
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (enabled) {
+            initialize();
+        } else {
+            logger.info("Full-text search disabled, name searches match substrings");
+        }
+    }
+
+    /**
+     * Create the full-text index for the connected database and start serving searches
+     *
+     * @return true if the database has a dialect and its index is ready
+     */
+    public synchronized boolean initialize() {
+        dialect = null;
+        FullTextDialect chosen;
+        try {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            chosen = dialectFor(product);
+            if (chosen == null) {
+                logger.warn("No full-text dialect for database {}, name searches match substrings", product);
+                return false;
+            }
+            long start = System.nanoTime();
+            chosen.createIndex(jdbcTemplate);
+            logger.info("{} full-text index ready in {} ms", chosen.name(), (System.nanoTime() - start) / 1_000_000);
+        } catch (DataAccessException ex) {
+            logger.warn("Could not create the full-text index, name searches match substrings", ex);
+            return false;
+        }
+        dialect = chosen;
+        return true;
+    }
+
+    /**
+     * @return true while searches are answered by the full-text index
+     */
+    public boolean isReady() {
+        return dialect != null;
+    }
+
+    /**
+     * Find one page of the ids of employees whose name contains the text (case-insensitive)
+     * The index narrows the candidates to those whose name or role holds the
+     * text's whole words and prefix, see {@link #terms(String)}
+     *
+     * @param text Text to search for
+     * @param pageable Page to return; its sort is ignored in favour of the dialect's order
+     * @return Page of matching ids, or empty if the index is not ready or cannot narrow the search
+     */
+    public Optional<Page<Long>> search(String text, Pageable pageable) {
+        FullTextDialect current = dialect;
+        if (current == null || pageable.isUnpaged()) {
+            return Optional.empty();
+        }
+        Terms terms = terms(text);
+        // Requiring a word the index left out would drop the rows holding it
+        List<String> words = terms.words().stream().filter(current::indexes).toList();
+        String prefix = terms.prefix() != null && current.matchesPrefixes() && current.indexes(terms.prefix())
+                ? terms.prefix()
+                : null;
+        if (words.isEmpty() && prefix == null) {
+            return Optional.empty();
+        }
+        // Same match as the substring search the index stands in for, wildcards taken literally
+        String namePattern = "%" + EscapeCharacter.DEFAULT.escape(text.toLowerCase(Locale.ROOT)) + "%";
+        long total = current.count(jdbcTemplate, words, prefix, namePattern);
+        List<Long> ids = total > pageable.getOffset()
+                ? current.findIds(jdbcTemplate, words, prefix, namePattern, pageable.getPageSize(),
+                        pageable.getOffset())
+                : List.of();
+        return Optional.of(new PageImpl<>(ids, pageable, total));
+    }
+
+    /**
+     * Find the lower-cased words every name containing the text holds whole, at
+     * most {@link #MAX_WORDS}, and the one it holds as a prefix
+     * The text is split at whitespace. A piece with whitespace on both sides is a
+     * whole word; the last piece, with whitespace only before it, is a prefix. The
+     * first piece may start mid-word and is never used. Pieces with anything but
+     * letters and digits are skipped, as tokenizers split punctuation differently.
+     */
+    static Terms terms(String text) {
+        List<String> words = new ArrayList<>();
+        String prefix = null;
+        if (text == null) {
+            return new Terms(words, null);
+        }
+        String[] pieces = WHITESPACE.split(text.toLowerCase(Locale.ROOT), -1);
+        for (int i = 1; i < pieces.length; i++) {
+            if (!WORD.matcher(pieces[i]).matches()) {
+                continue;
+            }
+            if (i == pieces.length - 1) {
+                prefix = pieces[i];
+            } else if (words.size() < MAX_WORDS) {
+                words.add(pieces[i]);
+            }
+        }
+        return new Terms(words, prefix);
+    }
+
+    /**
+     * Words of search text usable with a full-text index
+     *
+     * @param words Words names must hold whole
+     * @param prefix Start of a word names must hold, or null
+     */
+    record Terms(List<String> words, String prefix) {
+    }
+
+    private static FullTextDialect dialectFor(String product) {
+        return switch (product) {
+            case "MySQL" -> new MySqlFullTextDialect();
+            case "H2" -> new H2FullTextDialect();
+            default -> null;
+        };
+    }
+}
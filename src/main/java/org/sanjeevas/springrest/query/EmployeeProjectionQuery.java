@@ -0,0 +1,121 @@
+package org.sanjeevas.springrest.query;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.sanjeevas.springrest.Employee;
+import org.sanjeevas.springrest.dto.EmployeeDto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Employee list queries selecting only the columns of the requested fields
+ * A Criteria tuple query reads the chosen attributes straight into EmployeeDto,
+ * so fields the client left out are neither read from the database nor held
+ * on the heap. Must run inside a transaction.
+ *
+ * @author Sanjeeva
+ * @version 1.0
+ */
+@Component
+public class EmployeeProjectionQuery {
+
+    private final EntityManager entityManager;
+
+    public EmployeeProjectionQuery(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Retrieve a page of matching employees with only the selected fields set
+     * The COUNT query is skipped where the page itself tells the total
+     *
+     * @param spec Employees to match
+     * @param fields Fields to select; at least one
+     * @param pageable Pagination information; sort properties are those of Employee
+     * @return Page of employees
+     */
+    public Page<EmployeeDto> findPage(Specification<Employee> spec, Set<EmployeeField> fields, Pageable pageable) {
+        List<EmployeeDto> employees = select(spec, fields, pageable, 0);
+        return PageableExecutionUtils.getPage(employees, pageable, () -> count(spec));
+    }
+
+    /**
+     * Retrieve a page of matching employees with only the selected fields set, without counting the total
+     * Fetches one extra row to tell whether another page follows
+     *
+     * @param spec Employees to match
+     * @param fields Fields to select; at least one
+     * @param pageable Pagination information; sort properties are those of Employee
+     * @return Slice of employees
+     */
+    public Slice<EmployeeDto> findSlice(Specification<Employee> spec, Set<EmployeeField> fields, Pageable pageable) {
+        List<EmployeeDto> employees = select(spec, fields, pageable, 1);
+        boolean hasNext = pageable.isPaged() && employees.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? employees.subList(0, pageable.getPageSize()) : employees, pageable, hasNext);
+    }
+
+    private List<EmployeeDto> select(Specification<Employee> spec, Set<EmployeeField> fields, Pageable pageable,
+                                     int extraRows) {
+        if (fields.isEmpty()) {
+            throw new IllegalArgumentException("At least one field must be selected");
+        }
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Employee> root = query.from(Employee.class);
+        List<EmployeeField> selected = List.copyOf(fields);
+        List<Selection<?>> columns = new ArrayList<>(selected.size());
+        for (EmployeeField field : selected) {
+            columns.add(root.get(field.getProperty()));
+        }
+        query.multiselect(columns);
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+
+        TypedQuery<Tuple> typed = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typed.setFirstResult(Math.toIntExact(pageable.getOffset()));
+            typed.setMaxResults(pageable.getPageSize() + extraRows);
+        }
+        List<Tuple> rows = typed.getResultList();
+        List<EmployeeDto> employees = new ArrayList<>(rows.size());
+        for (Tuple row : rows) {
+            EmployeeDto employee = new EmployeeDto();
+            for (int i = 0; i < selected.size(); i++) {
+                selected.get(i).set(employee, row.get(i));
+            }
+            employees.add(employee);
+        }
+        return employees;
+    }
+
+    private long count(Specification<Employee> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Employee> root = query.from(Employee.class);
+        query.select(cb.count(root));
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
@@ -0,0 +1,124 @@
+package org.sanjeevas.springrest.query;
+
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
+import org.sanjeevas.springrest.Employee;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Writes one employee row by ID in a single conditional statement
+ * The affected-row count tells whether the employee existed, at the expected
+ * version where one is given, so neither a missing nor a stale row is read first.
+ * Statements run through JDBC rather than JPQL, as Hibernate answers a bulk JPQL
+ * statement by dropping the whole employees second-level cache region: here only
+ * the written employee's entry is evicted, in the transaction and again once it
+ * completes, so a read racing the commit cannot leave the old row cached. Cached
+ * query results are dropped the same way, as any write to the table does.
+ * Entity callbacks do not run: values are checked against the entity's
+ * constraints here, and callers publish the change. Must run inside a transaction.
+ *
+ * @author Sanjeeva
+ * @version 1.0
+ */
+@Component
+public class EmployeeRowWriter {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+    private final Validator validator;
+
+    public EmployeeRowWriter(JdbcTemplate jdbcTemplate, EntityManager entityManager, Validator validator) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+        this.validator = validator;
+    }
+
+    /**
+     * Set an employee's name and role in one UPDATE, bumping its version
+     * Only the given columns are set, with the role key and modification time
+     *
+     * @param id Employee ID
+     * @param expectedVersion Version the employee must be at, or null for any
+     * @param name Sanitized name, or null to keep the current one
+     * @param role Sanitized role, or null to keep the current one
+     * @return true if the row was updated, false if no employee has the ID at that version
+     * @throws ConstraintViolationException if a value breaks the entity's constraints
+     */
+    public boolean update(Long id, Long expectedVersion, String name, String role) {
+        Set<ConstraintViolation<Employee>> violations = new HashSet<>();
+        StringBuilder sql = new StringBuilder("UPDATE employees SET ");
+        List<Object> args = new ArrayList<>();
+        if (name != null) {
+            violations.addAll(validator.validateValue(Employee.class, "name", name));
+            sql.append("name = ?, ");
+            args.add(name);
+        }
+        if (role != null) {
+            violations.addAll(validator.validateValue(Employee.class, "role", role));
+            sql.append("role = ?, role_key = ?, ");
+            args.add(role);
+            args.add(Employee.roleKeyOf(role));
+        }
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(violations);
+        }
+        sql.append("updated_at = ?, version = version + 1 WHERE id = ?");
+        args.add(LocalDateTime.now());
+        args.add(id);
+        if (expectedVersion != null) {
+            sql.append(" AND version = ?");
+            args.add(expectedVersion);
+        }
+        return write(id, sql.toString(), args.toArray());
+    }
+
+    /**
+     * Delete an employee in one DELETE
+     *
+     * @param id Employee ID
+     * @param expectedVersion Version the employee must be at, or null for any
+     * @return true if the row was deleted, false if no employee has the ID at that version
+     */
+    public boolean delete(Long id, Long expectedVersion) {
+        return expectedVersion == null
+                ? write(id, "DELETE FROM employees WHERE id = ?", id)
+                : write(id, "DELETE FROM employees WHERE id = ? AND version = ?", id, expectedVersion);
+    }
+
+    private boolean write(Long id, String sql, Object... args) {
+        // As a modifying repository query would: pending changes go first, and no managed copy outlives the write
+        entityManager.flush();
+        entityManager.clear();
+        if (jdbcTemplate.update(sql, args) == 0) {
+            return false;
+        }
+        Cache cache = entityManager.getEntityManagerFactory().getCache();
+        evict(cache, id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(cache, id);
+                }
+            });
+        }
+        return true;
+    }
+
+    private static void evict(Cache cache, Long id) {
+        cache.evict(Employee.class, id);
+        cache.unwrap(org.hibernate.Cache.class).evictQueryRegions();
+    }
+}
@@ -0,0 +1,90 @@
+package org.sanjeevas.springrest.query;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.sanjeevas.springrest.Employee;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.EscapeCharacter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * JPA Specifications for filtering employees
+ *
+ * @author Sanjeeva
+ * @version 1.0
+ */
+public final class EmployeeSpecifications {
+
+    private EmployeeSpecifications() {
+    }
+
+    /**
+     * Match employees meeting every criterion of the filter
+     *
+     * @param filter Criteria to apply
+     * @return Specification of the filter
+     */
+    public static Specification<Employee> matching(EmployeeFilter filter) {
+        return matching(filter, null);
+    }
+
+    /**
+     * Match employees meeting every criterion of the filter, among known candidates
+     * Conjuncts are emitted most selective first: primary key lookups of the
+     * candidates, then the indexed role_key equality, then the indexed time
+     * ranges, and last the name substring match no index can serve. Databases
+     * evaluate the residual conjuncts in order, so rows rejected by the cheap
+     * comparisons never reach the LIKE.
+     *
+     * @param filter Criteria to apply
+     * @param candidateIds Ids already known to contain every match, e.g. from an
+     *                     in-memory index, or null if unknown
+     * @return Specification of the filter
+     */
+    public static Specification<Employee> matching(EmployeeFilter filter, long[] candidateIds) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (candidateIds != null) {
+                List<Long> ids = new ArrayList<>(candidateIds.length);
+                for (long id : candidateIds) {
+                    ids.add(id);
+                }
+                predicates.add(root.get("id").in(ids));
+            }
+            if (filter.role() != null) {
+                predicates.add(cb.equal(root.get("roleKey"), Employee.roleKeyOf(filter.role())));
+            }
+            addRange(predicates, cb, root.get("createdAt"), filter.createdFrom(), filter.createdTo());
+            addRange(predicates, cb, root.get("updatedAt"), filter.updatedFrom(), filter.updatedTo());
+            if (filter.name() != null) {
+                predicates.add(nameContains(root, cb, filter.name()));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    private static void addRange(List<Predicate> predicates, CriteriaBuilder cb, Expression<LocalDateTime> path,
+                                 LocalDateTime from, LocalDateTime to) {
+        if (from != null) {
+            predicates.add(cb.greaterThanOrEqualTo(path, from));
+        }
+        if (to != null) {
+            predicates.add(cb.lessThan(path, to));
+        }
+    }
+
+    /**
+     * Same match as the derived NameContainingIgnoreCase queries, wildcards in
+     * the name taken literally
+     */
+    private static Predicate nameContains(Root<Employee> root, CriteriaBuilder cb, String name) {
+        String pattern = "%" + EscapeCharacter.DEFAULT.escape(name.toLowerCase(Locale.ROOT)) + "%";
+        return cb.like(cb.lower(root.get("name")), pattern, EscapeCharacter.DEFAULT.getEscapeCharacter());
+    }
+}
@@ -0,0 +1,68 @@
+package org.sanjeevas.springrest.query;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+/**
+ * Database-specific full-text index over employees(name, role)
+ * Words reaching a dialect are lower-cased letters and digits only, so they
+ * carry no search operators of the underlying engine, and have passed
+ * {@link #indexes(String)}. The index only narrows the candidates; a name
+ * pattern keeps those whose name contains the text.
+ *
+ * @author Sanjeeva
+ * @version 1.2
+ */
+interface FullTextDialect {
+
+    /**
+     * @return Database name for logging
+     */
+    String name();
+
+    /**
+     * Make sure the full-text index exists and covers every current row
+     *
+     * @param jdbcTemplate Template to run DDL with
+     */
+    void createIndex(JdbcTemplate jdbcTemplate);
+
+    /**
+     * @param word Lower-cased word of letters and digits
+     * @return true if the index holds the word wherever it occurs, so requiring it cannot drop a match
+     */
+    boolean indexes(String word);
+
+    /**
+     * @return true if a word can be required as the start of an indexed word
+     */
+    boolean matchesPrefixes();
+
+    /**
+     * Find one page of the employees whose name or role holds every word and
+     * a word starting with the prefix, and whose lower-cased name matches the pattern
+     *
+     * @param jdbcTemplate Template to query with
+     * @param words Whole words to match; with the prefix, at least one term
+     * @param prefix Start of a word to match, or null; only given when {@link #matchesPrefixes()}
+     * @param namePattern Lower-case LIKE pattern escaped with a backslash
+     * @param limit Maximum number of ids
+     * @param offset Number of matches to skip
+     * @return Matching ids in the dialect's stable order
+     */
+    List<Long> findIds(JdbcTemplate jdbcTemplate, List<String> words, String prefix, String namePattern, int limit,
+                       long offset);
+
+    /**
+     * Count the employees whose name or role holds every word and a word
+     * starting with the prefix, and whose lower-cased name matches the pattern
+     *
+     * @param jdbcTemplate Template to query with
+     * @param words Whole words to match; with the prefix, at least one term
+     * @param prefix Start of a word to match, or null; only given when {@link #matchesPrefixes()}
+     * @param namePattern Lower-case LIKE pattern escaped with a backslash
+     * @return Number of matches
+     */
+    long count(JdbcTemplate jdbcTemplate, List<String> words, String prefix, String namePattern);
+}
@@ -0,0 +1,61 @@
+package org.sanjeevas.springrest.query;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+/**
+ * H2's built-in full-text search (org.h2.fulltext.FullText)
+ * H2 keeps the word index in the FT schema, maintained by triggers on the
+ * table. Every word is required and must match a whole word; H2 has no prefix
+ * operator. Every word is indexed, however short. Matches are ordered by id,
+ * as H2 scores every match alike.
+ *
+ * @author Sanjeeva
+ * @version 1.2
+ */
+final class H2FullTextDialect implements FullTextDialect {
+
+    private static final String MATCHES = "FROM FT_SEARCH_DATA(?, 0, 0) ft "
+            + "JOIN employees e ON e.id = CAST(ft.KEYS[1] AS BIGINT) "
+            + "WHERE ft.SCHEMA = 'PUBLIC' AND ft.\"TABLE\" = 'EMPLOYEES' AND LOWER(e.name) LIKE ? ESCAPE '\\'";
+
+    @Override
+    public String name() {
+        return "H2";
+    }
+
+    @Override
+    public void createIndex(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.execute("CREATE ALIAS IF NOT EXISTS FT_INIT FOR 'org.h2.fulltext.FullText.init'");
+        jdbcTemplate.execute("CALL FT_INIT()");
+        // A recreated table keeps its FT.INDEXES entry but loses the triggers and
+        // leaves stale words, so the index is always rebuilt from the current rows
+        jdbcTemplate.execute("CALL FT_DROP_INDEX('PUBLIC', 'EMPLOYEES')");
+        jdbcTemplate.execute("CALL FT_CREATE_INDEX('PUBLIC', 'EMPLOYEES', 'NAME,ROLE')");
+    }
+
+    @Override
+    public boolean indexes(String word) {
+        return true;
+    }
+
+    @Override
+    public boolean matchesPrefixes() {
+        return false;
+    }
+
+    @Override
+    public List<Long> findIds(JdbcTemplate jdbcTemplate, List<String> words, String prefix, String namePattern,
+                              int limit, long offset) {
+        return jdbcTemplate.queryForList("SELECT e.id " + MATCHES + " ORDER BY e.id LIMIT ? OFFSET ?",
+                Long.class, String.join(" ", words), namePattern, limit, offset);
+    }
+
+    @Override
+    public long count(JdbcTemplate jdbcTemplate, List<String> words, String prefix, String namePattern) {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) " + MATCHES, Long.class,
+                String.join(" ", words), namePattern);
+        return count == null ? 0 : count;
+    }
+}
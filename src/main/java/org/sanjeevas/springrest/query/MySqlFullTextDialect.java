@@ -0,0 +1,112 @@
+package org.sanjeevas.springrest.query;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * InnoDB FULLTEXT index searched with MATCH ... AGAINST in boolean mode
+ * Every word is required, the prefix as the start of a word. InnoDB leaves
+ * words outside innodb_ft_min_token_size..innodb_ft_max_token_size and
+ * stopwords out of the index, so those are never required; both are read from
+ * the server when the index is created. Matches are ordered by relevance, then id.
+ *
+ * @author Sanjeeva
+ * @version 1.2
+ */
+final class MySqlFullTextDialect implements FullTextDialect {
+
+    static final String INDEX_NAME = "ft_employees_name_role";
+
+    private static final String MATCH = "MATCH(name, role) AGAINST (? IN BOOLEAN MODE)";
+
+    // INFORMATION_SCHEMA.INNODB_FT_DEFAULT_STOPWORD, used unless the server names its own table
+    static final Set<String> DEFAULT_STOPWORDS = Set.of("a", "about", "an", "are", "as", "at", "be", "by", "com",
+            "de", "en", "for", "from", "how", "i", "in", "is", "it", "la", "of", "on", "or", "that", "the", "this",
+            "to", "was", "what", "when", "where", "who", "will", "with", "und", "www");
+
+    // Server defaults until the index is created
+    private int minTokenSize = 3;
+    private int maxTokenSize = 84;
+    private Set<String> stopwords = DEFAULT_STOPWORDS;
+
+    @Override
+    public String name() {
+        return "MySQL";
+    }
+
+    @Override
+    public void createIndex(JdbcTemplate jdbcTemplate) {
+        Integer existing = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.statistics "
+                        + "WHERE table_schema = DATABASE() AND table_name = 'employees' AND index_name = ?",
+                Integer.class, INDEX_NAME);
+        if (existing == null || existing == 0) {
+            // InnoDB builds the index online; the first FULLTEXT index on a table also rebuilds it
+            jdbcTemplate.execute("ALTER TABLE employees ADD FULLTEXT INDEX " + INDEX_NAME + " (name, role)");
+        }
+        Integer min = jdbcTemplate.queryForObject("SELECT @@innodb_ft_min_token_size", Integer.class);
+        Integer max = jdbcTemplate.queryForObject("SELECT @@innodb_ft_max_token_size", Integer.class);
+        minTokenSize = min == null ? minTokenSize : min;
+        maxTokenSize = max == null ? maxTokenSize : max;
+        stopwords = stopwords(jdbcTemplate);
+    }
+
+    private static Set<String> stopwords(JdbcTemplate jdbcTemplate) {
+        Boolean enabled = jdbcTemplate.queryForObject("SELECT @@innodb_ft_enable_stopword", Boolean.class);
+        if (!Boolean.TRUE.equals(enabled)) {
+            return Set.of();
+        }
+        String table = jdbcTemplate.queryForObject("SELECT @@innodb_ft_server_stopword_table", String.class);
+        if (table == null || table.isEmpty()) {
+            return DEFAULT_STOPWORDS;
+        }
+        // Named as db_name/table_name
+        return new HashSet<>(jdbcTemplate.queryForList("SELECT LOWER(value) FROM " + table.replace('/', '.'),
+                String.class));
+    }
+
+    @Override
+    public boolean indexes(String word) {
+        return word.length() >= minTokenSize && word.length() <= maxTokenSize && !stopwords.contains(word);
+    }
+
+    @Override
+    public boolean matchesPrefixes() {
+        return true;
+    }
+
+    @Override
+    public List<Long> findIds(JdbcTemplate jdbcTemplate, List<String> words, String prefix, String namePattern,
+                              int limit, long offset) {
+        String query = booleanQuery(words, prefix);
+        // Backslash is MySQL's default LIKE escape
+        return jdbcTemplate.queryForList(
+                "SELECT id FROM employees WHERE " + MATCH + " AND LOWER(name) LIKE ? "
+                        + "ORDER BY " + MATCH + " DESC, id LIMIT ? OFFSET ?",
+                Long.class, query, namePattern, query, limit, offset);
+    }
+
+    @Override
+    public long count(JdbcTemplate jdbcTemplate, List<String> words, String prefix, String namePattern) {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM employees WHERE " + MATCH + " AND LOWER(name) LIKE ?",
+                Long.class, booleanQuery(words, prefix), namePattern);
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * Require every word, and the prefix with the truncation operator
+     */
+    static String booleanQuery(List<String> words, String prefix) {
+        Stream<String> terms = words.stream().map(word -> "+" + word);
+        if (prefix != null) {
+            terms = Stream.concat(terms, Stream.of("+" + prefix + "*"));
+        }
+        return terms.collect(Collectors.joining(" "));
+    }
+}
@@ -1,16 +1,26 @@
 package org.sanjeevas.springrest.service;
 
 import org.sanjeevas.springrest.dto.EmployeeDto;
+import org.sanjeevas.springrest.dto.SuggestionDto;
+import org.sanjeevas.springrest.query.EmployeeField;
+import org.sanjeevas.springrest.query.EmployeeFilter;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Service interface for Employee operations
  * 
  * @author Sanjeeva
- * @version 1.0
+ * @version 1.1
  */
 public interface EmployeeService {
 
@@ -29,6 +39,43 @@ public interface EmployeeService {
      */
     Page<EmployeeDto> findAll(Pageable pageable);
 
+    /**
+     * Retrieve employees with pagination but without counting the total
+     * 
+     * @param pageable Pagination information
+     * @return Slice of employees
+     */
+    Slice<EmployeeDto> findSlice(Pageable pageable);
+
+    /**
+     * Retrieve employees with pagination, reading only the selected fields
+     * 
+     * @param pageable Pagination information
+     * @param fields Fields to read; the others are left null
+     * @return Page of employees
+     */
+    Page<EmployeeDto> findAll(Pageable pageable, Set<EmployeeField> fields);
+
+    /**
+     * Retrieve employees with pagination but without counting the total, reading only the selected fields
+     * 
+     * @param pageable Pagination information
+     * @param fields Fields to read; the others are left null
+     * @return Slice of employees
+     */
+    Slice<EmployeeDto> findSlice(Pageable pageable, Set<EmployeeField> fields);
+
+    /**
+     * Retrieve employees with keyset pagination
+     * Cost is independent of how deep the position is and no count is run
+     * 
+     * @param position Keyset position after which to continue
+     * @param sort Sort order, ending with id
+     * @param size Maximum number of employees to return
+     * @return Window of employees
+     */
+    Window<EmployeeDto> findAll(ScrollPosition position, Sort sort, int size);
+
     /**
      * Find employee by ID
      * 
@@ -37,6 +84,15 @@ public interface EmployeeService {
      */
     Optional<EmployeeDto> findById(Long id);
 
+    /**
+     * Find several employees by ID in one call
+     * Hits come from the employee cache; misses are loaded with a single query and cached
+     * 
+     * @param ids Employee IDs, duplicates are ignored
+     * @return Result per distinct ID in request order, empty when not found
+     */
+    Map<Long, Optional<EmployeeDto>> findAllById(Collection<Long> ids);
+
     /**
      * Create a new employee
      * 
@@ -46,13 +102,27 @@ public interface EmployeeService {
     EmployeeDto create(EmployeeDto employeeDto);
 
     /**
-     * Update an existing employee
+     * Replace an employee's name and role, creating a new employee if none has the ID
      * 
      * @param id Employee ID
      * @param employeeDto Updated employee data
-     * @return Updated employee
+     * @return Updated employee without its new version, which is not read back, or created
+     *         employee, and which of the two happened
+     */
+    UpsertResult update(Long id, EmployeeDto employeeDto);
+
+    /**
+     * Replace an existing employee's name and role if it is still at a version
+     * Never creates: a missing employee fails the precondition like a stale one
+     * 
+     * @param id Employee ID
+     * @param employeeDto Updated employee data
+     * @param expectedVersion Version the employee must be at, or null for any
+     * @return Updated employee, carrying its new version when the expected one was given
+     * @throws org.sanjeevas.springrest.exception.EmployeePreconditionFailedException if no row was
+     *         updated: the employee is missing or at another version
      */
-    EmployeeDto update(Long id, EmployeeDto employeeDto);
+    EmployeeDto replace(Long id, EmployeeDto employeeDto, Long expectedVersion);
 
     /**
      * Partially update an existing employee
@@ -63,6 +133,18 @@ public interface EmployeeService {
      */
     EmployeeDto partialUpdate(Long id, EmployeeDto employeeDto);
 
+    /**
+     * Partially update an existing employee if it is still at a version
+     * 
+     * @param id Employee ID
+     * @param employeeDto Partial employee data
+     * @param expectedVersion Version the employee must be at, or null for any
+     * @return Updated employee, carrying its new version
+     * @throws org.sanjeevas.springrest.exception.EmployeePreconditionFailedException if no row was
+     *         updated: the employee is missing or at another version
+     */
+    EmployeeDto partialUpdate(Long id, EmployeeDto employeeDto, Long expectedVersion);
+
     /**
      * Delete employee by ID
      * 
@@ -71,6 +153,16 @@ public interface EmployeeService {
      */
     boolean deleteById(Long id);
 
+    /**
+     * Delete an employee if it is still at a version
+     * 
+     * @param id Employee ID
+     * @param expectedVersion Version the employee must be at, or null for any
+     * @throws org.sanjeevas.springrest.exception.EmployeePreconditionFailedException if no row was
+     *         deleted: the employee is missing or at another version
+     */
+    void deleteById(Long id, Long expectedVersion);
+
     /**
      * Check if employee exists by ID
      * 
@@ -87,6 +179,32 @@ public interface EmployeeService {
      */
     List<EmployeeDto> findByNameContainingIgnoreCase(String name);
 
+    /**
+     * Search employees by name (case-insensitive), one page at a time
+     * Names containing the text match. When the database full-text index is
+     * enabled and the text holds whole words it can search, the index narrows
+     * the candidates and matches come in the index's order; otherwise in the
+     * requested order
+     * 
+     * @param name Name to search for
+     * @param pageable Pagination and sort information
+     * @return Page of matching employees
+     */
+    Page<EmployeeDto> findByNameContainingIgnoreCase(String name, Pageable pageable);
+
+    /**
+     * Search employees by name tolerating typos, best matches first
+     * Every word of the name must be within the edit distance of a word of the
+     * employee's name; short words tolerate fewer edits
+     * 
+     * @param name Words to search for
+     * @param role Role the employees must hold, or null for any
+     * @param maxEdits Largest edit distance per word
+     * @param limit Maximum number of employees to return
+     * @return Matching employees ranked by total edit distance
+     */
+    List<EmployeeDto> findByNameFuzzy(String name, String role, int maxEdits, int limit);
+
     /**
      * Find employees by role
      * 
@@ -95,6 +213,53 @@ public interface EmployeeService {
      */
     List<EmployeeDto> findByRole(String role);
 
+    /**
+     * Search employees by name (case-insensitive) holding a role
+     * 
+     * @param name Name to search for
+     * @param role Role to search for
+     * @return List of matching employees with the specified role
+     */
+    List<EmployeeDto> findByNameContainingIgnoreCaseAndRole(String name, String role);
+
+    /**
+     * Retrieve a page of employees meeting every criterion of a filter
+     * 
+     * @param filter Criteria to apply
+     * @param pageable Pagination and sort information
+     * @return Page of matching employees
+     */
+    Page<EmployeeDto> findAll(EmployeeFilter filter, Pageable pageable);
+
+    /**
+     * Retrieve a page of employees meeting every criterion of a filter, reading only the selected fields
+     * 
+     * @param filter Criteria to apply
+     * @param pageable Pagination and sort information
+     * @param fields Fields to read; the others are left null
+     * @return Page of matching employees
+     */
+    Page<EmployeeDto> findAll(EmployeeFilter filter, Pageable pageable, Set<EmployeeField> fields);
+
+    /**
+     * Count employees holding a role
+     * 
+     * @param role Role to count
+     * @return Number of employees with the specified role
+     */
+    long countByRole(String role);
+
+    /**
+     * Suggest employee names and roles starting with a prefix
+     * Served from memory; while the suggestion index is being built or disabled,
+     * from two bounded prefix queries that compare accents as stored
+     * 
+     * @param prefix Typed prefix, compared ignoring case and accents
+     * @param limit Maximum number of suggestions
+     * @return Suggestions in alphabetical order
+     */
+    List<SuggestionDto> suggest(String prefix, int limit);
+
     /**
      * Get total count of employees
      * 
@@ -0,0 +1,14 @@
+package org.sanjeevas.springrest.service;
+
+import org.sanjeevas.springrest.dto.EmployeeDto;
+
+/**
+ * Outcome of a full update: the employee as stored and whether it had to be created
+ *
+ * @param employee Employee after the write
+ * @param created true if no employee had the ID and a new one was created
+ * @author Sanjeeva
+ * @version 1.0
+ */
+public record UpsertResult(EmployeeDto employee, boolean created) {
+}
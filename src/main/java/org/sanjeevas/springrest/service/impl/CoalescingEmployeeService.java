@@ -0,0 +1,228 @@
+package org.sanjeevas.springrest.service.impl;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.sanjeevas.springrest.Employee;
+import org.sanjeevas.springrest.cache.SingleFlight;
+import org.sanjeevas.springrest.dto.EmployeeDto;
+import org.sanjeevas.springrest.dto.SuggestionDto;
+import org.sanjeevas.springrest.query.EmployeeField;
+import org.sanjeevas.springrest.query.EmployeeFilter;
+import org.sanjeevas.springrest.service.EmployeeService;
+import org.sanjeevas.springrest.service.UpsertResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * EmployeeService front that coalesces concurrent identical reads
+ * Callers asking for the same employee, name search or role while a load is
+ * running share its result instead of each missing the cache and querying the
+ * database. Collapsed calls are counted in employee.requests.coalesced.
+ *
+ * @author Sanjeeva
+ * @version 1.1
+ */
+@Service
+@Primary
+public class CoalescingEmployeeService implements EmployeeService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CoalescingEmployeeService.class);
+
+    static final String COALESCED_METRIC = "employee.requests.coalesced";
+
+    private final EmployeeService delegate;
+
+    private final SingleFlight<Long, Optional<EmployeeDto>> findByIdFlights = new SingleFlight<>();
+    private final SingleFlight<String, List<EmployeeDto>> findByNameFlights = new SingleFlight<>();
+    private final SingleFlight<List<Object>, Page<EmployeeDto>> findByNamePageFlights = new SingleFlight<>();
+    private final SingleFlight<String, List<EmployeeDto>> findByRoleFlights = new SingleFlight<>();
+
+    private final Counter findByIdCoalesced;
+    private final Counter findByNameCoalesced;
+    private final Counter findByRoleCoalesced;
+
+    public CoalescingEmployeeService(@Qualifier("employeeServiceImpl") EmployeeService delegate,
+                                     MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.findByIdCoalesced = coalescedCounter(meterRegistry, "findById");
+        this.findByNameCoalesced = coalescedCounter(meterRegistry, "findByNameContainingIgnoreCase");
+        this.findByRoleCoalesced = coalescedCounter(meterRegistry, "findByRole");
+    }
+
+    private static Counter coalescedCounter(MeterRegistry meterRegistry, String method) {
+        return Counter.builder(COALESCED_METRIC)
+                .description("Calls served by an identical load already in flight")
+                .tag("method", method)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Optional<EmployeeDto> findById(Long id) {
+        return coalesce(findByIdFlights, id, () -> delegate.findById(id), findByIdCoalesced);
+    }
+
+    @Override
+    public List<EmployeeDto> findByNameContainingIgnoreCase(String name) {
+        // The search ignores case, so differently cased terms can share one load
+        String key = name == null ? null : name.toLowerCase(Locale.ROOT);
+        return coalesce(findByNameFlights, key, () -> delegate.findByNameContainingIgnoreCase(name),
+                findByNameCoalesced);
+    }
+
+    @Override
+    public Page<EmployeeDto> findByNameContainingIgnoreCase(String name, Pageable pageable) {
+        List<Object> key = name == null ? null : List.of(name.toLowerCase(Locale.ROOT), pageable);
+        return coalesce(findByNamePageFlights, key, () -> delegate.findByNameContainingIgnoreCase(name, pageable),
+                findByNameCoalesced);
+    }
+
+    @Override
+    public List<EmployeeDto> findByRole(String role) {
+        // Roles match on their normalized key, so differently cased or padded roles can share one load
+        return coalesce(findByRoleFlights, Employee.roleKeyOf(role), () -> delegate.findByRole(role),
+                findByRoleCoalesced);
+    }
+
+    /**
+     * Share one in-flight load per key
+     * Calls inside a transaction go straight to the delegate, since their
+     * result may include that transaction's uncommitted changes
+     */
+    private <K, V> V coalesce(SingleFlight<K, V> flights, K key, Supplier<V> loader, Counter coalesced) {
+        if (key == null || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return loader.get();
+        }
+        return flights.execute(key, loader, () -> {
+            coalesced.increment();
+            logger.debug("Joining in-flight load for key: {}", key);
+        });
+    }
+
+    @Override
+    public List<EmployeeDto> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public Page<EmployeeDto> findAll(Pageable pageable) {
+        return delegate.findAll(pageable);
+    }
+
+    @Override
+    public Slice<EmployeeDto> findSlice(Pageable pageable) {
+        return delegate.findSlice(pageable);
+    }
+
+    @Override
+    public Page<EmployeeDto> findAll(Pageable pageable, Set<EmployeeField> fields) {
+        return delegate.findAll(pageable, fields);
+    }
+
+    @Override
+    public Slice<EmployeeDto> findSlice(Pageable pageable, Set<EmployeeField> fields) {
+        return delegate.findSlice(pageable, fields);
+    }
+
+    @Override
+    public Window<EmployeeDto> findAll(ScrollPosition position, Sort sort, int size) {
+        return delegate.findAll(position, sort, size);
+    }
+
+    @Override
+    public Map<Long, Optional<EmployeeDto>> findAllById(Collection<Long> ids) {
+        return delegate.findAllById(ids);
+    }
+
+    @Override
+    public EmployeeDto create(EmployeeDto employeeDto) {
+        return delegate.create(employeeDto);
+    }
+
+    @Override
+    public UpsertResult update(Long id, EmployeeDto employeeDto) {
+        return delegate.update(id, employeeDto);
+    }
+
+    @Override
+    public EmployeeDto replace(Long id, EmployeeDto employeeDto, Long expectedVersion) {
+        return delegate.replace(id, employeeDto, expectedVersion);
+    }
+
+    @Override
+    public EmployeeDto partialUpdate(Long id, EmployeeDto employeeDto) {
+        return delegate.partialUpdate(id, employeeDto);
+    }
+
+    @Override
+    public EmployeeDto partialUpdate(Long id, EmployeeDto employeeDto, Long expectedVersion) {
+        return delegate.partialUpdate(id, employeeDto, expectedVersion);
+    }
+
+    @Override
+    public boolean deleteById(Long id) {
+        return delegate.deleteById(id);
+    }
+
+    @Override
+    public void deleteById(Long id, Long expectedVersion) {
+        delegate.deleteById(id, expectedVersion);
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return delegate.existsById(id);
+    }
+
+    @Override
+    public List<EmployeeDto> findByNameFuzzy(String name, String role, int maxEdits, int limit) {
+        return delegate.findByNameFuzzy(name, role, maxEdits, limit);
+    }
+
+    @Override
+    public List<EmployeeDto> findByNameContainingIgnoreCaseAndRole(String name, String role) {
+        return delegate.findByNameContainingIgnoreCaseAndRole(name, role);
+    }
+
+    @Override
+    public Page<EmployeeDto> findAll(EmployeeFilter filter, Pageable pageable) {
+        return delegate.findAll(filter, pageable);
+    }
+
+    @Override
+    public Page<EmployeeDto> findAll(EmployeeFilter filter, Pageable pageable, Set<EmployeeField> fields) {
+        return delegate.findAll(filter, pageable, fields);
+    }
+
+    @Override
+    public long countByRole(String role) {
+        return delegate.countByRole(role);
+    }
+
+    @Override
+    public List<SuggestionDto> suggest(String prefix, int limit) {
+        return delegate.suggest(prefix, limit);
+    }
+
+    @Override
+    public long count() {
+        return delegate.count();
+    }
+}
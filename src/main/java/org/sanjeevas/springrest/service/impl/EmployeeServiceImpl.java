@@ -2,28 +2,71 @@ package org.sanjeevas.springrest.service.impl;
 
 import org.sanjeevas.springrest.Employee;
 import org.sanjeevas.springrest.EmployeeRepository;
+import org.sanjeevas.springrest.cache.EmployeeCounter;
+import org.sanjeevas.springrest.cache.EmployeeListCache;
 import org.sanjeevas.springrest.dto.EmployeeDto;
+import org.sanjeevas.springrest.dto.SuggestionDto;
+import org.sanjeevas.springrest.event.EmployeeChangeEvent;
+import org.sanjeevas.springrest.event.EmployeeChangePublisher;
+import org.sanjeevas.springrest.exception.EmployeePreconditionFailedException;
+import org.sanjeevas.springrest.index.EmployeeNameIndex;
+import org.sanjeevas.springrest.index.FuzzyTokenIndex;
+import org.sanjeevas.springrest.index.EmployeeRoleIndex;
+import org.sanjeevas.springrest.index.EmployeeSuggestionIndex;
+import org.sanjeevas.springrest.index.TermCount;
 import org.sanjeevas.springrest.mapper.EmployeeMapper;
+import org.sanjeevas.springrest.query.EmployeeField;
+import org.sanjeevas.springrest.query.EmployeeFilter;
+import org.sanjeevas.springrest.query.EmployeeFullTextSearch;
+import org.sanjeevas.springrest.query.EmployeeProjectionQuery;
+import org.sanjeevas.springrest.query.EmployeeRowWriter;
+import org.sanjeevas.springrest.query.EmployeeSpecifications;
+import org.sanjeevas.springrest.security.SecurityUtils;
 import org.sanjeevas.springrest.service.EmployeeService;
+import org.sanjeevas.springrest.service.UpsertResult;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.Caching;
+import org.springframework.cache.support.NullValue;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 /**
  * Implementation of EmployeeService with caching and transaction management
+ * List reads limited to some fields select only those columns
+ * Writes by ID other than an unconditional PATCH are one conditional statement
  * 
  * @author Sanjeeva
- * @version 1.0
+ * @version 1.3
  */
 @Service
 @Transactional
@@ -31,22 +74,61 @@ public class EmployeeServiceImpl implements EmployeeService {
 
     private static final Logger logger = LoggerFactory.getLogger(EmployeeServiceImpl.class);
 
+    private static final String EMPLOYEE_CACHE = "employee";
+
+    // Ids loaded per query when materializing index matches
+    private static final int SEARCH_LOAD_CHUNK = 1000;
+
+    // Most index candidates a filter query narrows to by primary key
+    private static final int FILTER_CANDIDATE_LIMIT = 1000;
+
+    private static final Specification<Employee> EVERY_EMPLOYEE = (root, query, cb) -> null;
+
     private final EmployeeRepository employeeRepository;
     private final EmployeeMapper employeeMapper;
+    private final EmployeeListCache employeeListCache;
+    private final EmployeeCounter employeeCounter;
+    private final CacheManager cacheManager;
+    private final EmployeeNameIndex employeeNameIndex;
+    private final EmployeeSuggestionIndex employeeSuggestionIndex;
+    private final EmployeeRoleIndex employeeRoleIndex;
+    private final EmployeeFullTextSearch employeeFullTextSearch;
+    private final EmployeeProjectionQuery employeeProjectionQuery;
+    private final EmployeeRowWriter employeeRowWriter;
+    private final EmployeeChangePublisher employeeChangePublisher;
 
-    public EmployeeServiceImpl(EmployeeRepository employeeRepository, EmployeeMapper employeeMapper) {
+    public EmployeeServiceImpl(EmployeeRepository employeeRepository, EmployeeMapper employeeMapper,
+                               EmployeeListCache employeeListCache, EmployeeCounter employeeCounter,
+                               CacheManager cacheManager, EmployeeNameIndex employeeNameIndex,
+                               EmployeeSuggestionIndex employeeSuggestionIndex,
+                               EmployeeRoleIndex employeeRoleIndex,
+                               EmployeeFullTextSearch employeeFullTextSearch,
+                               EmployeeProjectionQuery employeeProjectionQuery,
+                               EmployeeRowWriter employeeRowWriter,
+                               EmployeeChangePublisher employeeChangePublisher) {
         this.employeeRepository = employeeRepository;
         this.employeeMapper = employeeMapper;
+        this.employeeListCache = employeeListCache;
+        this.employeeCounter = employeeCounter;
+        this.cacheManager = cacheManager;
+        this.employeeNameIndex = employeeNameIndex;
+        this.employeeSuggestionIndex = employeeSuggestionIndex;
+        this.employeeRoleIndex = employeeRoleIndex;
+        this.employeeFullTextSearch = employeeFullTextSearch;
+        this.employeeProjectionQuery = employeeProjectionQuery;
+        this.employeeRowWriter = employeeRowWriter;
+        this.employeeChangePublisher = employeeChangePublisher;
     }
 
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "employees", key = "'all'")
     public List<EmployeeDto> findAll() {
         logger.debug("Fetching all employees");
-        List<Employee> employees = employeeRepository.findAll();
-        logger.info("Retrieved {} employees", employees.size());
-        return employeeMapper.toDtoList(employees);
+        return employeeListCache.getAll(() -> {
+            List<EmployeeDto> employees = employeeRepository.findAllAsDto();
+            logger.info("Retrieved {} employees", employees.size());
+            return employees;
+        });
     }
 
     @Override
@@ -54,12 +136,66 @@ public class EmployeeServiceImpl implements EmployeeService {
     public Page<EmployeeDto> findAll(Pageable pageable) {
         logger.debug("Fetching employees with pagination: page={}, size={}", 
                     pageable.getPageNumber(), pageable.getPageSize());
-        Page<Employee> employeePage = employeeRepository.findAll(pageable);
+        Page<EmployeeDto> employeePage = employeeRepository.findAllAsDto(pageable);
         logger.info("Retrieved {} employees from page {} of {}", 
                    employeePage.getNumberOfElements(), 
                    employeePage.getNumber(), 
                    employeePage.getTotalPages());
-        return employeePage.map(employeeMapper::toDto);
+        return employeePage;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<EmployeeDto> findSlice(Pageable pageable) {
+        logger.debug("Fetching employee slice: page={}, size={}", 
+                    pageable.getPageNumber(), pageable.getPageSize());
+        Slice<EmployeeDto> employeeSlice = employeeRepository.findSliceAsDto(pageable);
+        logger.info("Retrieved {} employees from page {}, hasNext={}", 
+                   employeeSlice.getNumberOfElements(), 
+                   employeeSlice.getNumber(), 
+                   employeeSlice.hasNext());
+        return employeeSlice;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<EmployeeDto> findAll(Pageable pageable, Set<EmployeeField> fields) {
+        if (fields.containsAll(EmployeeField.ALL)) {
+            return findAll(pageable);
+        }
+        logger.debug("Fetching employees with fields {}: page={}, size={}", 
+                    fields, pageable.getPageNumber(), pageable.getPageSize());
+        Page<EmployeeDto> employeePage = employeeProjectionQuery.findPage(EVERY_EMPLOYEE, fields, pageable);
+        logger.info("Retrieved {} employees with fields {} from page {} of {}", 
+                   employeePage.getNumberOfElements(), fields, 
+                   employeePage.getNumber(), 
+                   employeePage.getTotalPages());
+        return employeePage;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<EmployeeDto> findSlice(Pageable pageable, Set<EmployeeField> fields) {
+        if (fields.containsAll(EmployeeField.ALL)) {
+            return findSlice(pageable);
+        }
+        logger.debug("Fetching employee slice with fields {}: page={}, size={}", 
+                    fields, pageable.getPageNumber(), pageable.getPageSize());
+        Slice<EmployeeDto> employeeSlice = employeeProjectionQuery.findSlice(EVERY_EMPLOYEE, fields, pageable);
+        logger.info("Retrieved {} employees with fields {} from page {}, hasNext={}", 
+                   employeeSlice.getNumberOfElements(), fields, 
+                   employeeSlice.getNumber(), 
+                   employeeSlice.hasNext());
+        return employeeSlice;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Window<EmployeeDto> findAll(ScrollPosition position, Sort sort, int size) {
+        logger.debug("Scrolling employees: sort={}, size={}", sort, size);
+        Window<Employee> window = employeeRepository.findAllBy(position, sort, Limit.of(size));
+        logger.info("Retrieved {} employees, hasNext={}", window.size(), window.hasNext());
+        return window.map(employeeMapper::toDto);
     }
 
     @Override
@@ -78,7 +214,76 @@ public class EmployeeServiceImpl implements EmployeeService {
     }
 
     @Override
-    @CacheEvict(value = "employees", key = "'all'")
+    @Transactional(readOnly = true)
+    public Map<Long, Optional<EmployeeDto>> findAllById(Collection<Long> ids) {
+        return findAllById(ids, true);
+    }
+
+    /**
+     * Look up employees in the employee cache and load the misses in one query
+     *
+     * @param ids Employee IDs
+     * @param backfill Whether to cache loaded employees; bulk loads pass false so
+     *                 one large listing does not evict the entries other reads keep hot
+     * @return Each requested ID with its employee, in request order
+     */
+    private Map<Long, Optional<EmployeeDto>> findAllById(Collection<Long> ids, boolean backfill) {
+        Set<Long> requested = new LinkedHashSet<>(ids);
+        logger.debug("Fetching {} employees by id", requested.size());
+
+        Cache cache = cacheManager.getCache(EMPLOYEE_CACHE);
+        Map<Long, Optional<EmployeeDto>> cached = cachedEmployees(cache, requested);
+        List<Long> misses = new ArrayList<>();
+        for (Long id : requested) {
+            if (!cached.containsKey(id)) {
+                misses.add(id);
+            }
+        }
+
+        Map<Long, EmployeeDto> loaded = misses.isEmpty() ? Map.of() : employeeRepository.findAllAsDtoById(misses)
+                .stream()
+                .collect(Collectors.toMap(EmployeeDto::getId, Function.identity()));
+
+        Map<Long, Optional<EmployeeDto>> results = new LinkedHashMap<>();
+        for (Long id : requested) {
+            Optional<EmployeeDto> employee = cached.get(id);
+            if (employee == null) {
+                employee = Optional.ofNullable(loaded.get(id));
+                if (backfill) {
+                    // Same entry findById would have cached, including the not-found marker
+                    cache.put(id, employee.orElse(null));
+                }
+            }
+            results.put(id, employee);
+        }
+
+        logger.info("Found employees by id - requested: {}, cache hits: {}, loaded: {}",
+                   requested.size(), requested.size() - misses.size(), loaded.size());
+        return results;
+    }
+
+    /**
+     * Look up all requested IDs in one pass over the native Caffeine cache where available
+     */
+    @SuppressWarnings("unchecked")
+    private static Map<Long, Optional<EmployeeDto>> cachedEmployees(Cache cache, Set<Long> ids) {
+        Map<Long, Optional<EmployeeDto>> cached = new HashMap<>();
+        if (cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache) {
+            ((com.github.benmanes.caffeine.cache.Cache<Object, Object>) nativeCache).getAllPresent(ids)
+                    .forEach((id, value) -> cached.put((Long) id,
+                            value instanceof NullValue ? Optional.empty() : Optional.of((EmployeeDto) value)));
+            return cached;
+        }
+        for (Long id : ids) {
+            Cache.ValueWrapper wrapper = cache.get(id);
+            if (wrapper != null) {
+                cached.put(id, Optional.ofNullable((EmployeeDto) wrapper.get()));
+            }
+        }
+        return cached;
+    }
+
+    @Override
     public EmployeeDto create(EmployeeDto employeeDto) {
         logger.debug("Creating new employee: {}", employeeDto);
         
@@ -90,71 +295,156 @@ public class EmployeeServiceImpl implements EmployeeService {
     }
 
     @Override
-    @Caching(
-        put = @CachePut(value = "employee", key = "#id"),
-        evict = @CacheEvict(value = "employees", key = "'all'")
-    )
-    public EmployeeDto update(Long id, EmployeeDto employeeDto) {
+    public UpsertResult update(Long id, EmployeeDto employeeDto) {
         logger.debug("Updating employee with id: {}, data: {}", id, employeeDto);
-        
-        return employeeRepository.findById(id)
-            .map(existingEmployee -> {
-                existingEmployee.setName(employeeDto.getName());
-                existingEmployee.setRole(employeeDto.getRole());
-                Employee updatedEmployee = employeeRepository.save(existingEmployee);
-                logger.info("Employee updated successfully with id: {}", id);
-                return employeeMapper.toDto(updatedEmployee);
-            })
-            .orElseGet(() -> {
-                logger.info("Employee not found with id: {}, creating new employee", id);
-                Employee newEmployee = employeeMapper.toEntity(employeeDto);
-                Employee savedEmployee = employeeRepository.save(newEmployee);
-                logger.info("Employee created successfully with id: {}", savedEmployee.getId());
-                return employeeMapper.toDto(savedEmployee);
-            });
-    }
-
-    @Override
-    @Caching(
-        put = @CachePut(value = "employee", key = "#id"),
-        evict = @CacheEvict(value = "employees", key = "'all'")
-    )
+
+        // One UPDATE, no read first: the row count tells whether the employee exists
+        String name = SecurityUtils.validateAndSanitizeName(employeeDto.getName());
+        String role = SecurityUtils.validateAndSanitizeRole(employeeDto.getRole());
+        if (!employeeRowWriter.update(id, null, name, role)) {
+            logger.info("Employee not found with id: {}, creating new employee", id);
+            Employee savedEmployee = employeeRepository.save(employeeMapper.toEntity(employeeDto));
+            logger.info("Employee created successfully with id: {}", savedEmployee.getId());
+            return new UpsertResult(employeeMapper.toDto(savedEmployee), true);
+        }
+
+        logger.info("Employee updated successfully with id: {}", id);
+        return new UpsertResult(updated(new EmployeeDto(id, name, role)), false);
+    }
+
+    @Override
+    public EmployeeDto replace(Long id, EmployeeDto employeeDto, Long expectedVersion) {
+        logger.debug("Replacing employee with id: {} at version: {}, data: {}", id, expectedVersion, employeeDto);
+
+        String name = SecurityUtils.validateAndSanitizeName(employeeDto.getName());
+        String role = SecurityUtils.validateAndSanitizeRole(employeeDto.getRole());
+        // The version check is part of the UPDATE, so a stale or missing row costs no read
+        if (!employeeRowWriter.update(id, expectedVersion, name, role)) {
+            logger.warn("Employee with id: {} not at version: {}, not replaced", id, expectedVersion);
+            throw new EmployeePreconditionFailedException(id);
+        }
+        logger.info("Employee replaced successfully with id: {}", id);
+        return updated(new EmployeeDto(id, name, role, expectedVersion == null ? null : expectedVersion + 1));
+    }
+
+    /**
+     * Publish and cache an employee written by a single UPDATE
+     *
+     * @param employee Post-change state, with its version if known
+     */
+    private EmployeeDto updated(EmployeeDto employee) {
+        // The UPDATE bypasses the entity listener, so the change is published here
+        employeeChangePublisher.publish(EmployeeChangeEvent.updated(employee));
+        Cache cache = cacheManager.getCache(EMPLOYEE_CACHE);
+        if (employee.getVersion() != null) {
+            cache.put(employee.getId(), employee);
+        } else {
+            // The new version is not read back, so the next findById reloads it rather than caching it unversioned
+            cache.evict(employee.getId());
+        }
+        return employee;
+    }
+
+    @Override
+    @CachePut(value = "employee", key = "#id")
     public EmployeeDto partialUpdate(Long id, EmployeeDto employeeDto) {
         logger.debug("Partially updating employee with id: {}, data: {}", id, employeeDto);
         
+        // Loaded from the second-level cache when present; the UPDATE sets only changed columns
         return employeeRepository.findById(id)
-            .map(existingEmployee -> {
-                employeeMapper.updateEntityFromDto(employeeDto, existingEmployee);
-                Employee updatedEmployee = employeeRepository.save(existingEmployee);
-                logger.info("Employee partially updated successfully with id: {}", id);
-                return employeeMapper.toDto(updatedEmployee);
-            })
+            .map(existingEmployee -> applyPartialUpdate(existingEmployee, employeeDto))
             .orElse(null);
     }
 
     @Override
-    @Caching(evict = {
-        @CacheEvict(value = "employee", key = "#id"),
-        @CacheEvict(value = "employees", key = "'all'")
-    })
+    public EmployeeDto partialUpdate(Long id, EmployeeDto employeeDto, Long expectedVersion) {
+        logger.debug("Partially updating employee with id: {} at version: {}, data: {}", 
+                    id, expectedVersion, employeeDto);
+
+        String name = employeeDto.getName() == null
+                ? null : SecurityUtils.validateAndSanitizeName(employeeDto.getName());
+        String role = employeeDto.getRole() == null
+                ? null : SecurityUtils.validateAndSanitizeRole(employeeDto.getRole());
+        if (name == null && role == null) {
+            // Nothing to write, so the version is checked against the employee as it is
+            return findById(id)
+                .filter(employee -> expectedVersion == null || expectedVersion.equals(employee.getVersion()))
+                .orElseThrow(() -> {
+                    logger.warn("Employee with id: {} not at version: {}, not updated", id, expectedVersion);
+                    return new EmployeePreconditionFailedException(id);
+                });
+        }
+
+        // As for replace, the UPDATE sets only the given columns and checks the version itself
+        if (!employeeRowWriter.update(id, expectedVersion, name, role)) {
+            logger.warn("Employee with id: {} not at version: {}, not updated", id, expectedVersion);
+            throw new EmployeePreconditionFailedException(id);
+        }
+        EmployeeDto employee = merged(id, expectedVersion, name, role);
+        logger.info("Employee partially updated successfully with id: {}", id);
+        return updated(employee);
+    }
+
+    /**
+     * Post-change state of an employee after a partial UPDATE
+     * The cached employee at the expected version is the row the UPDATE started
+     * from, so fields left unchanged come from it; otherwise the row is read back
+     */
+    private EmployeeDto merged(Long id, Long expectedVersion, String name, String role) {
+        Cache.ValueWrapper cached = expectedVersion == null ? null : cacheManager.getCache(EMPLOYEE_CACHE).get(id);
+        if (cached != null && cached.get() instanceof EmployeeDto before
+                && expectedVersion.equals(before.getVersion())) {
+            return new EmployeeDto(id, name != null ? name : before.getName(), role != null ? role : before.getRole(),
+                                   expectedVersion + 1);
+        }
+        return employeeRepository.findById(id)
+            .map(employeeMapper::toDto)
+            .orElseThrow(() -> new EmployeePreconditionFailedException(id));
+    }
+
+    private EmployeeDto applyPartialUpdate(Employee existingEmployee, EmployeeDto employeeDto) {
+        employeeMapper.updateEntityFromDto(employeeDto, existingEmployee);
+        // Flushed now so the cached DTO carries the bumped version
+        Employee updatedEmployee = employeeRepository.saveAndFlush(existingEmployee);
+        logger.info("Employee partially updated successfully with id: {}", updatedEmployee.getId());
+        return employeeMapper.toDto(updatedEmployee);
+    }
+
+    @Override
+    @CacheEvict(value = "employee", key = "#id")
     public boolean deleteById(Long id) {
         logger.debug("Deleting employee with id: {}", id);
         
-        if (employeeRepository.existsById(id)) {
-            employeeRepository.deleteById(id);
-            logger.info("Employee deleted successfully with id: {}", id);
-            return true;
-        } else {
+        // One DELETE, no read first: the row count tells whether the employee existed
+        if (!employeeRowWriter.delete(id, null)) {
             logger.warn("Employee not found for deletion with id: {}", id);
             return false;
         }
+        // The DELETE bypasses the entity listener, so the change is published here
+        employeeChangePublisher.publish(EmployeeChangeEvent.deleted(id));
+        logger.info("Employee deleted successfully with id: {}", id);
+        return true;
+    }
+
+    @Override
+    @CacheEvict(value = "employee", key = "#id")
+    public void deleteById(Long id, Long expectedVersion) {
+        logger.debug("Deleting employee with id: {} at version: {}", id, expectedVersion);
+
+        if (!employeeRowWriter.delete(id, expectedVersion)) {
+            logger.warn("Employee with id: {} not at version: {}, not deleted", id, expectedVersion);
+            throw new EmployeePreconditionFailedException(id);
+        }
+        employeeChangePublisher.publish(EmployeeChangeEvent.deleted(id));
+        logger.info("Employee deleted successfully with id: {}", id);
     }
 
     @Override
     @Transactional(readOnly = true)
     public boolean existsById(Long id) {
         logger.debug("Checking if employee exists with id: {}", id);
-        boolean exists = employeeRepository.existsById(id);
+        // Served by the second-level entity cache, where existsById always queries
+        boolean exists = employeeRepository.findById(id).isPresent();
         logger.debug("Employee exists with id {}: {}", id, exists);
         return exists;
     }
@@ -163,26 +453,219 @@ public class EmployeeServiceImpl implements EmployeeService {
     @Transactional(readOnly = true)
     public List<EmployeeDto> findByNameContainingIgnoreCase(String name) {
         logger.debug("Searching employees by name containing: {}", name);
-        List<Employee> employees = employeeRepository.findByNameContainingIgnoreCase(name);
+        Optional<long[]> indexed = employeeNameIndex.search(name);
+        if (indexed.isPresent()) {
+            List<EmployeeDto> employees = loadMatches(indexed.get(), nameContains(name));
+            logger.info("Found {} employees matching name via index: {}", employees.size(), name);
+            return employees;
+        }
+        List<EmployeeDto> employees = employeeRepository.findAsDtoByNameContainingIgnoreCase(name);
         logger.info("Found {} employees matching name: {}", employees.size(), name);
-        return employeeMapper.toDtoList(employees);
+        return employees;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<EmployeeDto> findByNameContainingIgnoreCase(String name, Pageable pageable) {
+        logger.debug("Searching employees by name: {}, page={}, size={}", 
+                    name, pageable.getPageNumber(), pageable.getPageSize());
+        Optional<Page<Long>> matched = employeeFullTextSearch.search(name, pageable);
+        if (matched.isPresent()) {
+            Page<Long> ids = matched.get();
+            List<EmployeeDto> employees = new ArrayList<>(ids.getNumberOfElements());
+            // Ids come back in request order; employees deleted since the search are skipped
+            findAllById(ids.getContent()).values().forEach(employee -> employee.ifPresent(employees::add));
+            logger.info("Found {} of {} employees matching name via full-text index: {}", 
+                       employees.size(), ids.getTotalElements(), name);
+            return new PageImpl<>(employees, pageable, ids.getTotalElements());
+        }
+        return findAll(EmployeeFilter.of(name, null), pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<EmployeeDto> findByNameFuzzy(String name, String role, int maxEdits, int limit) {
+        logger.debug("Fuzzy searching employees by name: {} with role: {}, maxEdits: {}", name, role, maxEdits);
+        int edits = Math.min(maxEdits, employeeNameIndex.getMaxEdits());
+        Optional<long[]> indexed = role == null
+                ? employeeNameIndex.searchFuzzy(name, edits, limit, null)
+                : employeeRoleIndex.members(role)
+                        .flatMap(members -> employeeNameIndex.searchFuzzy(name, edits, limit, members));
+        if (indexed.isPresent()) {
+            Predicate<EmployeeDto> stillMatches = dto -> FuzzyTokenIndex.score(name, dto.getName(), edits) >= 0;
+            List<EmployeeDto> employees = loadMatches(indexed.get(),
+                    role == null ? stillMatches : stillMatches.and(hasRole(role)));
+            // Stable, so ties keep the index's id order
+            employees.sort(Comparator.comparingInt(dto -> FuzzyTokenIndex.score(name, dto.getName(), edits)));
+            logger.info("Found {} employees close to name via index: {}", employees.size(), name);
+            return employees;
+        }
+        // The database has no edit distance; exact substrings are the closest it offers
+        logger.info("Fuzzy name index unavailable, matching substrings of: {}", name);
+        List<EmployeeDto> employees = role == null
+                ? findByNameContainingIgnoreCase(name)
+                : findByNameContainingIgnoreCaseAndRole(name, role);
+        return employees.size() > limit ? new ArrayList<>(employees.subList(0, limit)) : employees;
+    }
+
+    /**
+     * Load index matches, reading the employee cache without filling it, and drop
+     * any that changed and no longer match after the index answered
+     */
+    private List<EmployeeDto> loadMatches(long[] ids, Predicate<EmployeeDto> stillMatches) {
+        List<EmployeeDto> employees = new ArrayList<>(ids.length);
+        for (int from = 0; from < ids.length; from += SEARCH_LOAD_CHUNK) {
+            List<Long> chunk = new ArrayList<>(Math.min(SEARCH_LOAD_CHUNK, ids.length - from));
+            for (int i = from; i < Math.min(from + SEARCH_LOAD_CHUNK, ids.length); i++) {
+                chunk.add(ids[i]);
+            }
+            findAllById(chunk, false).values().forEach(employee -> employee
+                    .filter(stillMatches)
+                    .ifPresent(employees::add));
+        }
+        return employees;
+    }
+
+    private static Predicate<EmployeeDto> nameContains(String name) {
+        String query = name.toLowerCase(Locale.ROOT);
+        return dto -> dto.getName().toLowerCase(Locale.ROOT).contains(query);
+    }
+
+    private static Predicate<EmployeeDto> hasRole(String role) {
+        String roleKey = Employee.roleKeyOf(role);
+        return dto -> roleKey != null && roleKey.equals(Employee.roleKeyOf(dto.getRole()));
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<EmployeeDto> findByRole(String role) {
         logger.debug("Searching employees by role: {}", role);
-        List<Employee> employees = employeeRepository.findByRole(role);
+        Optional<long[]> indexed = employeeRoleIndex.ids(role);
+        if (indexed.isPresent()) {
+            List<EmployeeDto> employees = loadMatches(indexed.get(), hasRole(role));
+            logger.info("Found {} employees with role via index: {}", employees.size(), role);
+            return employees;
+        }
+        List<EmployeeDto> employees = employeeRepository.findAsDtoByRole(role);
         logger.info("Found {} employees with role: {}", employees.size(), role);
-        return employeeMapper.toDtoList(employees);
+        return employees;
     }
 
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "employeeCount")
+    public List<EmployeeDto> findByNameContainingIgnoreCaseAndRole(String name, String role) {
+        logger.debug("Searching employees by name containing: {} with role: {}", name, role);
+        Optional<long[]> indexed = employeeRoleIndex.members(role)
+                .flatMap(members -> employeeNameIndex.search(name, members));
+        if (indexed.isPresent()) {
+            List<EmployeeDto> employees = loadMatches(indexed.get(), nameContains(name).and(hasRole(role)));
+            logger.info("Found {} employees matching name: {} with role via index: {}", employees.size(), name, role);
+            return employees;
+        }
+        List<EmployeeDto> employees = employeeRepository.findAsDtoByNameContainingIgnoreCaseAndRole(name, role);
+        logger.info("Found {} employees matching name: {} with role: {}", employees.size(), name, role);
+        return employees;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<EmployeeDto> findAll(EmployeeFilter filter, Pageable pageable) {
+        logger.debug("Filtering employees by {}: page={}, size={}", 
+                    filter, pageable.getPageNumber(), pageable.getPageSize());
+        long[] candidates = filterCandidates(filter);
+        if (candidates != null && candidates.length == 0) {
+            logger.info("No employees match {} according to the indexes", filter);
+            return Page.empty(pageable);
+        }
+        Page<Employee> employeePage = employeeRepository.findAll(
+                EmployeeSpecifications.matching(filter, candidates), pageable);
+        logger.info("Filtered {} of {} employees on page {}", 
+                   employeePage.getNumberOfElements(), 
+                   employeePage.getTotalElements(), 
+                   employeePage.getNumber());
+        return employeePage.map(employeeMapper::toDto);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<EmployeeDto> findAll(EmployeeFilter filter, Pageable pageable, Set<EmployeeField> fields) {
+        if (fields.containsAll(EmployeeField.ALL)) {
+            return findAll(filter, pageable);
+        }
+        logger.debug("Filtering employees by {} with fields {}: page={}, size={}", 
+                    filter, fields, pageable.getPageNumber(), pageable.getPageSize());
+        long[] candidates = filterCandidates(filter);
+        if (candidates != null && candidates.length == 0) {
+            logger.info("No employees match {} according to the indexes", filter);
+            return Page.empty(pageable);
+        }
+        Page<EmployeeDto> employeePage = employeeProjectionQuery.findPage(
+                EmployeeSpecifications.matching(filter, candidates), fields, pageable);
+        logger.info("Filtered {} of {} employees with fields {} on page {}", 
+                   employeePage.getNumberOfElements(), 
+                   employeePage.getTotalElements(), 
+                   fields, 
+                   employeePage.getNumber());
+        return employeePage;
+    }
+
+    /**
+     * Ids the name index proves contain every match, within the role bitmap when
+     * a role is given, so the query reads them by primary key instead of
+     * matching the name against every row in range
+     * 
+     * @return Candidate ids, or null if the indexes cannot narrow the filter
+     */
+    private long[] filterCandidates(EmployeeFilter filter) {
+        if (filter.name() == null) {
+            return null;
+        }
+        Optional<long[]> indexed = filter.role() == null
+                ? employeeNameIndex.search(filter.name())
+                : employeeRoleIndex.members(filter.role())
+                        .flatMap(members -> employeeNameIndex.search(filter.name(), members));
+        return indexed.filter(ids -> ids.length <= FILTER_CANDIDATE_LIMIT).orElse(null);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long countByRole(String role) {
+        logger.debug("Counting employees with role: {}", role);
+        long count = employeeRoleIndex.count(role)
+                .orElseGet(() -> employeeRepository.countByRoleIgnoreCase(role));
+        logger.info("Employee count with role {}: {}", role, count);
+        return count;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<SuggestionDto> suggest(String prefix, int limit) {
+        Optional<List<SuggestionDto>> indexed = employeeSuggestionIndex.suggest(prefix, limit);
+        if (indexed.isPresent()) {
+            logger.debug("Suggested {} names and roles for prefix: {}", indexed.get().size(), prefix);
+            return indexed.get();
+        }
+        List<SuggestionDto> suggestions = new ArrayList<>(2 * limit);
+        for (TermCount name : employeeRepository.countByNameStartingWithIgnoreCase(prefix, limit)) {
+            suggestions.add(new SuggestionDto(name.text(), SuggestionDto.Type.NAME, Math.toIntExact(name.count())));
+        }
+        for (TermCount role : employeeRepository.countByRoleStartingWithIgnoreCase(prefix, limit)) {
+            suggestions.add(new SuggestionDto(role.text(), SuggestionDto.Type.ROLE, Math.toIntExact(role.count())));
+        }
+        // Same order as the index: alphabetical, a name before a role with the same text
+        suggestions.sort(Comparator
+                .comparing((SuggestionDto suggestion) -> suggestion.getText().toLowerCase(Locale.ROOT))
+                .thenComparing(SuggestionDto::getType));
+        List<SuggestionDto> first = suggestions.size() > limit ? suggestions.subList(0, limit) : suggestions;
+        logger.debug("Suggested {} names and roles from the database for prefix: {}", first.size(), prefix);
+        return first;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public long count() {
         logger.debug("Counting total employees");
-        long count = employeeRepository.count();
+        long count = employeeCounter.get();
         logger.info("Total employee count: {}", count);
         return count;
     }
@@ -0,0 +1,54 @@
+package org.sanjeevas.springrest.web;
+
+import org.sanjeevas.springrest.EmployeeController;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Gives each encoding of an employee representation its own ETag
+ * The tag is set before content negotiation picks a converter; once the body's
+ * content type and Content-Encoding are known, the suffix of a binary or gzip
+ * encoding is added, so caches never take one encoding's bytes for another's.
+ *
+ * @author Sanjeeva
+ * @version 1.0
+ */
+@ControllerAdvice(assignableTypes = EmployeeController.class)
+public class EmployeeETagAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        HttpHeaders headers = response.getHeaders();
+        String tag = headers.getETag();
+        // A 304 echoes the tag the client sent, naming the encoding it holds
+        if (tag == null || body == null) {
+            return body;
+        }
+        String variant = EmployeeETags.variantTag(tag, selectedContentType,
+                headers.getFirst(HttpHeaders.CONTENT_ENCODING));
+        if (!variant.equals(tag)) {
+            // Conditional checks set the tag on the servlet response, ResponseEntity on the headers
+            headers.remove(HttpHeaders.ETAG);
+            if (response instanceof ServletServerHttpResponse servletResponse) {
+                servletResponse.getServletResponse().setHeader(HttpHeaders.ETAG, variant);
+            } else {
+                headers.setETag(variant);
+            }
+        }
+        return body;
+    }
+}
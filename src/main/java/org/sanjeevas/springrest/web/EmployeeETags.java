@@ -0,0 +1,219 @@
+package org.sanjeevas.springrest.web;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.sanjeevas.springrest.cache.EmployeeChangeStamp;
+import org.sanjeevas.springrest.dto.EmployeeDto;
+import org.sanjeevas.springrest.exception.EmployeePreconditionFailedException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.Map;
+
+/**
+ * Strong ETags and conditional GET for employee resources
+ * A single employee is tagged by ID and row version; anything computed from
+ * the whole collection is tagged by the {@link EmployeeChangeStamp}, which also
+ * supplies Last-Modified. Both checks set the validators on the response and
+ * report whether the client's copy is current, so the caller can answer 304
+ * without building or serializing a body. The same employee tags, sent back
+ * in If-Match, make writes conditional on the version the client last saw.
+ * Each encoding of a version is its own representation, so {@link EmployeeETagAdvice}
+ * suffixes the tag of gzip, CBOR, Smile and protobuf bodies (e.g. "7-3-gz");
+ * If-None-Match and If-Match accept any encoding of the current version.
+ *
+ * @author Sanjeeva
+ * @version 1.3
+ */
+@Component
+public class EmployeeETags {
+
+    static final String CONDITIONAL_METRIC = "employee.requests.conditional";
+
+    /**
+     * Tag suffix of each binary encoding; JSON bodies carry none
+     */
+    private static final Map<String, String> ENCODING_VARIANTS = Map.of(
+            "application/cbor", "cbor",
+            "application/x-jackson-smile", "smile",
+            "application/x-protobuf", "proto");
+    private static final String GZIP_VARIANT = "gz";
+
+    private final EmployeeChangeStamp changeStamp;
+    private final Counter resourceNotModified;
+    private final Counter resourceModified;
+    private final Counter collectionNotModified;
+    private final Counter collectionModified;
+
+    public EmployeeETags(EmployeeChangeStamp changeStamp, MeterRegistry meterRegistry) {
+        this.changeStamp = changeStamp;
+        this.resourceNotModified = conditionalCounter(meterRegistry, "resource", "not_modified");
+        this.resourceModified = conditionalCounter(meterRegistry, "resource", "modified");
+        this.collectionNotModified = conditionalCounter(meterRegistry, "collection", "not_modified");
+        this.collectionModified = conditionalCounter(meterRegistry, "collection", "modified");
+    }
+
+    private static Counter conditionalCounter(MeterRegistry meterRegistry, String scope, String result) {
+        return Counter.builder(CONDITIONAL_METRIC)
+                .description("Conditional GETs by whether the client's copy was still current")
+                .tag("scope", scope)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Validate a view of the whole collection against the change stamp
+     * Call before loading anything: the stamp must not be newer than the data
+     *
+     * @param request Current request
+     * @return true if a 304 has been prepared and no body should be returned
+     */
+    public boolean checkCollection(WebRequest request) {
+        varyByAccept(request);
+        String tag = matchingVariant(request, collectionTag(changeStamp.get()));
+        boolean notModified = request.checkNotModified(tag, changeStamp.lastModified());
+        record(request, notModified, collectionNotModified, collectionModified);
+        return notModified;
+    }
+
+    /**
+     * Validate a single employee against its ID and version
+     *
+     * @param request Current request
+     * @param employee Employee as loaded; without a version no ETag is set
+     * @return true if a 304 has been prepared and no body should be returned
+     */
+    public boolean checkResource(WebRequest request, EmployeeDto employee) {
+        if (employee.getVersion() == null) {
+            return false;
+        }
+        varyByAccept(request);
+        String tag = matchingVariant(request, resourceTag(employee.getId(), employee.getVersion()));
+        boolean notModified = request.checkNotModified(tag);
+        record(request, notModified, resourceNotModified, resourceModified);
+        return notModified;
+    }
+
+    /**
+     * Read the version an If-Match header requires of one employee
+     * If-Match compares strongly, so weak tags and tags of other employees never match;
+     * the tag of any encoding names the version
+     *
+     * @param id Employee being written
+     * @param ifMatch If-Match header value
+     * @return Version from the first tag naming the employee, or null for "*" (any version)
+     * @throws EmployeePreconditionFailedException if no tag names the employee
+     */
+    public Long requiredVersion(Long id, String ifMatch) {
+        String prefix = "\"" + id + "-";
+        for (String tag : ifMatch.split(",")) {
+            String candidate = tag.trim();
+            if (candidate.equals("*")) {
+                return null;
+            }
+            if (candidate.startsWith(prefix) && candidate.endsWith("\"") && candidate.length() > prefix.length() + 1) {
+                String version = candidate.substring(prefix.length(), candidate.length() - 1);
+                int variant = version.indexOf('-');
+                if (variant >= 0) {
+                    if (!isVariant(version.substring(variant + 1))) {
+                        continue;
+                    }
+                    version = version.substring(0, variant);
+                }
+                try {
+                    return Long.parseLong(version);
+                } catch (NumberFormatException ex) {
+                    // Not one of ours; keep looking
+                }
+            }
+        }
+        throw new EmployeePreconditionFailedException(id);
+    }
+
+    /**
+     * @return Quoted strong ETag for one version of one employee, as sent with identity JSON
+     */
+    public static String resourceTag(Long id, long version) {
+        return "\"" + id + "-" + version + "\"";
+    }
+
+    static String collectionTag(String stamp) {
+        return "\"c" + stamp + "\"";
+    }
+
+    /**
+     * Tag of one encoding of a representation
+     *
+     * @param tag Strong tag as set by the checks, naming the version only
+     * @param contentType Content type of the body
+     * @param contentEncoding Content-Encoding of the body, or null
+     * @return The tag with the suffix of each non-identity encoding, or the tag itself for JSON and weak tags
+     */
+    static String variantTag(String tag, MediaType contentType, String contentEncoding) {
+        if (!tag.startsWith("\"") || !tag.endsWith("\"") || tag.length() < 2) {
+            return tag;
+        }
+        StringBuilder variant = new StringBuilder(tag.length() + 10).append(tag, 0, tag.length() - 1);
+        if (contentType != null) {
+            String encoding = ENCODING_VARIANTS.get(contentType.getType() + "/" + contentType.getSubtype());
+            if (encoding != null) {
+                variant.append('-').append(encoding);
+            }
+        }
+        if ("gzip".equalsIgnoreCase(contentEncoding)) {
+            variant.append('-').append(GZIP_VARIANT);
+        }
+        return variant.length() == tag.length() - 1 ? tag : variant.append('"').toString();
+    }
+
+    /**
+     * The If-None-Match tag naming any encoding of the current representation, so the
+     * client's copy is validated whichever encoding it holds; the bare tag otherwise
+     */
+    private static String matchingVariant(WebRequest request, String tag) {
+        String[] ifNoneMatch = request.getHeaderValues(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch == null) {
+            return tag;
+        }
+        String prefix = tag.substring(0, tag.length() - 1) + "-";
+        for (String header : ifNoneMatch) {
+            for (String candidate : header.split(",")) {
+                String trimmed = candidate.trim();
+                if (trimmed.startsWith("W/")) {
+                    trimmed = trimmed.substring(2);
+                }
+                if (trimmed.startsWith(prefix) && trimmed.endsWith("\"") && trimmed.length() > prefix.length() + 1
+                        && isVariant(trimmed.substring(prefix.length(), trimmed.length() - 1))) {
+                    return trimmed;
+                }
+            }
+        }
+        return tag;
+    }
+
+    private static boolean isVariant(String suffix) {
+        for (String variant : suffix.split("-", -1)) {
+            if (!variant.equals(GZIP_VARIANT) && !ENCODING_VARIANTS.containsValue(variant)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void varyByAccept(WebRequest request) {
+        if (request instanceof ServletWebRequest servletRequest && servletRequest.getResponse() != null) {
+            servletRequest.getResponse().addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        }
+    }
+
+    private static void record(WebRequest request, boolean notModified, Counter hit, Counter miss) {
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) == null
+                && request.getHeader(HttpHeaders.IF_MODIFIED_SINCE) == null) {
+            return;
+        }
+        (notModified ? hit : miss).increment();
+    }
+}
@@ -0,0 +1,162 @@
+package org.sanjeevas.springrest.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.sanjeevas.springrest.dto.EmployeeDto;
+import org.sanjeevas.springrest.event.EmployeeChangeEvent;
+import org.sanjeevas.springrest.event.EmployeeChangeListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Opt-in cache of single-employee responses as ready-to-send JSON bytes
+ * Entries are keyed by ID and only served for the version they were made from,
+ * so a reader holding an older DTO can never be answered with newer bytes or
+ * the reverse; committed changes evict them to free the memory early. Bodies
+ * of at least app.cache.employee-json.gzip-min-size bytes also keep a gzip copy.
+ *
+ * @author Sanjeeva
+ * @version 1.1
+ */
+@Component
+public class EmployeeJsonCache implements EmployeeChangeListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeJsonCache.class);
+
+    public static final String CACHE_NAME = "employee-json";
+
+    private final Cache cache;
+    private final ObjectWriter writer;
+    private final boolean enabled;
+    private final int gzipMinSize;
+
+    public EmployeeJsonCache(CacheManager cacheManager, ObjectMapper objectMapper,
+                             @Value("${app.cache.employee-json.enabled:false}") boolean enabled,
+                             @Value("${app.cache.employee-json.gzip-min-size:1024}") int gzipMinSize) {
+        this.cache = cacheManager.getCache(CACHE_NAME);
+        // The mapper Spring MVC writes with, so cached bytes match a freshly serialized body
+        this.writer = objectMapper.writerFor(EmployeeDto.class);
+        this.enabled = enabled;
+        this.gzipMinSize = gzipMinSize;
+    }
+
+    /**
+     * Serialized form of one version of one employee; the arrays are shared and must not be modified
+     *
+     * @param version Version the bytes were made from
+     * @param json UTF-8 JSON body
+     * @param gzip Gzip-compressed JSON body, or null when the body is too small to be worth it
+     */
+    public record SerializedEmployee(long version, byte[] json, byte[] gzip) {
+    }
+
+    /**
+     * Return the JSON bytes of an employee, serializing and caching them on a miss
+     *
+     * @param employee Employee as loaded
+     * @return Serialized employee, or empty when disabled or the employee carries no version
+     */
+    public Optional<SerializedEmployee> get(EmployeeDto employee) {
+        if (!enabled || employee.getVersion() == null) {
+            return Optional.empty();
+        }
+        SerializedEmployee cached = cache.get(employee.getId(), SerializedEmployee.class);
+        if (cached != null && cached.version() == employee.getVersion()) {
+            return Optional.of(cached);
+        }
+        SerializedEmployee serialized = serialize(employee);
+        cache.put(employee.getId(), serialized);
+        return Optional.of(serialized);
+    }
+
+    private SerializedEmployee serialize(EmployeeDto employee) {
+        byte[] json;
+        try {
+            json = writer.writeValueAsBytes(employee);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not serialize employee " + employee.getId(), ex);
+        }
+        return new SerializedEmployee(employee.getVersion(), json, json.length >= gzipMinSize ? gzip(json) : null);
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(json.length / 2 + 32);
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+            out.write(json);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return compressed.toByteArray();
+    }
+
+    /**
+     * @return true if content negotiation would pick JSON for the request's Accept
+     *         header, as it does when the header is absent
+     */
+    public static boolean acceptsJson(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return true;
+        }
+        try {
+            List<MediaType> mediaTypes = new ArrayList<>(MediaType.parseMediaTypes(accept));
+            // Ordered by quality then specificity, as Spring MVC ranks them; JSON is the first converter
+            MimeTypeUtils.sortBySpecificity(mediaTypes);
+            MediaType preferred = mediaTypes.get(0);
+            return preferred.getQualityValue() > 0 && preferred.isCompatibleWith(MediaType.APPLICATION_JSON);
+        } catch (InvalidMediaTypeException ex) {
+            return false;
+        }
+    }
+
+    /**
+     * @return true if the request's Accept-Encoding header admits gzip without q=0
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.toLowerCase(Locale.ROOT).split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim();
+            if (name.equals("gzip") || name.equals("*")) {
+                return parts.length == 1 || !parts[1].trim().matches("q=0(\\.0{0,3})?");
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void onEmployeeChanges(List<EmployeeChangeEvent> events) {
+        if (!enabled) {
+            return;
+        }
+        for (EmployeeChangeEvent event : events) {
+            cache.evict(event.getId());
+        }
+    }
+
+    @Override
+    public void onOutcomeUnknown() {
+        if (enabled) {
+            logger.debug("Clearing employee JSON cache after an unknown transaction outcome");
+            cache.clear();
+        }
+    }
+}
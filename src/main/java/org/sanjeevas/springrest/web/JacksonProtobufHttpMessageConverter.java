@@ -0,0 +1,229 @@
+package org.sanjeevas.springrest.web;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.cfg.MapperConfig;
+import com.fasterxml.jackson.databind.introspect.AnnotatedClass;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.ser.VirtualBeanPropertyWriter;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.databind.util.Annotations;
+import com.fasterxml.jackson.databind.util.StdConverter;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufFactory;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchema;
+import com.fasterxml.jackson.dataformat.protobuf.schemagen.ProtobufSchemaGenerator;
+import org.sanjeevas.springrest.dto.EmployeeListResponseDto;
+import org.sanjeevas.springrest.dto.ErrorResponseDto;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Protobuf encoding of the API's DTOs through Jackson, with each message schema
+ * generated from its DTO class on first use
+ * Field numbers follow the DTO's property order, so new properties must be
+ * appended to stay wire compatible. Properties protobuf cannot express are
+ * adapted for this format only: navigation links become a repeated Link
+ * message and rejected values are sent as strings.
+ *
+ * @author Sanjeeva
+ * @version 1.1
+ */
+public class JacksonProtobufHttpMessageConverter extends AbstractJackson2HttpMessageConverter {
+
+    public static final MediaType APPLICATION_PROTOBUF = new MediaType("application", "x-protobuf");
+
+    private final Set<Class<?>> messageTypes;
+    private final Map<JavaType, ProtobufSchema> schemas = new ConcurrentHashMap<>();
+
+    /**
+     * @param builder Builder carrying the application's Jackson settings
+     * @param messageTypes DTO classes to read and write; anything else is left to other converters
+     */
+    public JacksonProtobufHttpMessageConverter(Jackson2ObjectMapperBuilder builder, Set<Class<?>> messageTypes) {
+        super(protobufMapper(builder), APPLICATION_PROTOBUF);
+        this.messageTypes = Set.copyOf(messageTypes);
+    }
+
+    private static ObjectMapper protobufMapper(Jackson2ObjectMapperBuilder builder) {
+        ObjectMapper mapper = builder.createXmlMapper(false)
+                .factory(new ProtobufFactory())
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .mixIn(EmployeeListResponseDto.class, ListResponseMixin.class)
+                .mixIn(ErrorResponseDto.FieldError.class, FieldErrorMixin.class)
+                .build();
+        return mapper.registerModule(new SimpleModule().setSerializerModifier(new ProtobufPropertyModifier()));
+    }
+
+    @Override
+    public boolean canRead(Type type, @Nullable Class<?> contextClass, @Nullable MediaType mediaType) {
+        return type instanceof Class<?> clazz && messageTypes.contains(clazz)
+                && super.canRead(type, contextClass, mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Class<?> clazz, @Nullable MediaType mediaType) {
+        return messageTypes.contains(clazz) && super.canWrite(clazz, mediaType);
+    }
+
+    /**
+     * The declared type may be missing or wider than the body, as with ResponseEntity&lt;?&gt;,
+     * so the schema always follows the body's own class
+     */
+    @Override
+    protected void writeInternal(Object object, @Nullable Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        super.writeInternal(object, object.getClass(), outputMessage);
+    }
+
+    @Override
+    protected ObjectReader customizeReader(ObjectReader reader, JavaType javaType) {
+        return reader.with(schemaFor(javaType));
+    }
+
+    @Override
+    protected ObjectWriter customizeWriter(ObjectWriter writer, @Nullable JavaType javaType,
+                                           @Nullable MediaType contentType) {
+        return javaType != null ? writer.with(schemaFor(javaType)) : writer;
+    }
+
+    /**
+     * @return The .proto source of the message schema generated for a DTO class
+     */
+    public String schemaSource(Class<?> messageType) {
+        return schemaFor(getObjectMapper().constructType(messageType)).getSource().toString();
+    }
+
+    private ProtobufSchema schemaFor(JavaType javaType) {
+        return schemas.computeIfAbsent(javaType, type -> {
+            ProtobufSchemaGenerator generator = new ProtobufSchemaGenerator();
+            try {
+                getObjectMapper().acceptJsonFormatVisitor(type, generator);
+                return generator.getGeneratedSchema();
+            } catch (JsonMappingException ex) {
+                throw new IllegalStateException("Could not generate a protobuf schema for " + type, ex);
+            }
+        });
+    }
+
+    /**
+     * One navigation link, standing in for an entry of the links map
+     */
+    public record Link(String rel, String href) {
+    }
+
+    private abstract static class ListResponseMixin {
+
+        @JsonDeserialize(converter = ListToLinks.class)
+        abstract void setLinks(Map<String, String> links);
+    }
+
+    private abstract static class FieldErrorMixin {
+
+        @JsonDeserialize(as = String.class)
+        abstract void setRejectedValue(Object rejectedValue);
+    }
+
+    /**
+     * The schema generator works from each property's declared type, so the two
+     * properties protobuf cannot express are swapped for writers declaring a type it can
+     */
+    private static class ProtobufPropertyModifier extends BeanSerializerModifier {
+
+        private static final JavaType LINK_LIST =
+                TypeFactory.defaultInstance().constructCollectionType(List.class, Link.class);
+        private static final JavaType STRING = TypeFactory.defaultInstance().constructType(String.class);
+
+        @Override
+        public List<BeanPropertyWriter> changeProperties(SerializationConfig config, BeanDescription beanDesc,
+                                                         List<BeanPropertyWriter> properties) {
+            Class<?> beanClass = beanDesc.getBeanClass();
+            if (beanClass == EmployeeListResponseDto.class) {
+                properties.replaceAll(property -> property.getName().equals("links")
+                        ? new AdaptedPropertyWriter(beanDesc, property, LINK_LIST, ProtobufPropertyModifier::toLinks)
+                        : property);
+            } else if (beanClass == ErrorResponseDto.FieldError.class) {
+                properties.replaceAll(property -> property.getName().equals("rejectedValue")
+                        ? new AdaptedPropertyWriter(beanDesc, property, STRING, String::valueOf)
+                        : property);
+            }
+            return properties;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static Object toLinks(Object links) {
+            return ((Map<String, String>) links).entrySet().stream()
+                    .map(link -> new Link(link.getKey(), link.getValue()))
+                    .toList();
+        }
+    }
+
+    /**
+     * Writes a property's value through an adapter, declaring the adapted type
+     */
+    private static class AdaptedPropertyWriter extends VirtualBeanPropertyWriter {
+
+        private final BeanPropertyWriter original;
+        private final Function<Object, Object> adapter;
+
+        AdaptedPropertyWriter(BeanDescription beanDesc, BeanPropertyWriter original, JavaType type,
+                              Function<Object, Object> adapter) {
+            this(beanDesc.findProperties().stream()
+                    .filter(property -> property.getName().equals(original.getName()))
+                    .findFirst().orElseThrow(), beanDesc.getClassAnnotations(), type, original, adapter);
+        }
+
+        private AdaptedPropertyWriter(BeanPropertyDefinition propDef, Annotations contextAnnotations, JavaType type,
+                                      BeanPropertyWriter original, Function<Object, Object> adapter) {
+            super(propDef, contextAnnotations, type);
+            this.original = original;
+            this.adapter = adapter;
+        }
+
+        @Override
+        protected Object value(Object bean, JsonGenerator generator, SerializerProvider provider) throws Exception {
+            Object value = original.get(bean);
+            return value == null ? null : adapter.apply(value);
+        }
+
+        @Override
+        public VirtualBeanPropertyWriter withConfig(MapperConfig<?> config, AnnotatedClass declaringClass,
+                                                    BeanPropertyDefinition propDef, JavaType type) {
+            return new AdaptedPropertyWriter(propDef, declaringClass.getAnnotations(), type, original, adapter);
+        }
+    }
+
+    static class ListToLinks extends StdConverter<List<Link>, Map<String, String>> {
+
+        @Override
+        public Map<String, String> convert(List<Link> links) {
+            Map<String, String> map = new LinkedHashMap<>();
+            links.forEach(link -> map.put(link.rel(), link.href()));
+            return map;
+        }
+    }
+}
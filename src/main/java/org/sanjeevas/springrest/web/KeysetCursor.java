@@ -0,0 +1,144 @@
+package org.sanjeevas.springrest.web;
+
+import org.sanjeevas.springrest.security.SecurityUtils;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Opaque keyset pagination cursor
+ * Encodes the sort field, direction and the last seen (sortKey, id) pair so the
+ * next page can be fetched with WHERE (sortKey, id) > (?, ?) instead of OFFSET
+ *
+ * @author Sanjeeva
+ * @version 1.0
+ */
+public final class KeysetCursor {
+
+    private static final String ID = "id";
+    private static final String SEPARATOR = "|";
+
+    private final String sortBy;
+    private final Sort.Direction direction;
+    private final Long lastId;
+    private final Object lastSortValue;
+
+    private KeysetCursor(String sortBy, Sort.Direction direction, Long lastId, Object lastSortValue) {
+        this.sortBy = sortBy;
+        this.direction = direction;
+        this.lastId = lastId;
+        this.lastSortValue = lastSortValue;
+    }
+
+    /**
+     * Cursor positioned before the first row
+     *
+     * @param sortBy Sort field, validated against the sort whitelist
+     * @param direction Sort direction
+     * @return Cursor for the first page
+     * @throws IllegalArgumentException if the sort field is not allowed
+     */
+    public static KeysetCursor first(String sortBy, Sort.Direction direction) {
+        SecurityUtils.validateSortField(sortBy);
+        return new KeysetCursor(sortBy, direction, null, null);
+    }
+
+    /**
+     * Cursor positioned after the given keyset position
+     *
+     * @param sortBy Sort field the position was produced with
+     * @param direction Sort direction the position was produced with
+     * @param position Keyset position of the last row returned
+     * @return Cursor for the following page
+     */
+    public static KeysetCursor after(String sortBy, Sort.Direction direction, ScrollPosition position) {
+        if (!(position instanceof KeysetScrollPosition keyset)) {
+            throw new IllegalArgumentException("Keyset position required");
+        }
+        Map<String, ?> keys = keyset.getKeys();
+        return new KeysetCursor(sortBy, direction, (Long) keys.get(ID), keys.get(sortBy));
+    }
+
+    /**
+     * Decode a cursor produced by {@link #encode()}
+     *
+     * @param token Opaque cursor token
+     * @return Decoded cursor
+     * @throws IllegalArgumentException if the token is malformed or tampered with
+     */
+    public static KeysetCursor decode(String token) {
+        String decoded;
+        try {
+            decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Malformed cursor", ex);
+        }
+
+        String[] parts = decoded.split("\\" + SEPARATOR, 4);
+        if (parts.length != 4) {
+            throw new IllegalArgumentException("Malformed cursor");
+        }
+
+        String sortBy = parts[0];
+        SecurityUtils.validateSortField(sortBy);
+        Sort.Direction direction = Sort.Direction.fromString(parts[1]);
+        try {
+            Long lastId = Long.valueOf(parts[2]);
+            return new KeysetCursor(sortBy, direction, lastId, parseSortValue(sortBy, parts[3], lastId));
+        } catch (NumberFormatException | DateTimeParseException ex) {
+            throw new IllegalArgumentException("Malformed cursor", ex);
+        }
+    }
+
+    /**
+     * @return URL-safe opaque token
+     */
+    public String encode() {
+        if (lastId == null) {
+            throw new IllegalStateException("Initial cursor has no position to encode");
+        }
+        String raw = sortBy + SEPARATOR + direction.name() + SEPARATOR + lastId + SEPARATOR + lastSortValue;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return Sort on the cursor field with id as a unique tie-breaker
+     */
+    public Sort toSort() {
+        Sort sort = Sort.by(direction, sortBy);
+        return ID.equals(sortBy) ? sort : sort.and(Sort.by(direction, ID));
+    }
+
+    public ScrollPosition toScrollPosition() {
+        if (lastId == null) {
+            return ScrollPosition.keyset();
+        }
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put(sortBy, lastSortValue);
+        keys.put(ID, lastId);
+        return ScrollPosition.forward(keys);
+    }
+
+    public String getSortBy() {
+        return sortBy;
+    }
+
+    public Sort.Direction getDirection() {
+        return direction;
+    }
+
+    private static Object parseSortValue(String sortBy, String value, Long lastId) {
+        return switch (sortBy) {
+            case "id" -> lastId;
+            case "createdAt", "updatedAt" -> LocalDateTime.parse(value);
+            default -> value;
+        };
+    }
+}
@@ -1,21 +1,43 @@
 package org.sanjeevas.springrest;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.sanjeevas.springrest.cache.EmployeeChangeStamp;
 import org.sanjeevas.springrest.dto.EmployeeDto;
+import org.sanjeevas.springrest.dto.EmployeeListResponseDto;
+import org.sanjeevas.springrest.dto.ErrorResponseDto;
+import org.sanjeevas.springrest.index.EmployeeSuggestionIndex;
+import org.sanjeevas.springrest.service.EmployeeService;
+import org.sanjeevas.springrest.web.EmployeeETags;
+import org.sanjeevas.springrest.web.EmployeeJsonCache;
+import org.sanjeevas.springrest.web.JacksonProtobufHttpMessageConverter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
+import static org.sanjeevas.springrest.web.JacksonProtobufHttpMessageConverter.APPLICATION_PROTOBUF;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -43,6 +65,27 @@ class EmployeeControllerIntegrationTest {
     @Autowired
     private EmployeeRepository employeeRepository;
 
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private JacksonProtobufHttpMessageConverter protobufConverter;
+
+    @Autowired
+    private EmployeeSuggestionIndex employeeSuggestionIndex;
+
+    @Autowired
+    private EmployeeChangeStamp employeeChangeStamp;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @BeforeEach
     void setUp() {
         employeeRepository.deleteAll();
@@ -69,6 +112,207 @@ class EmployeeControllerIntegrationTest {
                 .andExpect(jsonPath("$.page.totalElements", is(2)));
     }
 
+    @Test
+    @DisplayName("Should report the count mode that produced the total")
+    void getAllEmployees_WithCountModes_ShouldDescribeTotal() throws Exception {
+        mockMvc.perform(get("/api/v1/employees")
+                .param("size", "1")
+                .param("count", "exact"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.page.totalElements", is(2)))
+                .andExpect(jsonPath("$.page.hasNext", is(true)))
+                .andExpect(jsonPath("$.page.countMode", is("exact")));
+
+        mockMvc.perform(get("/api/v1/employees")
+                .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.page.totalElements", is(2)))
+                .andExpect(jsonPath("$.page.countMode", is("estimated")));
+
+        mockMvc.perform(get("/api/v1/employees")
+                .param("page", "1")
+                .param("size", "1")
+                .param("count", "none"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.embedded.employeeList", hasSize(1)))
+                .andExpect(jsonPath("$.page.totalElements").doesNotExist())
+                .andExpect(jsonPath("$.page.totalPages").doesNotExist())
+                .andExpect(jsonPath("$.page.hasNext", is(false)))
+                .andExpect(jsonPath("$.page.countMode", is("none")));
+    }
+
+    @Test
+    @DisplayName("Should reject an unknown count mode")
+    void getAllEmployees_WithInvalidCountMode_ShouldReturn400() throws Exception {
+        mockMvc.perform(get("/api/v1/employees")
+                .param("count", "approximate"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error", is("VALIDATION_ERROR")));
+    }
+
+    @Test
+    @DisplayName("Should page through employees with a keyset cursor")
+    void getAllEmployees_WithCursor_ShouldFollowNextLinks() throws Exception {
+        String body = mockMvc.perform(get("/api/v1/employees")
+                .param("size", "1")
+                .param("sortBy", "name")
+                .param("cursor", ""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.embedded.employeeList", hasSize(1)))
+                .andExpect(jsonPath("$.embedded.employeeList[0].name", is("Jane Smith")))
+                .andExpect(jsonPath("$.page").doesNotExist())
+                .andExpect(jsonPath("$.cursor.hasNext", is(true)))
+                .andExpect(jsonPath("$.links.next", startsWith("/api/v1/employees?size=1&cursor=")))
+                .andReturn().getResponse().getContentAsString();
+        String next = objectMapper.readTree(body).path("cursor").path("next").asText();
+
+        mockMvc.perform(get("/api/v1/employees")
+                .param("size", "1")
+                .param("cursor", next))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.embedded.employeeList", hasSize(1)))
+                .andExpect(jsonPath("$.embedded.employeeList[0].name", is("John Doe")))
+                .andExpect(jsonPath("$.cursor.hasNext", is(false)))
+                .andExpect(jsonPath("$.links").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Should reject a tampered keyset cursor")
+    void getAllEmployees_WithInvalidCursor_ShouldReturn400() throws Exception {
+        mockMvc.perform(get("/api/v1/employees")
+                .param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error", is("VALIDATION_ERROR")));
+    }
+
+    @Test
+    @DisplayName("Should reject a bad cursor or count mode even when the ETag still matches")
+    void getAllEmployees_WithMatchingETagAndInvalidParameters_ShouldReturn400() throws Exception {
+        String etag = mockMvc.perform(get("/api/v1/employees"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/v1/employees")
+                .param("cursor", "not-a-cursor")
+                .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/employees")
+                .param("count", "approximate")
+                .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should stream all employees as NDJSON")
+    void exportEmployees_AsNdjson_ShouldStreamOneObjectPerLine() throws Exception {
+        for (int i = 0; i < 1200; i++) {
+            employeeRepository.save(new Employee("Export Employee " + i, "Engineer"));
+        }
+
+        MvcResult result = mockMvc.perform(get("/api/v1/employees/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(header().string("Content-Disposition", containsString("employees.ndjson")))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertThat(lines).hasSize(1202);
+        assertThat(objectMapper.readValue(lines[0], EmployeeDto.class).getName()).isEqualTo("John Doe");
+        assertThat(objectMapper.readValue(lines[1201], EmployeeDto.class).getName()).isEqualTo("Export Employee 1199");
+    }
+
+    @Test
+    @DisplayName("Should stream all employees as CSV with quoted fields")
+    void exportEmployees_AsCsv_ShouldQuoteFields() throws Exception {
+        employeeRepository.save(new Employee("Doe, Jane", "=Engineer"));
+
+        MvcResult result = mockMvc.perform(get("/api/v1/employees/export")
+                .param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\r\n");
+        assertThat(lines).hasSize(4).startsWith("id,name,role");
+        assertThat(lines[3]).endsWith(",\"Doe, Jane\",'=Engineer");
+    }
+
+    @Test
+    @DisplayName("Should reject an unsupported export format")
+    void exportEmployees_WithInvalidFormat_ShouldReturn400() throws Exception {
+        mockMvc.perform(get("/api/v1/employees/export")
+                .param("format", "xml"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error", is("VALIDATION_ERROR")));
+    }
+
+    @Test
+    @DisplayName("Should import NDJSON in chunks and report rejected lines")
+    void importEmployees_AsNdjson_ShouldImportValidLinesAndReportErrors() throws Exception {
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < 1200; i++) {
+            body.append("{\"name\":\"Imported Employee\",\"role\":\"Engineer ").append(i).append("\"}\n");
+        }
+        body.insert(0, "{\"name\":\"X\",\"role\":\"Engineer\"}\n\n");
+        body.append("not json\n");
+
+        mockMvc.perform(post("/api/v1/employees/import")
+                .with(csrf())
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(body.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.processed", is(1202)))
+                .andExpect(jsonPath("$.imported", is(1200)))
+                .andExpect(jsonPath("$.failed", is(2)))
+                .andExpect(jsonPath("$.errors[0].line", is(1)))
+                .andExpect(jsonPath("$.errors[0].message", containsString("name")))
+                .andExpect(jsonPath("$.errors[1].line", is(1203)))
+                .andExpect(jsonPath("$.errorsTruncated", is(false)));
+
+        assertThat(employeeRepository.count()).isEqualTo(1202);
+        assertThat(employeeService.count()).isEqualTo(1202);
+    }
+
+    @Test
+    @DisplayName("Should import CSV with quoted fields")
+    void importEmployees_AsCsv_ShouldImportRows() throws Exception {
+        String body = "id,name,role\r\n"
+                + ",\"Pat O'Brien\",Engineer\r\n"
+                + "7, Sam Lee ,\"Data Analytics\"\r\n"
+                + "8,Bad Row\r\n";
+
+        mockMvc.perform(post("/api/v1/employees/import")
+                .with(csrf())
+                .contentType("text/csv")
+                .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported", is(2)))
+                .andExpect(jsonPath("$.failed", is(1)))
+                .andExpect(jsonPath("$.errors[0].line", is(4)))
+                .andExpect(jsonPath("$.errors[0].message", containsString("fields")));
+
+        assertThat(employeeRepository.findByNameContainingIgnoreCase("Sam Lee"))
+                .singleElement()
+                .satisfies(employee -> assertThat(employee.getRole()).isEqualTo("Data Analytics"));
+    }
+
+    @Test
+    @DisplayName("Should reject a CSV import without required columns")
+    void importEmployees_WithCsvMissingColumns_ShouldReturn400() throws Exception {
+        mockMvc.perform(post("/api/v1/employees/import")
+                .with(csrf())
+                .contentType("text/csv")
+                .content("id,fullName\r\n1,Pat\r\n"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error", is("VALIDATION_ERROR")));
+    }
+
     @Test
     @DisplayName("Should get employee by ID")
     void getEmployeeById_WhenEmployeeExists_ShouldReturnEmployee() throws Exception {
@@ -82,6 +326,48 @@ class EmployeeControllerIntegrationTest {
                 .andExpect(jsonPath("$.role", is(savedEmployee.getRole())));
     }
 
+    @Test
+    @DisplayName("Should get employees by IDs in request order with not-found markers")
+    void getEmployeesByIds_ShouldReturnResultsInRequestOrder() throws Exception {
+        List<Employee> saved = employeeRepository.findAll();
+        Long johnId = saved.get(0).getId();
+        Long janeId = saved.get(1).getId();
+        employeeService.findById(janeId);
+
+        mockMvc.perform(get("/api/v1/employees")
+                .param("ids", janeId + ",999999," + johnId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.requested", is(3)))
+                .andExpect(jsonPath("$.found", is(2)))
+                .andExpect(jsonPath("$.results[0].employee.name", is("Jane Smith")))
+                .andExpect(jsonPath("$.results[1].id", is(999999)))
+                .andExpect(jsonPath("$.results[1].found", is(false)))
+                .andExpect(jsonPath("$.results[1].employee").doesNotExist())
+                .andExpect(jsonPath("$.results[2].employee.name", is("John Doe")));
+
+        mockMvc.perform(post("/api/v1/employees/batch")
+                .with(csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"ids\":[" + johnId + "," + janeId + "]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results[0].employee.name", is("John Doe")))
+                .andExpect(jsonPath("$.results[1].employee.name", is("Jane Smith")));
+    }
+
+    @Test
+    @DisplayName("Should reject invalid batch lookups")
+    void getEmployeesByIds_WithInvalidIds_ShouldReturn400() throws Exception {
+        mockMvc.perform(get("/api/v1/employees")
+                .param("ids", "1,0"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(post("/api/v1/employees/batch")
+                .with(csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"ids\":[]}"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("Should return 404 when employee not found")
     void getEmployeeById_WhenEmployeeNotFound_ShouldReturn404() throws Exception {
@@ -112,6 +398,31 @@ class EmployeeControllerIntegrationTest {
                 .andExpect(header().exists("Location"));
     }
 
+    @Test
+    @DisplayName("Should keep the cached collection and count current after committed writes")
+    void findAll_AfterCommittedWrites_ShouldReflectChanges() throws Exception {
+        assertThat(employeeService.findAll()).hasSize(2);
+        Employee existingEmployee = employeeRepository.findAll().get(0);
+
+        mockMvc.perform(post("/api/v1/employees")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new EmployeeDto("Alice Johnson", "UX Designer")))
+                .with(csrf()))
+                .andExpect(status().isCreated());
+        mockMvc.perform(get("/api/v1/employees/count"))
+                .andExpect(content().string("3"));
+        mockMvc.perform(delete("/api/v1/employees/{id}", existingEmployee.getId())
+                .with(csrf()))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(get("/api/v1/employees/count"))
+                .andExpect(content().string("2"));
+
+        assertThat(employeeService.findAll())
+                .extracting(EmployeeDto::getName)
+                .containsExactlyInAnyOrder("Jane Smith", "Alice Johnson")
+                .doesNotContain(existingEmployee.getName());
+    }
+
     @Test
     @DisplayName("Should return 400 for invalid employee data")
     void createEmployee_WithInvalidData_ShouldReturn400() throws Exception {
@@ -143,7 +454,9 @@ class EmployeeControllerIntegrationTest {
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$.id", is(existingEmployee.getId().intValue())))
                 .andExpect(jsonPath("$.name", is("Updated Name")))
-                .andExpect(jsonPath("$.role", is("Updated Role")));
+                .andExpect(jsonPath("$.role", is("Updated Role")))
+                // The single UPDATE does not read the new version back
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG));
     }
 
     @Test
@@ -220,6 +533,183 @@ class EmployeeControllerIntegrationTest {
                 .andExpect(jsonPath("$.embedded.employeeList[0].name", containsString("John")));
     }
 
+    @Test
+    @DisplayName("Should page search results")
+    void searchEmployeesByName_WithPage_ShouldReturnOnePage() throws Exception {
+        mockMvc.perform(get("/api/v1/employees/search")
+                .param("name", "j")
+                .param("page", "1")
+                .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.embedded.employeeList", hasSize(1)))
+                .andExpect(jsonPath("$.embedded.employeeList[0].name", is("Jane Smith")))
+                .andExpect(jsonPath("$.page.number", is(1)))
+                .andExpect(jsonPath("$.page.totalElements", is(2)))
+                .andExpect(jsonPath("$.page.hasNext", is(false)));
+        mockMvc.perform(get("/api/v1/employees/search")
+                .param("name", "j")
+                .param("size", "1001"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should search renamed employees by their new name only")
+    void searchEmployeesByName_AfterRename_ShouldReflectCommittedChange() throws Exception {
+        Employee john = employeeRepository.findAll().stream()
+                .filter(employee -> employee.getName().equals("John Doe"))
+                .findFirst().orElseThrow();
+
+        mockMvc.perform(put("/api/v1/employees/{id}", john.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new EmployeeDto("Richard Roe", "Software Engineer")))
+                .with(csrf()))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/v1/employees/search")
+                .param("name", "john"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.embedded.employeeList", hasSize(0)));
+        mockMvc.perform(get("/api/v1/employees/search")
+                .param("name", "ROE"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.embedded.employeeList", hasSize(1)))
+                .andExpect(jsonPath("$.embedded.employeeList[0].name", is("Richard Roe")));
+    }
+
+    @Test
+    @DisplayName("Should find misspelled names with fuzzy search, closest first")
+    void searchEmployeesByName_Fuzzy_ShouldTolerateTypos() throws Exception {
+        employeeService.create(new EmployeeDto("Jon Dow", "Product Owner"));
+
+        mockMvc.perform(get("/api/v1/employees/search")
+                .param("name", "jhon doe")
+                .param("fuzzy", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.embedded.employeeList[*].name", contains("John Doe", "Jon Dow")));
+        mockMvc.perform(get("/api/v1/employees/search")
+                .param("name", "john doe")
+                .param("fuzzy", "true")
+                .param("maxEdits", "0"))
+                .andExpect(jsonPath("$.embedded.employeeList[*].name", contains("John Doe")));
+        mockMvc.perform(get("/api/v1/employees/search")
+                .param("name", "jhon doe")
+                .param("fuzzy", "true")
+                .param("role", "product owner"))
+                .andExpect(jsonPath("$.embedded.employeeList[*].name", contains("Jon Dow")));
+    }
+
+    @Test
+    @DisplayName("Should reject fuzzy searches beyond the edit, limit or word bounds")
+    void searchEmployeesByName_FuzzyWithInvalidParameters_ShouldReturn400() throws Exception {
+        mockMvc.perform(get("/api/v1/employees/search")
+                .param("name", "jhon")
+                .param("fuzzy", "true")
+                .param("maxEdits", "3"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/employees/search")
+                .param("name", "jhon")
+                .param("fuzzy", "true")
+                .param("limit", "101"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/employees/search")
+                .param("name", "a b c d e")
+                .param("fuzzy", "true"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should filter by name, role and time range with pagination")
+    void filterEmployees_ShouldCombineCriteria() throws Exception {
+        employeeService.create(new EmployeeDto("Johanna Lee", "Software Engineer"));
+        employeeService.create(new EmployeeDto("John Smith", "Product Manager"));
+
+        mockMvc.perform(get("/api/v1/employees/filter")
+                .param("name", "jo")
+                .param("role", "software engineer")
+                .param("createdFrom", "2000-01-01T00:00:00")
+                .param("sortBy", "name")
+                .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.embedded.employeeList", hasSize(1)))
+                .andExpect(jsonPath("$.embedded.employeeList[0].name", is("Johanna Lee")))
+                .andExpect(jsonPath("$.page.totalElements", is(2)))
+                .andExpect(jsonPath("$.page.hasNext", is(true)));
+        mockMvc.perform(get("/api/v1/employees/filter")
+                .param("createdTo", "2000-01-01T00:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.embedded.employeeList", hasSize(0)));
+    }
+
+    @Test
+    @DisplayName("Should reject an empty time range or a disallowed sort field")
+    void filterEmployees_WithInvalidParameters_ShouldReturn400() throws Exception {
+        mockMvc.perform(get("/api/v1/employees/filter")
+                .param("createdFrom", "2024-01-02T00:00:00")
+                .param("createdTo", "2024-01-01T00:00:00"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/employees/filter")
+                .param("sortBy", "roleKey"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/employees/filter")
+                .param("createdFrom", "yesterday"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should suggest names and roles by prefix, including newly created employees")
+    void suggest_ShouldReturnPrefixMatches() throws Exception {
+        mockMvc.perform(get("/api/v1/employees/suggest")
+                .param("prefix", "jo"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].text", is("John Doe")))
+                .andExpect(jsonPath("$[0].type", is("name")))
+                .andExpect(jsonPath("$[0].count", is(1)));
+
+        employeeService.create(new EmployeeDto("Joanna Product", "Product Owner"));
+
+        mockMvc.perform(get("/api/v1/employees/suggest")
+                .param("prefix", "PRODUCT")
+                .param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].text", contains("Product Manager", "Product Owner")))
+                .andExpect(jsonPath("$[*].type", contains("role", "role")));
+        mockMvc.perform(get("/api/v1/employees/suggest")
+                .param("prefix", "jo"))
+                .andExpect(jsonPath("$[*].text", contains("Joanna Product", "John Doe")));
+    }
+
+    @Test
+    @DisplayName("Should suggest from the database while the suggestion index is not ready")
+    void suggest_WhenIndexNotReady_ShouldQueryDatabase() throws Exception {
+        employeeService.create(new EmployeeDto("Product Owner", "Product Owner"));
+        ReflectionTestUtils.setField(employeeSuggestionIndex, "ready", false);
+
+        mockMvc.perform(get("/api/v1/employees/suggest")
+                .param("prefix", "product"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].text", contains("Product Manager", "Product Owner", "Product Owner")))
+                .andExpect(jsonPath("$[*].type", contains("role", "name", "role")))
+                .andExpect(jsonPath("$[*].count", contains(1, 1, 1)));
+        mockMvc.perform(get("/api/v1/employees/suggest")
+                .param("prefix", "J")
+                .param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].text", contains("Jane Smith")));
+    }
+
+    @Test
+    @DisplayName("Should reject a blank prefix or an out of range limit")
+    void suggest_WithInvalidParameters_ShouldReturn400() throws Exception {
+        mockMvc.perform(get("/api/v1/employees/suggest")
+                .param("prefix", " "))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/employees/suggest")
+                .param("prefix", "jo")
+                .param("limit", "51"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("Should get employees by role")
     void getEmployeesByRole_ShouldReturnEmployeesWithRole() throws Exception {
@@ -230,6 +720,35 @@ class EmployeeControllerIntegrationTest {
                 .andExpect(jsonPath("$.embedded.employeeList[0].role", is("Software Engineer")));
     }
 
+    @Test
+    @DisplayName("Should count and filter by role, following role changes")
+    void getEmployeeCountByRole_ShouldFollowRoleChanges() throws Exception {
+        mockMvc.perform(get("/api/v1/employees/role/{role}/count", "software engineer"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("1"));
+
+        employeeService.create(new EmployeeDto("Jo Engineer", "Software Engineer"));
+        Employee jane = employeeRepository.findAll().stream()
+                .filter(employee -> employee.getName().equals("Jane Smith"))
+                .findFirst().orElseThrow();
+        employeeService.update(jane.getId(), new EmployeeDto("Jane Smith", "SOFTWARE ENGINEER"));
+
+        mockMvc.perform(get("/api/v1/employees/role/{role}/count", "Software Engineer"))
+                .andExpect(content().string("3"));
+        mockMvc.perform(get("/api/v1/employees/role/{role}/count", "Product Manager"))
+                .andExpect(content().string("0"));
+        mockMvc.perform(get("/api/v1/employees/search")
+                .param("name", "jo")
+                .param("role", "software engineer"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.embedded.employeeList[*].name",
+                        containsInAnyOrder("John Doe", "Jo Engineer")));
+        mockMvc.perform(get("/api/v1/employees/search")
+                .param("name", "jo")
+                .param("role", "Product Manager"))
+                .andExpect(jsonPath("$.embedded.employeeList", hasSize(0)));
+    }
+
     @Test
     @DisplayName("Should get employee count")
     void getEmployeeCount_ShouldReturnTotalCount() throws Exception {
@@ -247,6 +766,295 @@ class EmployeeControllerIntegrationTest {
                 .andExpect(status().isForbidden());
     }
 
+    @Test
+    @DisplayName("Should answer 304 for an unchanged employee and 200 once its version moves on")
+    void getEmployeeById_WithETag_ShouldReturn304UntilUpdated() throws Exception {
+        Employee john = employeeRepository.findAll().stream()
+                .filter(employee -> employee.getName().equals("John Doe"))
+                .findFirst().orElseThrow();
+        String etag = mockMvc.perform(get("/api/v1/employees/{id}", john.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + john.getId() + "-" + john.getVersion() + "\""))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/v1/employees/{id}", john.getId()).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+
+        mockMvc.perform(patch("/api/v1/employees/{id}", john.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\": \"Richard Roe\"}")
+                .with(csrf()))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/v1/employees/{id}", john.getId()).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(etag)))
+                .andExpect(jsonPath("$.name", is("Richard Roe")))
+                .andExpect(jsonPath("$.version").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Should answer 304 for collection views until any employee changes")
+    void getAllEmployees_WithETag_ShouldReturn304UntilAnyChange() throws Exception {
+        MvcResult first = mockMvc.perform(get("/api/v1/employees").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andReturn();
+        String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+        String lastModified = first.getResponse().getHeader(HttpHeaders.LAST_MODIFIED);
+        double notModifiedBefore = meterRegistry.counter("employee.requests.conditional",
+                "scope", "collection", "result", "not_modified").count();
+
+        mockMvc.perform(get("/api/v1/employees").param("size", "1").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/api/v1/employees/role/{role}", "product manager")
+                .header(HttpHeaders.IF_MODIFIED_SINCE, lastModified))
+                .andExpect(status().isNotModified());
+        assertThat(meterRegistry.counter("employee.requests.conditional",
+                "scope", "collection", "result", "not_modified").count()).isEqualTo(notModifiedBefore + 2);
+
+        employeeService.create(new EmployeeDto("Bob Brown", "Engineer"));
+
+        mockMvc.perform(get("/api/v1/employees").param("size", "1").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(etag)))
+                .andExpect(jsonPath("$.page.totalElements", is(3)));
+    }
+
+    @Test
+    @DisplayName("Should answer 200 for collection views once a write made outside this instance is checked")
+    void getAllEmployees_WithETag_ShouldSeeOutOfBandWrites() throws Exception {
+        employeeChangeStamp.checkDatabase();
+        String etag = mockMvc.perform(get("/api/v1/employees"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        employeeChangeStamp.checkDatabase();
+        mockMvc.perform(get("/api/v1/employees").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        // As another instance or a hand-run statement would, bypassing this instance's listeners
+        jdbcTemplate.update("UPDATE employees SET name = 'Richard Roe', updated_at = CURRENT_TIMESTAMP, "
+                + "version = version + 1 WHERE name = 'John Doe'");
+        employeeChangeStamp.checkDatabase();
+
+        mockMvc.perform(get("/api/v1/employees").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(etag)));
+    }
+
+    @Test
+    @DisplayName("Should apply writes only at the If-Match version and answer 412 once it moved on")
+    void writes_WithIfMatch_ShouldBeConditionalOnVersion() throws Exception {
+        Employee john = employeeRepository.findAll().stream()
+                .filter(employee -> employee.getName().equals("John Doe"))
+                .findFirst().orElseThrow();
+        String original = EmployeeETags.resourceTag(john.getId(), john.getVersion());
+
+        String replaced = mockMvc.perform(put("/api/v1/employees/{id}", john.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new EmployeeDto("Richard Roe", "Architect")))
+                .header(HttpHeaders.IF_MATCH, original)
+                .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG,
+                        EmployeeETags.resourceTag(john.getId(), john.getVersion() + 1)))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(put("/api/v1/employees/{id}", john.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new EmployeeDto("Lost Update", "Architect")))
+                .header(HttpHeaders.IF_MATCH, original)
+                .with(csrf()))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.error", is("PRECONDITION_FAILED")));
+        mockMvc.perform(patch("/api/v1/employees/{id}", john.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\": \"Lost Update\"}")
+                .header(HttpHeaders.IF_MATCH, original)
+                .with(csrf()))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(delete("/api/v1/employees/{id}", john.getId())
+                .header(HttpHeaders.IF_MATCH, original)
+                .with(csrf()))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(put("/api/v1/employees/{id}", 999L)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new EmployeeDto("New Employee", "New Role")))
+                .header(HttpHeaders.IF_MATCH, "*")
+                .with(csrf()))
+                .andExpect(status().isPreconditionFailed());
+
+        String patched = mockMvc.perform(patch("/api/v1/employees/{id}", john.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"role\": \"Principal Architect\"}")
+                .header(HttpHeaders.IF_MATCH, replaced)
+                .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name", is("Richard Roe")))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(delete("/api/v1/employees/{id}", john.getId())
+                .header(HttpHeaders.IF_MATCH, patched)
+                .with(csrf()))
+                .andExpect(status().isNoContent());
+
+        assertThat(employeeRepository.findById(john.getId())).isEmpty();
+        assertThat(employeeRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should answer repeat reads from pre-serialized JSON matching the serialized DTO")
+    void getEmployeeById_ShouldServeCachedJson() throws Exception {
+        Employee john = employeeRepository.findAll().stream()
+                .filter(employee -> employee.getName().equals("John Doe"))
+                .findFirst().orElseThrow();
+
+        String first = mockMvc.perform(get("/api/v1/employees/{id}", john.getId()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        mockMvc.perform(get("/api/v1/employees/{id}", john.getId()).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, first.length()))
+                .andExpect(content().json(first, true));
+
+        assertThat(cacheManager.getCache(EmployeeJsonCache.CACHE_NAME).get(john.getId())).isNotNull();
+        assertThat(first).isEqualTo(objectMapper.writeValueAsString(employeeService.findById(john.getId())
+                .orElseThrow()));
+    }
+
+    @Test
+    @DisplayName("Should answer in CBOR or Smile when asked, varying on Accept")
+    void getEmployeeById_ShouldNegotiateBinaryEncodings() throws Exception {
+        Employee john = employeeRepository.findAll().stream()
+                .filter(employee -> employee.getName().equals("John Doe"))
+                .findFirst().orElseThrow();
+
+        MvcResult cbor = mockMvc.perform(get("/api/v1/employees/{id}", john.getId())
+                .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT)))
+                .andReturn();
+        MvcResult smile = mockMvc.perform(get("/api/v1/employees")
+                .accept(new MediaType("application", "x-jackson-smile")))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        EmployeeDto decoded = new CBORMapper().readValue(cbor.getResponse().getContentAsByteArray(), EmployeeDto.class);
+        EmployeeListResponseDto page = new SmileMapper().readValue(smile.getResponse().getContentAsByteArray(),
+                EmployeeListResponseDto.class);
+        assertThat(decoded.getName()).isEqualTo("John Doe");
+        assertThat(page.getEmbedded().getEmployeeList()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Should tag each encoding apart and validate any of them against the current version")
+    void getEmployeeById_ShouldTagEachEncoding() throws Exception {
+        Employee john = employeeRepository.findAll().stream()
+                .filter(employee -> employee.getName().equals("John Doe"))
+                .findFirst().orElseThrow();
+        long version = john.getVersion();
+        String json = EmployeeETags.resourceTag(john.getId(), version);
+        String cbor = "\"" + john.getId() + "-" + version + "-cbor\"";
+
+        mockMvc.perform(get("/api/v1/employees/{id}", john.getId()).accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, cbor));
+        mockMvc.perform(get("/api/v1/employees/{id}", john.getId()).accept(MediaType.APPLICATION_CBOR)
+                .header(HttpHeaders.IF_NONE_MATCH, json))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, json));
+        mockMvc.perform(get("/api/v1/employees/{id}", john.getId()).header(HttpHeaders.IF_NONE_MATCH, cbor))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, cbor));
+        mockMvc.perform(get("/api/v1/employees").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, endsWith("-cbor\"")));
+
+        mockMvc.perform(put("/api/v1/employees/{id}", john.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new EmployeeDto("Richard Roe", "Architect")))
+                .header(HttpHeaders.IF_MATCH, cbor)
+                .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, EmployeeETags.resourceTag(john.getId(), version + 1)));
+    }
+
+    @Test
+    @DisplayName("Should create from a protobuf body and answer errors in protobuf")
+    void createEmployee_WithProtobuf_ShouldRoundTrip() throws Exception {
+        MockHttpOutputMessage body = new MockHttpOutputMessage();
+        protobufConverter.write(new EmployeeDto("Alice Johnson", "UX Designer"), APPLICATION_PROTOBUF, body);
+
+        MvcResult created = mockMvc.perform(post("/api/v1/employees")
+                .contentType(APPLICATION_PROTOBUF)
+                .accept(APPLICATION_PROTOBUF)
+                .content(body.getBodyAsBytes())
+                .with(csrf()))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentType(APPLICATION_PROTOBUF))
+                .andReturn();
+        MvcResult missing = mockMvc.perform(get("/api/v1/employees/{id}", 999_999L).accept(APPLICATION_PROTOBUF))
+                .andExpect(status().isNotFound())
+                .andExpect(content().contentType(APPLICATION_PROTOBUF))
+                .andReturn();
+
+        EmployeeDto employee = decodeProtobuf(created, EmployeeDto.class);
+        ErrorResponseDto error = decodeProtobuf(missing, ErrorResponseDto.class);
+        assertThat(employee.getId()).isNotNull();
+        assertThat(employee.getName()).isEqualTo("Alice Johnson");
+        assertThat(error.getStatus()).isEqualTo(404);
+        assertThat(error.getError()).isEqualTo("EMPLOYEE_NOT_FOUND");
+        mockMvc.perform(get("/api/v1/employees/schema.proto"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("message EmployeeListResponseDto")))
+                .andExpect(content().string(containsString("message ErrorResponseDto")));
+    }
+
+    private <T> T decodeProtobuf(MvcResult result, Class<T> type) throws Exception {
+        MockHttpInputMessage input = new MockHttpInputMessage(result.getResponse().getContentAsByteArray());
+        input.getHeaders().setContentType(APPLICATION_PROTOBUF);
+        return type.cast(protobufConverter.read(type, input));
+    }
+
+    @Test
+    @DisplayName("Should return only the requested fields from list endpoints")
+    void listEndpoints_WithFields_ShouldReturnSparseEmployees() throws Exception {
+        mockMvc.perform(get("/api/v1/employees")
+                .param("sortBy", "name")
+                .param("count", "exact")
+                .param("fields", "id,name"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.embedded.employeeList", hasSize(2)))
+                .andExpect(jsonPath("$.embedded.employeeList[0].id", notNullValue()))
+                .andExpect(jsonPath("$.embedded.employeeList[0].name", is("Jane Smith")))
+                .andExpect(jsonPath("$.embedded.employeeList[0].role").doesNotExist())
+                .andExpect(jsonPath("$.page.totalElements", is(2)));
+        mockMvc.perform(get("/api/v1/employees/search")
+                .param("name", "john")
+                .param("role", "software engineer")
+                .param("fields", "role"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.embedded.employeeList[0].role", is("Software Engineer")))
+                .andExpect(jsonPath("$.embedded.employeeList[0].id").doesNotExist())
+                .andExpect(jsonPath("$.embedded.employeeList[0].name").doesNotExist());
+        mockMvc.perform(get("/api/v1/employees/role/{role}", "Software Engineer").param("fields", "name"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.embedded.employeeList[0].name", is("John Doe")))
+                .andExpect(jsonPath("$.embedded.employeeList[0].id").doesNotExist());
+
+        // Trimmed copies must not leak into the employee cache
+        mockMvc.perform(get("/api/v1/employees/role/{role}", "Software Engineer"))
+                .andExpect(jsonPath("$.embedded.employeeList[0].role", is("Software Engineer")));
+        mockMvc.perform(get("/api/v1/employees").param("fields", "id,salary"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.details", containsString("salary")));
+    }
+
     @Test
     @DisplayName("Should handle malformed JSON")
     void createEmployee_WithMalformedJson_ShouldReturn400() throws Exception {
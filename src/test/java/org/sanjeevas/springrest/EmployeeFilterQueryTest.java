@@ -0,0 +1,129 @@
+package org.sanjeevas.springrest;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.sanjeevas.springrest.dto.EmployeeDto;
+import org.sanjeevas.springrest.query.EmployeeFilter;
+import org.sanjeevas.springrest.query.EmployeeSpecifications;
+import org.sanjeevas.springrest.service.EmployeeService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Combined filters run as one paged query with predicates ordered by selectivity
+ *
+ * @author Sanjeeva
+ * @version 1.0
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "org.sanjeevas.springrest.EmployeeFilterQueryTest$SqlCapture")
+@TestPropertySource(locations = "classpath:application-test.properties")
+@DisplayName("Employee Filter Query Tests")
+class EmployeeFilterQueryTest {
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    private LocalDateTime beforeSetUp;
+
+    @BeforeEach
+    void setUp() {
+        employeeRepository.deleteAll();
+        beforeSetUp = LocalDateTime.now().minusSeconds(1);
+        employeeRepository.save(new Employee("John Doe", "Software Engineer"));
+        employeeRepository.save(new Employee("Johnny Bravo", "software ENGINEER"));
+        employeeRepository.save(new Employee("Jon 100% Snow", "Product Manager"));
+        employeeRepository.save(new Employee("Jane Smith", "Software Engineer"));
+        SqlCapture.statements.clear();
+    }
+
+    @Test
+    @DisplayName("Should combine criteria and page in the database")
+    void filter_ShouldPageMatchesInDatabase() {
+        EmployeeFilter filter = new EmployeeFilter(null, "software engineer",
+                beforeSetUp, LocalDateTime.now().plusMinutes(1), null, null);
+
+        Page<Employee> first = employeeRepository.findAll(EmployeeSpecifications.matching(filter),
+                PageRequest.of(0, 2, Sort.by("name")));
+
+        assertThat(first.getContent()).extracting(Employee::getName).containsExactly("Jane Smith", "John Doe");
+        assertThat(first.getTotalElements()).isEqualTo(3);
+        assertThat(SqlCapture.statements.get(0).toLowerCase(Locale.ROOT))
+                .contains("role_key=?", "created_at>=?", "created_at<?", "fetch first");
+    }
+
+    @Test
+    @DisplayName("Should order predicates from indexed equality to the unindexable name match")
+    void filter_ShouldOrderPredicatesBySelectivity() {
+        EmployeeFilter filter = new EmployeeFilter("john", "Software Engineer", beforeSetUp, null, null, null);
+
+        employeeRepository.findAll(EmployeeSpecifications.matching(filter), PageRequest.of(0, 10));
+
+        String sql = SqlCapture.statements.get(0).toLowerCase(Locale.ROOT);
+        assertThat(sql.indexOf("role_key=?"))
+                .isLessThan(sql.indexOf("created_at>=?"))
+                .isLessThan(sql.indexOf("like"));
+        assertThat(sql.indexOf("created_at>=?")).isLessThan(sql.indexOf("like"));
+    }
+
+    @Test
+    @DisplayName("Should take wildcards in the name literally")
+    void filter_ShouldEscapeWildcards() {
+        assertThat(employeeRepository.findAll(EmployeeSpecifications.matching(EmployeeFilter.of("0% s", null))))
+                .extracting(Employee::getName).containsExactly("Jon 100% Snow");
+        assertThat(employeeRepository.findAll(EmployeeSpecifications.matching(EmployeeFilter.of("j_n", null))))
+                .isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should narrow name filters to index candidates read by primary key")
+    void findAll_WithName_ShouldQueryIndexCandidates() {
+        Page<EmployeeDto> page = employeeService.findAll(EmployeeFilter.of("JOHN", "software engineer"),
+                PageRequest.of(0, 10, Sort.by("id")));
+
+        assertThat(page.getContent()).extracting(EmployeeDto::getName)
+                .containsExactlyInAnyOrder("John Doe", "Johnny Bravo");
+        String sql = SqlCapture.statements.get(0).toLowerCase(Locale.ROOT);
+        assertThat(sql.indexOf("id in")).isNotNegative().isLessThan(sql.indexOf("role_key=?"));
+    }
+
+    @Test
+    @DisplayName("Should answer without a query when the indexes rule out every employee")
+    void findAll_WithNameMatchingNothing_ShouldNotQuery() {
+        Page<EmployeeDto> page = employeeService.findAll(EmployeeFilter.of("bravo", "Product Manager"),
+                PageRequest.of(0, 10));
+
+        assertThat(page.getTotalElements()).isZero();
+        assertThat(SqlCapture.statements).isEmpty();
+    }
+
+    /**
+     * Records the SQL Hibernate sends so its shape can be inspected
+     */
+    public static class SqlCapture implements StatementInspector {
+
+        static final List<String> statements = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            statements.add(sql);
+            return sql;
+        }
+    }
+}
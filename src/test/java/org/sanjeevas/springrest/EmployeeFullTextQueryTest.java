@@ -0,0 +1,140 @@
+package org.sanjeevas.springrest;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.sanjeevas.springrest.dto.EmployeeDto;
+import org.sanjeevas.springrest.query.EmployeeFullTextSearch;
+import org.sanjeevas.springrest.service.EmployeeService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Paged name searches go through H2's built-in full-text index when enabled
+ *
+ * @author Sanjeeva
+ * @version 1.2
+ */
+@SpringBootTest(properties = {
+        "app.search.full-text.enabled=true",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "org.sanjeevas.springrest.EmployeeFullTextQueryTest$SqlCapture"})
+@TestPropertySource(locations = "classpath:application-test.properties")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@DisplayName("Employee Full-Text Query Tests")
+class EmployeeFullTextQueryTest {
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeFullTextSearch employeeFullTextSearch;
+
+    private Employee anna;
+
+    @BeforeEach
+    void setUp() {
+        employeeRepository.deleteAll();
+        employeeRepository.save(new Employee("John Doe", "Software Engineer"));
+        employeeRepository.save(new Employee("Johnny Bravo", "Engineer"));
+        employeeRepository.save(new Employee("Will Smith", "Smith"));
+        employeeRepository.save(new Employee("Wei Li", "Product Manager"));
+        anna = employeeRepository.save(new Employee("Anna van Dijk", "Software Engineer"));
+        employeeRepository.save(new Employee("Hanna van Dam", "Product Manager"));
+        employeeRepository.save(new Employee("Jana van Dort", "Engineer"));
+        SqlCapture.statements.clear();
+    }
+
+    @Test
+    @DisplayName("Should page name matches found through the index without a LIKE scan")
+    void search_ShouldPageWordMatchesFromIndex() {
+        assertThat(employeeFullTextSearch.isReady()).isTrue();
+        assertThat(employeeFullTextSearch.search("NA VAN D", PageRequest.of(0, 2)))
+                .hasValueSatisfying(page -> assertThat(page.getTotalElements()).isEqualTo(3));
+
+        Page<EmployeeDto> first = employeeService.findByNameContainingIgnoreCase("NA VAN D", PageRequest.of(0, 2));
+        Page<EmployeeDto> second = employeeService.findByNameContainingIgnoreCase("NA VAN D", PageRequest.of(1, 2));
+
+        assertThat(first.getTotalElements()).isEqualTo(3);
+        assertThat(first.getContent()).extracting(EmployeeDto::getName)
+                .containsExactly("Anna van Dijk", "Hanna van Dam");
+        assertThat(second.getContent()).extracting(EmployeeDto::getName).containsExactly("Jana van Dort");
+        assertThat(second.hasNext()).isFalse();
+        assertThat(SqlCapture.statements)
+                .noneMatch(sql -> sql.toLowerCase(Locale.ROOT).contains(" like "));
+    }
+
+    @Test
+    @DisplayName("Should require the whole words and the text within the name")
+    void search_ShouldMatchWholeWordsAndText() {
+        assertThat(names("na van dijk")).containsExactly("Anna van Dijk");
+        assertThat(names("anna van d")).containsExactly("Anna van Dijk", "Hanna van Dam");
+        assertThat(names("dijk van anna")).isEmpty();
+        // The index also holds roles, but a role alone is not a name match
+        assertThat(employeeFullTextSearch.search("x engineer y", PageRequest.of(0, 10))).isPresent();
+        assertThat(names("x engineer y")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should still find names containing mid-word text and short words")
+    void search_WithPartialWords_ShouldFallBackToSubstrings() {
+        // Neither can narrow through whole indexed words, so both match as substrings
+        assertThat(employeeFullTextSearch.search("ohn", PageRequest.of(0, 10))).isEmpty();
+        assertThat(employeeFullTextSearch.search("wei li", PageRequest.of(0, 10))).isEmpty();
+
+        assertThat(names("ohn")).containsExactly("John Doe", "Johnny Bravo");
+        assertThat(names("li")).containsExactly("Wei Li");
+        assertThat(names("wei li")).containsExactly("Wei Li");
+        assertThat(names("nna van")).containsExactly("Anna van Dijk", "Hanna van Dam");
+    }
+
+    @Test
+    @DisplayName("Should reflect committed renames")
+    void search_AfterRename_ShouldMatchNewName() {
+        employeeService.update(anna.getId(), new EmployeeDto("Anna ter Dijk", "Software Engineer"));
+
+        assertThat(names("na van d")).containsExactly("Hanna van Dam", "Jana van Dort");
+        assertThat(names("anna ter dijk")).containsExactly("Anna ter Dijk");
+    }
+
+    @Test
+    @DisplayName("Should match substrings when the text has no words to search for")
+    void search_WithoutWords_ShouldFallBackToSubstrings() {
+        assertThat(employeeFullTextSearch.search(" %_ ", PageRequest.of(0, 10))).isEmpty();
+        assertThat(names(" ")).hasSize(7);
+    }
+
+    private List<String> names(String text) {
+        return employeeService.findByNameContainingIgnoreCase(text, PageRequest.of(0, 10)).getContent().stream()
+                .map(EmployeeDto::getName)
+                .toList();
+    }
+
+    /**
+     * Records the SQL Hibernate sends so the search can be checked for LIKE scans
+     */
+    public static class SqlCapture implements StatementInspector {
+
+        static final List<String> statements = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            statements.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package org.sanjeevas.springrest;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Insert throughput benchmark for Employee id generation
+ * Run with: mvn test -Pbenchmark [-Dapp.id.strategy=pooled|snowflake]
+ *
+ * @author Sanjeeva
+ * @version 1.1
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@TestPropertySource(locations = "classpath:application-test.properties")
+@Tag("benchmark")
+@DisplayName("Employee Insert Benchmark")
+class EmployeeInsertBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeInsertBenchmarkTest.class);
+
+    private static final int WARMUP_ROWS = 5_000;
+    private static final int MEASURED_ROWS = 50_000;
+    private static final int CHUNK_SIZE = 500;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("Should report chunked insert throughput")
+    void insertThroughput() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        insert(WARMUP_ROWS);
+        statistics.clear();
+
+        long start = System.nanoTime();
+        insert(MEASURED_ROWS);
+        long elapsedNanos = System.nanoTime() - start;
+
+        logger.info(String.format("Inserted %d employees in %d ms: %.0f rows/s, %d JDBC statements prepared",
+                MEASURED_ROWS, elapsedNanos / 1_000_000, MEASURED_ROWS * 1e9 / elapsedNanos,
+                statistics.getPrepareStatementCount()));
+        assertThat(employeeRepository.count()).isGreaterThanOrEqualTo(WARMUP_ROWS + MEASURED_ROWS);
+    }
+
+    private void insert(int rows) {
+        for (int offset = 0; offset < rows; offset += CHUNK_SIZE) {
+            int base = offset;
+            transactionTemplate.executeWithoutResult(status -> {
+                List<Employee> employees = new ArrayList<>(CHUNK_SIZE);
+                for (int i = 0; i < CHUNK_SIZE; i++) {
+                    employees.add(new Employee("Benchmark Employee", "Engineer " + (base + i)));
+                }
+                employeeRepository.saveAll(employees);
+                employeeRepository.flush();
+                entityManager.clear();
+            });
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package org.sanjeevas.springrest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.sanjeevas.springrest.dto.EmployeeDto;
+import org.sanjeevas.springrest.mapper.EmployeeMapper;
+import org.sanjeevas.springrest.support.AllocationSample;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * List page benchmark: managed entities mapped to DTOs against constructor
+ * projections straight into DTOs, 1,000 rows per page in read-only transactions
+ * Reports heap allocated by the calling thread and time per page.
+ * Run with: mvn test -Pbenchmark -Dtest=EmployeeListBenchmarkTest
+ *
+ * @author Sanjeeva
+ * @version 1.1
+ */
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application-test.properties")
+@Tag("benchmark")
+@DisplayName("Employee List Benchmark")
+class EmployeeListBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeListBenchmarkTest.class);
+
+    private static final int ROWS = 100_000;
+    private static final int INSERT_BATCH = 5_000;
+    private static final long FIRST_ID = 10_000_000L;
+    private static final int PAGE_SIZE = 1_000;
+    private static final int ROUNDS = 3;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EmployeeMapper employeeMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("Should report allocation per 1,000-row page for entities and projections")
+    void listPageAllocation() {
+        insertRows();
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        Function<Pageable, List<EmployeeDto>> entities = pageable ->
+                employeeRepository.findAll(pageable).map(employeeMapper::toDto).getContent();
+        Function<Pageable, List<EmployeeDto>> projections = pageable ->
+                employeeRepository.findAllAsDto(pageable).getContent();
+
+        for (int round = 0; round < ROUNDS; round++) {
+            report("entity + mapper", readOnly, entities);
+            report("projection", readOnly, projections);
+        }
+    }
+
+    private void report(String label, TransactionTemplate readOnly, Function<Pageable, List<EmployeeDto>> loader) {
+        int pages = ROWS / PAGE_SIZE;
+        AllocationSample sample = AllocationSample.measure(() -> {
+            for (int page = 0; page < pages; page++) {
+                Pageable pageable = PageRequest.of(page, PAGE_SIZE, Sort.by("id"));
+                List<EmployeeDto> employees = readOnly.execute(status -> loader.apply(pageable));
+                assertThat(employees).hasSize(PAGE_SIZE);
+            }
+        });
+
+        logger.info(String.format("%-16s %8.1f KB allocated per page  %6.2f ms per page",
+                label, sample.bytesPer(pages) / 1024, sample.nanosPer(pages) / 1e6));
+    }
+
+    private void insertRows() {
+        Timestamp now = Timestamp.from(Instant.now());
+        for (int offset = 0; offset < ROWS; offset += INSERT_BATCH) {
+            List<Object[]> batch = new ArrayList<>(INSERT_BATCH);
+            for (int i = offset; i < offset + INSERT_BATCH; i++) {
+                batch.add(new Object[] {FIRST_ID + i, "Employee " + i, "Engineer", "engineer", now, now, 0L});
+            }
+            jdbcTemplate.batchUpdate("INSERT INTO employees (id, name, role, role_key, created_at, updated_at, "
+                    + "version) VALUES (?, ?, ?, ?, ?, ?, ?)", batch);
+        }
+    }
+}
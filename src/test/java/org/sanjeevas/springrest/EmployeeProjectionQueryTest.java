@@ -0,0 +1,150 @@
+package org.sanjeevas.springrest;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.sanjeevas.springrest.dto.EmployeeDto;
+import org.sanjeevas.springrest.query.EmployeeField;
+import org.sanjeevas.springrest.query.EmployeeFilter;
+import org.sanjeevas.springrest.query.EmployeeProjectionQuery;
+import org.sanjeevas.springrest.query.EmployeeSpecifications;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Read-only list queries select id, name and role straight into EmployeeDto,
+ * or only the columns of the fields a client asked for
+ *
+ * @author Sanjeeva
+ * @version 1.1
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "org.sanjeevas.springrest.EmployeeProjectionQueryTest$SqlCapture")
+@TestPropertySource(locations = "classpath:application-test.properties")
+@DisplayName("Employee Projection Query Tests")
+class EmployeeProjectionQueryTest {
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EmployeeProjectionQuery employeeProjectionQuery;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        employeeRepository.deleteAll();
+        employeeRepository.save(new Employee("John Doe", "Software Engineer"));
+        employeeRepository.save(new Employee("Jon 100% Snow", "software ENGINEER"));
+        employeeRepository.save(new Employee("Jane Smith", "Product Manager"));
+        SqlCapture.statements.clear();
+    }
+
+    @Test
+    @DisplayName("Should select only id, name and role and leave nothing managed")
+    void findAsDto_ShouldNotHydrateEntities() {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        int managed = readOnly.execute(status -> {
+            List<EmployeeDto> engineers = employeeRepository.findAsDtoByRole("software engineer");
+            assertThat(engineers).extracting(EmployeeDto::getName)
+                    .containsExactlyInAnyOrder("John Doe", "Jon 100% Snow");
+            assertThat(employeeRepository.findAllAsDto()).hasSize(3);
+            return entityManager.unwrap(Session.class).getStatistics().getEntityCount();
+        });
+
+        assertThat(managed).isZero();
+        assertThat(SqlCapture.statements).isNotEmpty().allSatisfy(sql -> assertThat(sql.toLowerCase(Locale.ROOT))
+                .doesNotContain("created_at", "updated_at", "version"));
+    }
+
+    @Test
+    @DisplayName("Should page and sort projections by entity properties")
+    void findAllAsDto_ShouldPageAndSort() {
+        Page<EmployeeDto> page = employeeRepository.findAllAsDto(PageRequest.of(0, 2, Sort.by("name")));
+
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(page.getContent()).extracting(EmployeeDto::getName).containsExactly("Jane Smith", "John Doe");
+        assertThat(employeeRepository.findSliceAsDto(PageRequest.of(1, 2, Sort.by("name"))).getContent())
+                .extracting(EmployeeDto::getName).containsExactly("Jon 100% Snow");
+    }
+
+    @Test
+    @DisplayName("Should match names ignoring case with wildcards taken literally")
+    void findAsDtoByNameContainingIgnoreCase_ShouldEscapeWildcards() {
+        assertThat(employeeRepository.findAsDtoByNameContainingIgnoreCase("JO"))
+                .extracting(EmployeeDto::getName).containsExactlyInAnyOrder("John Doe", "Jon 100% Snow");
+        assertThat(employeeRepository.findAsDtoByNameContainingIgnoreCase("0%"))
+                .extracting(EmployeeDto::getName).containsExactly("Jon 100% Snow");
+        assertThat(employeeRepository.findAsDtoByNameContainingIgnoreCase("_")).isEmpty();
+        assertThat(employeeRepository.findAsDtoByNameContainingIgnoreCaseAndRole("jo", "SOFTWARE engineer"))
+                .hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Should select only the columns of the requested fields")
+    void findPage_WithFields_ShouldNarrowSelectList() {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        Set<EmployeeField> fields = EnumSet.of(EmployeeField.ID, EmployeeField.NAME);
+
+        Page<EmployeeDto> page = readOnly.execute(status -> employeeProjectionQuery.findPage(
+                EmployeeSpecifications.matching(EmployeeFilter.of("jo", null)), fields,
+                PageRequest.of(0, 1, Sort.by("name"))));
+        Slice<EmployeeDto> slice = readOnly.execute(status -> employeeProjectionQuery.findSlice(
+                EmployeeSpecifications.matching(EmployeeFilter.of("jo", null)), fields,
+                PageRequest.of(1, 1, Sort.by("name"))));
+
+        assertThat(page.getTotalElements()).isEqualTo(2);
+        assertThat(page.getContent()).singleElement().satisfies(employee -> {
+            assertThat(employee.getId()).isNotNull();
+            assertThat(employee.getName()).isEqualTo("John Doe");
+            assertThat(employee.getRole()).isNull();
+        });
+        assertThat(slice.hasNext()).isFalse();
+        assertThat(slice.getContent()).extracting(EmployeeDto::getName).containsExactly("Jon 100% Snow");
+        assertThat(SqlCapture.statements).filteredOn(sql -> !sql.toLowerCase(Locale.ROOT).contains("count("))
+                .hasSize(2)
+                .allSatisfy(sql -> assertThat(sql.toLowerCase(Locale.ROOT))
+                        .contains("name")
+                        .doesNotContain("role", "created_at", "updated_at", "version"));
+    }
+
+    /**
+     * Records the SQL Hibernate sends so the selected columns can be checked
+     */
+    public static class SqlCapture implements StatementInspector {
+
+        static final List<String> statements = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            statements.add(sql);
+            return sql;
+        }
+    }
+}
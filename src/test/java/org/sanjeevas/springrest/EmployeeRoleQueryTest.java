@@ -0,0 +1,103 @@
+package org.sanjeevas.springrest;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.sanjeevas.springrest.migration.RoleKeyBackfill;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Role lookups go through the indexed role_key column
+ *
+ * @author Sanjeeva
+ * @version 1.0
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "org.sanjeevas.springrest.EmployeeRoleQueryTest$SqlCapture")
+@TestPropertySource(locations = "classpath:application-test.properties")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@DisplayName("Employee Role Query Tests")
+class EmployeeRoleQueryTest {
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private RoleKeyBackfill roleKeyBackfill;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        employeeRepository.deleteAll();
+        employeeRepository.save(new Employee("John Doe", "Software Engineer"));
+        employeeRepository.save(new Employee("Jane Smith", "software ENGINEER"));
+        employeeRepository.save(new Employee("Bob Brown", "Product Manager"));
+        SqlCapture.statements.clear();
+    }
+
+    @Test
+    @DisplayName("Should match roles ignoring case and whitespace with an index seek on role_key")
+    void findByRole_ShouldSeekRoleKeyIndex() {
+        List<Employee> engineers = employeeRepository.findByRole("  Software Engineer ");
+
+        assertThat(engineers).extracting(Employee::getName).containsExactlyInAnyOrder("John Doe", "Jane Smith");
+        String sql = SqlCapture.last();
+        assertThat(sql).contains("role_key=?").doesNotContain("lower(");
+        assertThat(explain(sql, "software engineer")).contains("IDX_EMPLOYEE_ROLE_KEY");
+    }
+
+    @Test
+    @DisplayName("Should count roles with an index seek on role_key")
+    void countByRoleIgnoreCase_ShouldSeekRoleKeyIndex() {
+        assertThat(employeeRepository.countByRoleIgnoreCase("PRODUCT MANAGER")).isEqualTo(1);
+
+        assertThat(explain(SqlCapture.last(), "product manager")).contains("IDX_EMPLOYEE_ROLE_KEY");
+    }
+
+    @Test
+    @DisplayName("Should backfill role keys on rows written without one")
+    void backfill_ShouldSetMissingRoleKeys() {
+        jdbcTemplate.update("INSERT INTO employees (id, name, role, created_at, updated_at, version) "
+                + "VALUES (999999, 'Legacy Employee', 'Software Engineer', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 0)");
+
+        assertThat(roleKeyBackfill.backfill()).isEqualTo(1);
+        assertThat(roleKeyBackfill.backfill()).isZero();
+        assertThat(employeeRepository.findByRole("software engineer")).hasSize(3);
+    }
+
+    private String explain(String sql, Object... args) {
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, args))
+                .toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * Records the SQL Hibernate sends so its plan can be inspected
+     */
+    public static class SqlCapture implements StatementInspector {
+
+        static final List<String> statements = new CopyOnWriteArrayList<>();
+
+        static String last() {
+            return statements.get(statements.size() - 1);
+        }
+
+        @Override
+        public String inspect(String sql) {
+            statements.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package org.sanjeevas.springrest;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.sanjeevas.springrest.bulk.BulkFormat;
+import org.sanjeevas.springrest.bulk.EmployeeExporter;
+import org.sanjeevas.springrest.dto.EmployeeDto;
+import org.sanjeevas.springrest.service.EmployeeService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Employees are served from Hibernate's second-level and query caches, which
+ * follow version bumps, inserts, single-row writes by ID and bulk updates
+ *
+ * @author Sanjeeva
+ * @version 1.1
+ */
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application-test.properties")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+@DisplayName("Employee Second-Level Cache Tests")
+class EmployeeSecondLevelCacheTest {
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private EmployeeExporter employeeExporter;
+
+    private Statistics statistics;
+    private TransactionTemplate transaction;
+    private Employee john;
+
+    @BeforeEach
+    void setUp() {
+        employeeRepository.deleteAll();
+        john = employeeRepository.save(new Employee("John Doe", "Software Engineer"));
+        employeeRepository.save(new Employee("Jane Smith", "Product Manager"));
+        entityManagerFactory.getCache().evictAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        transaction = new TransactionTemplate(transactionManager);
+    }
+
+    @Test
+    @DisplayName("Should load an employee from the database once and from the cache after that")
+    void findById_ShouldHitEntityCacheInLaterTransactions() {
+        Employee first = transaction.execute(status -> employeeRepository.findById(john.getId()).orElseThrow());
+        Employee second = transaction.execute(status -> employeeRepository.findById(john.getId()).orElseThrow());
+
+        assertThat(second.getName()).isEqualTo(first.getName());
+        assertThat(employees().getMissCount()).isEqualTo(1);
+        assertThat(employees().getHitCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(1);
+        assertThat(employeeService.existsById(john.getId())).isTrue();
+        assertThat(employees().getHitCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should evict the updated employee and load its new version on the next read")
+    void update_ShouldEvictCachedEntry() {
+        long version = transaction.execute(status ->
+                employeeRepository.findById(john.getId()).orElseThrow().getVersion());
+
+        employeeService.update(john.getId(), new EmployeeDto("Richard Roe", "Software Engineer"));
+        assertThat(entityManagerFactory.getCache().contains(Employee.class, john.getId())).isFalse();
+        statistics.clear();
+        Employee updated = transaction.execute(status -> employeeRepository.findById(john.getId()).orElseThrow());
+
+        assertThat(updated.getName()).isEqualTo("Richard Roe");
+        assertThat(updated.getVersion()).isEqualTo(version + 1);
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should keep other employees cached across a PUT and a DELETE")
+    void writes_ShouldLeaveOtherEntriesCached() {
+        Long janeId = transaction.execute(status ->
+                employeeRepository.findAsDtoByRole("product manager").get(0).getId());
+        transaction.execute(status -> employeeRepository.findById(janeId));
+
+        employeeService.update(john.getId(), new EmployeeDto("Richard Roe", "Software Engineer"));
+        employeeService.deleteById(john.getId());
+
+        assertThat(entityManagerFactory.getCache().contains(Employee.class, janeId)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should drop cached role lookups when a PUT changes a role")
+    void update_ShouldInvalidateRoleLookups() {
+        assertThat(employeeRepository.findAsDtoByRole("software engineer")).hasSize(1);
+
+        employeeService.update(john.getId(), new EmployeeDto("John Doe", "Architect"));
+
+        assertThat(employeeRepository.findAsDtoByRole("software engineer")).isEmpty();
+        assertThat(employeeRepository.findAsDtoByRole("architect")).extracting(EmployeeDto::getName)
+                .containsExactly("John Doe");
+    }
+
+    @Test
+    @DisplayName("Should put the old row back in no cache when the write rolls back")
+    void update_WhenRolledBack_ShouldLeaveNoStaleEntry() {
+        transaction.execute(status -> {
+            employeeService.update(john.getId(), new EmployeeDto("Richard Roe", "Software Engineer"));
+            // Read inside the write's transaction, so its uncommitted row may be cached
+            employeeRepository.findById(john.getId());
+            status.setRollbackOnly();
+            return null;
+        });
+
+        assertThat(entityManagerFactory.getCache().contains(Employee.class, john.getId())).isFalse();
+        Employee stored = transaction.execute(status -> employeeRepository.findById(john.getId()).orElseThrow());
+        assertThat(stored.getName()).isEqualTo("John Doe");
+    }
+
+    @Test
+    @DisplayName("Should cache role lookups until the employees table is written")
+    void findByRole_ShouldUseQueryCacheUntilTableChanges() {
+        assertThat(employeeRepository.findAsDtoByRole("software engineer")).hasSize(1);
+        assertThat(employeeRepository.findAsDtoByRole("SOFTWARE ENGINEER")).hasSize(1);
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+
+        employeeRepository.save(new Employee("Jon Snow", "Software Engineer"));
+
+        assertThat(employeeRepository.findAsDtoByRole("software engineer")).extracting(EmployeeDto::getName)
+                .containsExactlyInAnyOrder("John Doe", "Jon Snow");
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should drop cached employees when a bulk update writes the table")
+    void bulkUpdate_ShouldEvictEntityRegion() {
+        transaction.execute(status -> employeeRepository.findById(john.getId()));
+        assertThat(entityManagerFactory.getCache().contains(Employee.class, john.getId())).isTrue();
+
+        transaction.execute(status -> employeeRepository.backfillRoleKey("Software Engineer", "unused"));
+
+        assertThat(entityManagerFactory.getCache().contains(Employee.class, john.getId())).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should export every employee without filling the entity region")
+    void export_ShouldBypassEntityRegion() throws IOException {
+        long exported = employeeExporter.export(BulkFormat.NDJSON, new ByteArrayOutputStream());
+
+        assertThat(exported).isEqualTo(2);
+        assertThat(employees().getPutCount()).isZero();
+        assertThat(entityManagerFactory.getCache().contains(Employee.class, john.getId())).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should expose region hits and misses as metrics")
+    void metrics_ShouldReportRegionRequests() {
+        transaction.execute(status -> employeeRepository.findById(john.getId()));
+        transaction.execute(status -> employeeRepository.findById(john.getId()));
+
+        FunctionCounter hits = meterRegistry.find("hibernate.second.level.cache.requests")
+                .tags("region", "employees", "result", "hit")
+                .functionCounter();
+        assertThat(hits).isNotNull();
+        assertThat(hits.count()).isEqualTo(1);
+    }
+
+    private CacheRegionStatistics employees() {
+        return statistics.getDomainDataRegionStatistics("employees");
+    }
+}
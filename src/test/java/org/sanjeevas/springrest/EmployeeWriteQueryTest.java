@@ -0,0 +1,230 @@
+package org.sanjeevas.springrest;
+
+import jakarta.validation.ConstraintViolationException;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.sanjeevas.springrest.dto.EmployeeDto;
+import org.sanjeevas.springrest.exception.EmployeePreconditionFailedException;
+import org.sanjeevas.springrest.service.EmployeeService;
+import org.sanjeevas.springrest.service.UpsertResult;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mockingDetails;
+
+/**
+ * Updates and deletes by ID are one statement, conditional on the version where
+ * one is given, and a stale or missing employee is never read; unconditional
+ * partial updates set only the changed columns
+ *
+ * @author Sanjeeva
+ * @version 1.2
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "org.sanjeevas.springrest.EmployeeWriteQueryTest$SqlCapture")
+@TestPropertySource(locations = "classpath:application-test.properties")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+@DisplayName("Employee Write Query Tests")
+class EmployeeWriteQueryTest {
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    // Single-row writes run through JDBC, which the statement inspector does not see
+    @SpyBean
+    private JdbcTemplate jdbcTemplate;
+
+    private Employee john;
+
+    @BeforeEach
+    void setUp() {
+        employeeRepository.deleteAll();
+        john = employeeRepository.save(new Employee("John Doe", "Software Engineer"));
+        employeeRepository.save(new Employee("Jane Smith", "Software Engineer"));
+        SqlCapture.statements.clear();
+        clearInvocations(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("Should update an existing employee with a single UPDATE and no read")
+    void update_WhenExists_ShouldIssueOneUpdate() {
+        UpsertResult result = employeeService.update(john.getId(), new EmployeeDto("Richard Roe", "Architect"));
+
+        assertThat(result.created()).isFalse();
+        assertThat(SqlCapture.statements).isEmpty();
+        assertThat(jdbcWrites()).singleElement()
+                .satisfies(sql -> assertThat(lower(sql)).startsWith("update employees"));
+        Employee stored = employeeRepository.findById(john.getId()).orElseThrow();
+        assertThat(stored.getName()).isEqualTo("Richard Roe");
+        assertThat(stored.getRoleKey()).isEqualTo("architect");
+        assertThat(stored.getVersion()).isEqualTo(john.getVersion() + 1);
+        assertThat(stored.getUpdatedAt()).isAfterOrEqualTo(john.getUpdatedAt());
+        assertThat(employeeService.findByRole("architect")).extracting(EmployeeDto::getName)
+                .containsExactly("Richard Roe");
+    }
+
+    @Test
+    @DisplayName("Should create a new employee when none has the ID")
+    void update_WhenMissing_ShouldCreate() {
+        UpsertResult result = employeeService.update(Long.MAX_VALUE, new EmployeeDto("New Hire", "Engineer"));
+
+        assertThat(result.created()).isTrue();
+        assertThat(result.employee().getId()).isNotEqualTo(Long.MAX_VALUE);
+        assertThat(employeeRepository.count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should reject values breaking the entity's constraints without writing")
+    void update_WithInvalidValue_ShouldThrow() {
+        assertThatThrownBy(() -> employeeService.update(john.getId(), new EmployeeDto("X", "Architect")))
+                .isInstanceOf(ConstraintViolationException.class);
+        assertThat(jdbcWrites()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should delete with a single DELETE and report whether the employee existed")
+    void deleteById_ShouldIssueOneDelete() {
+        long before = employeeService.count();
+
+        assertThat(employeeService.deleteById(john.getId())).isTrue();
+        assertThat(SqlCapture.statements).isEmpty();
+        assertThat(jdbcWrites()).singleElement()
+                .satisfies(sql -> assertThat(lower(sql)).startsWith("delete from employees"));
+        assertThat(employeeService.deleteById(john.getId())).isFalse();
+        assertThat(employeeService.count()).isEqualTo(before - 1);
+        assertThat(employeeService.findByRole("software engineer")).extracting(EmployeeDto::getName)
+                .containsExactly("Jane Smith");
+    }
+
+    @Test
+    @DisplayName("Should set only the changed columns on a partial update")
+    void partialUpdate_ShouldUpdateChangedColumnsOnly() {
+        employeeService.partialUpdate(john.getId(), new EmployeeDto("Richard Roe", null));
+
+        assertThat(SqlCapture.statements).filteredOn(sql -> lower(sql).startsWith("update"))
+                .singleElement()
+                .satisfies(sql -> assertThat(lower(sql))
+                        .contains("name=", "updated_at=", "version=")
+                        .doesNotContain("role=", "role_key=", "created_at="));
+    }
+
+    @Test
+    @DisplayName("Should check the version in the single UPDATE and DELETE and fail stale writes without reading")
+    void conditionalWrites_ShouldCheckVersionInTheStatement() {
+        long version = john.getVersion();
+
+        EmployeeDto replaced = employeeService.replace(john.getId(), new EmployeeDto("Richard Roe", "Architect"),
+                version);
+        assertThatThrownBy(() -> employeeService.replace(john.getId(), new EmployeeDto("Stale", "Architect"),
+                version)).isInstanceOf(EmployeePreconditionFailedException.class);
+        assertThatThrownBy(() -> employeeService.partialUpdate(john.getId(), new EmployeeDto("Stale", null),
+                version)).isInstanceOf(EmployeePreconditionFailedException.class);
+        assertThatThrownBy(() -> employeeService.deleteById(john.getId(), version))
+                .isInstanceOf(EmployeePreconditionFailedException.class);
+
+        assertThat(replaced.getVersion()).isEqualTo(version + 1);
+        assertThat(SqlCapture.statements).isEmpty();
+        assertThat(jdbcWrites()).hasSize(4).allSatisfy(sql -> assertThat(lower(sql))
+                .matches("(update|delete from) employees .*where id = \\? and version = \\?"));
+        employeeService.deleteById(john.getId(), version + 1);
+        assertThat(employeeRepository.existsById(john.getId())).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should answer a conditional partial update from the cached employee without reading it")
+    void partialUpdate_WithVersion_ShouldMergeCachedEmployee() {
+        EmployeeDto cached = employeeService.findById(john.getId()).orElseThrow();
+        SqlCapture.statements.clear();
+
+        EmployeeDto updated = employeeService.partialUpdate(john.getId(), new EmployeeDto(null, "Architect"),
+                cached.getVersion());
+
+        assertThat(updated).extracting(EmployeeDto::getName, EmployeeDto::getRole, EmployeeDto::getVersion)
+                .containsExactly("John Doe", "Architect", cached.getVersion() + 1);
+        assertThat(SqlCapture.statements).isEmpty();
+        assertThat(jdbcWrites()).singleElement().satisfies(sql -> assertThat(lower(sql))
+                .startsWith("update employees set role = ?, role_key = ?, updated_at = ?"));
+        assertThat(employeeService.findById(john.getId())).contains(updated);
+    }
+
+    @Test
+    @DisplayName("Should let exactly one of several concurrent writers at the same version win")
+    void replace_WhenConcurrent_ShouldApplyOnlyOne() throws Exception {
+        int writers = 8;
+        long version = john.getVersion();
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> outcomes = new ArrayList<>();
+        for (int i = 0; i < writers; i++) {
+            String name = "Writer " + (char) ('A' + i);
+            outcomes.add(executor.submit(() -> {
+                start.await();
+                try {
+                    employeeService.replace(john.getId(), new EmployeeDto(name, "Architect"), version);
+                    return true;
+                } catch (EmployeePreconditionFailedException ex) {
+                    return false;
+                }
+            }));
+        }
+        start.countDown();
+
+        int applied = 0;
+        for (Future<Boolean> outcome : outcomes) {
+            applied += outcome.get(30, TimeUnit.SECONDS) ? 1 : 0;
+        }
+        executor.shutdown();
+
+        assertThat(applied).isEqualTo(1);
+        assertThat(employeeRepository.findById(john.getId()).orElseThrow().getVersion()).isEqualTo(version + 1);
+    }
+
+    private List<String> jdbcWrites() {
+        return mockingDetails(jdbcTemplate).getInvocations().stream()
+                // update(String, Object...) only; the overloads it delegates to are recorded too
+                .filter(invocation -> invocation.getMethod().getName().equals("update")
+                        && invocation.getMethod().isVarArgs())
+                .map(invocation -> (String) invocation.getArgument(0))
+                .toList();
+    }
+
+    private static String lower(String sql) {
+        return sql.toLowerCase(Locale.ROOT).replaceFirst("^/\\*.*?\\*/\\s*", "");
+    }
+
+    /**
+     * Records the SQL Hibernate sends so statements per write can be counted
+     */
+    public static class SqlCapture implements StatementInspector {
+
+        static final List<String> statements = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            statements.add(sql);
+            return sql;
+        }
+    }
+}
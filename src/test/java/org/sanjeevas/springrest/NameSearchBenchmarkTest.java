@@ -0,0 +1,193 @@
+package org.sanjeevas.springrest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.sanjeevas.springrest.index.EmployeeNameIndex;
+import org.sanjeevas.springrest.index.EmployeeSuggestionIndex;
+import org.sanjeevas.springrest.service.EmployeeService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Name search benchmark at 1M rows: "contains" search as a LIKE query against the
+ * trigram index, prefix autocomplete from the suggestion index, and
+ * typo-tolerant search from the word index
+ * Run with: mvn test -Pbenchmark -Dtest=NameSearchBenchmarkTest -DargLine=-Xmx3g
+ * (the in-memory database and all indexes hold the 1M rows at once)
+ *
+ * @author Sanjeeva
+ * @version 1.2
+ */
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application-test.properties")
+@Tag("benchmark")
+@DisplayName("Name Search Benchmark")
+class NameSearchBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(NameSearchBenchmarkTest.class);
+
+    private static final int ROWS = 1_000_000;
+    private static final int INSERT_BATCH = 5_000;
+    private static final long FIRST_ID = 10_000_000L;
+    private static final int RUNS = 5;
+
+    private static final String[] FIRST_NAMES = {
+        "James", "Mary", "Robert", "Patricia", "John", "Jennifer", "Michael", "Linda", "David", "Elizabeth",
+        "William", "Barbara", "Richard", "Susan", "Joseph", "Jessica", "Thomas", "Sarah", "Charles", "Karen"
+    };
+    private static final String[] LAST_NAMES = {
+        "Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller", "Davis", "Rodriguez", "Martinez",
+        "Hernandez", "Lopez", "Gonzalez", "Wilson", "Anderson", "Thomas", "Taylor", "Moore", "Jackson", "Martin"
+    };
+
+    // From a single row to a tenth of the table
+    private static final String[] QUERIES = {name(123_456), "Qbxzk", "zzzz", "Martinez", "liam"};
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EmployeeNameIndex employeeNameIndex;
+
+    @Autowired
+    private EmployeeSuggestionIndex employeeSuggestionIndex;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    private static final String[] PREFIXES = {"j", "Mar", "Thomas Gonz", name(123_456), "x"};
+    private static final int SUGGEST_LIMIT = 10;
+    private static final int SUGGEST_RUNS = 10_000;
+
+    // Misspelt common words, a misspelt unique tag, and a word close to nothing
+    private static final String[] FUZZY_QUERIES = {
+        "Jhon Smith", "Marteniz", "Wiliams Mary", typo(name(123_456)), "Rodrigez Tomas", "Qqqqqq"
+    };
+    private static final int FUZZY_LIMIT = 20;
+    private static final int FUZZY_RUNS = 2_000;
+
+    @Test
+    @DisplayName("Should report LIKE, trigram index and suggestion latency")
+    void nameSearchLatency() {
+        insertRows();
+        long buildStart = System.nanoTime();
+        employeeNameIndex.build();
+        logger.info(String.format("Indexed %d employees in %d ms", ROWS, (System.nanoTime() - buildStart) / 1_000_000));
+        buildStart = System.nanoTime();
+        employeeSuggestionIndex.build();
+        logger.info(String.format("Built suggestions for %d employees in %d ms",
+                ROWS, (System.nanoTime() - buildStart) / 1_000_000));
+
+        for (String prefix : PREFIXES) {
+            int suggestions = employeeSuggestionIndex.suggest(prefix, SUGGEST_LIMIT).orElseThrow().size();
+            long start = System.nanoTime();
+            for (int run = 0; run < SUGGEST_RUNS; run++) {
+                employeeSuggestionIndex.suggest(prefix, SUGGEST_LIMIT);
+            }
+            logger.info(String.format("suggest %-24s %2d results  %6.2f us",
+                    prefix, suggestions, (System.nanoTime() - start) / 1e3 / SUGGEST_RUNS));
+        }
+
+        for (String query : FUZZY_QUERIES) {
+            int matches = employeeNameIndex.searchFuzzy(query, 2, FUZZY_LIMIT, null).orElseThrow().length;
+            long[] indexNanos = new long[FUZZY_RUNS];
+            long[] serviceNanos = new long[FUZZY_RUNS];
+            for (int run = 0; run < FUZZY_RUNS; run++) {
+                long start = System.nanoTime();
+                employeeNameIndex.searchFuzzy(query, 2, FUZZY_LIMIT, null);
+                indexNanos[run] = System.nanoTime() - start;
+                start = System.nanoTime();
+                employeeService.findByNameFuzzy(query, null, 2, FUZZY_LIMIT);
+                serviceNanos[run] = System.nanoTime() - start;
+            }
+            logger.info(String.format("fuzzy %-26s %2d results  index p50 %6.3f ms p99 %6.3f ms  service p99 %6.3f ms",
+                    query, matches, percentileMillis(indexNanos, 50), percentileMillis(indexNanos, 99),
+                    percentileMillis(serviceNanos, 99)));
+        }
+
+        for (String query : QUERIES) {
+            int likeCount = employeeRepository.findByNameContainingIgnoreCase(query).size();
+            double likeMs = averageMillis(query, employeeRepository::findByNameContainingIgnoreCase);
+            double serviceMs = averageMillis(query, employeeService::findByNameContainingIgnoreCase);
+
+            Optional<long[]> indexed = employeeNameIndex.search(query);
+            if (indexed.isPresent()) {
+                assertThat(indexed.get()).hasSize(likeCount);
+                double indexMs = averageMillis(query, employeeNameIndex::search);
+                logger.info(String.format("%-20s %7d matches  LIKE %8.2f ms  index ids %7.3f ms  service %8.2f ms",
+                        query, likeCount, likeMs, indexMs, serviceMs));
+            } else {
+                logger.info(String.format("%-20s %7d matches  LIKE %8.2f ms  too broad for the index, service %8.2f ms",
+                        query, likeCount, likeMs, serviceMs));
+            }
+        }
+    }
+
+    private void insertRows() {
+        Timestamp now = Timestamp.from(Instant.now());
+        for (int offset = 0; offset < ROWS; offset += INSERT_BATCH) {
+            List<Object[]> batch = new ArrayList<>(INSERT_BATCH);
+            for (int i = offset; i < offset + INSERT_BATCH; i++) {
+                batch.add(new Object[] {FIRST_ID + i, name(i), "Engineer", now, now, 0L});
+            }
+            jdbcTemplate.batchUpdate(
+                "INSERT INTO employees (id, name, role, created_at, updated_at, version) VALUES (?, ?, ?, ?, ?, ?)",
+                batch);
+        }
+    }
+
+    /**
+     * First and last name plus a five-letter tag unique per row
+     */
+    private static String name(int i) {
+        StringBuilder tag = new StringBuilder();
+        int rest = i;
+        for (int letter = 0; letter < 5; letter++) {
+            tag.append((char) ((letter == 0 ? 'A' : 'a') + rest % 26));
+            rest /= 26;
+        }
+        return FIRST_NAMES[i % FIRST_NAMES.length] + " " + LAST_NAMES[(i / FIRST_NAMES.length) % LAST_NAMES.length]
+                + " " + tag;
+    }
+
+    /**
+     * Swap the second and third letters of the last word
+     */
+    private static String typo(String name) {
+        int at = name.lastIndexOf(' ') + 1;
+        return name.substring(0, at + 1) + name.charAt(at + 2) + name.charAt(at + 1) + name.substring(at + 3);
+    }
+
+    private static double percentileMillis(long[] nanos, int percentile) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        return sorted[Math.min(sorted.length - 1, sorted.length * percentile / 100)] / 1e6;
+    }
+
+    private static double averageMillis(String query, Function<String, ?> search) {
+        search.apply(query);
+        long start = System.nanoTime();
+        for (int run = 0; run < RUNS; run++) {
+            search.apply(query);
+        }
+        return (System.nanoTime() - start) / 1e6 / RUNS;
+    }
+}
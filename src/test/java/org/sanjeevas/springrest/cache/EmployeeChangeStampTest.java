@@ -0,0 +1,69 @@
+package org.sanjeevas.springrest.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.sanjeevas.springrest.EmployeeRepository;
+import org.sanjeevas.springrest.dto.EmployeeDto;
+import org.sanjeevas.springrest.event.EmployeeChangeEvent;
+import org.springframework.core.Ordered;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for EmployeeChangeStamp
+ *
+ * @author Sanjeeva
+ * @version 1.1
+ */
+@DisplayName("Employee Change Stamp Tests")
+class EmployeeChangeStampTest {
+
+    @Test
+    @DisplayName("Should move on after every committed change and every unknown outcome")
+    void onEmployeeChanges_ShouldAdvanceStamp() {
+        EmployeeChangeStamp stamp = new EmployeeChangeStamp(null);
+        String initial = stamp.get();
+        long initialModified = stamp.lastModified();
+
+        stamp.onEmployeeChanges(List.of(EmployeeChangeEvent.created(new EmployeeDto(1L, "New Hire", "Engineer"))));
+        String afterChange = stamp.get();
+        stamp.onOutcomeUnknown();
+
+        assertThat(afterChange).isNotEqualTo(initial);
+        assertThat(stamp.get()).isNotIn(initial, afterChange);
+        assertThat(stamp.lastModified()).isGreaterThanOrEqualTo(initialModified);
+    }
+
+    @Test
+    @DisplayName("Should run after the listeners that derive state from employees")
+    void getOrder_ShouldBeLast() {
+        assertThat(new EmployeeChangeStamp(null).getOrder()).isEqualTo(Ordered.LOWEST_PRECEDENCE);
+        assertThat(new EmployeeCounter(null).getOrder()).isLessThan(Ordered.LOWEST_PRECEDENCE);
+    }
+
+    @Test
+    @DisplayName("Should move on when the table changed without this instance seeing it")
+    void checkDatabase_ShouldAdvanceOnUnseenChange() {
+        EmployeeRepository employeeRepository = mock(EmployeeRepository.class);
+        LocalDateTime updated = LocalDateTime.of(2024, 5, 1, 12, 0);
+        when(employeeRepository.findTableState()).thenReturn(
+                new EmployeeTableState(2, updated, 2),
+                new EmployeeTableState(2, updated, 2),
+                new EmployeeTableState(2, updated.plusSeconds(1), 3));
+        EmployeeChangeStamp stamp = new EmployeeChangeStamp(employeeRepository);
+
+        stamp.checkDatabase();
+        String checked = stamp.get();
+        stamp.checkDatabase();
+        String unchanged = stamp.get();
+        stamp.checkDatabase();
+
+        assertThat(unchanged).isEqualTo(checked);
+        assertThat(stamp.get()).isNotEqualTo(unchanged);
+    }
+}
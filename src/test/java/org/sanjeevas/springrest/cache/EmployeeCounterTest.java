@@ -0,0 +1,92 @@
+package org.sanjeevas.springrest.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.sanjeevas.springrest.EmployeeRepository;
+import org.sanjeevas.springrest.dto.EmployeeDto;
+import org.sanjeevas.springrest.event.EmployeeChangeEvent;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for EmployeeCounter
+ *
+ * @author Sanjeeva
+ * @version 1.1
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Employee Counter Tests")
+class EmployeeCounterTest {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @InjectMocks
+    private EmployeeCounter employeeCounter;
+
+    @Test
+    @DisplayName("Should adjust the seeded count by committed creates and deletes only")
+    void onEmployeeChanges_ShouldAdjustCount() {
+        when(employeeRepository.count()).thenReturn(10L);
+        employeeCounter.seed();
+
+        employeeCounter.onEmployeeChanges(List.of(
+            EmployeeChangeEvent.created(new EmployeeDto(11L, "New Hire", "Engineer")),
+            EmployeeChangeEvent.created(new EmployeeDto(12L, "Other Hire", "Engineer")),
+            EmployeeChangeEvent.updated(new EmployeeDto(1L, "John Doe", "Architect")),
+            EmployeeChangeEvent.deleted(2L)
+        ));
+
+        assertThat(employeeCounter.get()).isEqualTo(11L);
+        verify(employeeRepository, times(1)).count();
+    }
+
+    @Test
+    @DisplayName("Should correct drift once two resyncs agree on it")
+    void resync_ShouldReplaceDriftedCount() {
+        when(employeeRepository.count()).thenReturn(10L, 7L, 7L);
+        employeeCounter.seed();
+        employeeCounter.onEmployeeChanges(List.of(EmployeeChangeEvent.deleted(3L)));
+
+        employeeCounter.resync();
+        assertThat(employeeCounter.get()).isEqualTo(9L);
+        employeeCounter.resync();
+
+        assertThat(employeeCounter.get()).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("Should not cancel a create committing between the COUNT and the sum")
+    void resync_WithRacingCreate_ShouldKeepCount() {
+        // The COUNT sees the new row before its after-commit increment arrives
+        when(employeeRepository.count()).thenReturn(10L, 11L, 11L);
+        employeeCounter.seed();
+
+        employeeCounter.resync();
+        employeeCounter.onEmployeeChanges(List.of(
+            EmployeeChangeEvent.created(new EmployeeDto(11L, "New Hire", "Engineer"))));
+        employeeCounter.resync();
+
+        assertThat(employeeCounter.get()).isEqualTo(11L);
+    }
+
+    @Test
+    @DisplayName("Should re-read the database after an unknown transaction outcome")
+    void onOutcomeUnknown_ShouldResyncOnNextRead() {
+        when(employeeRepository.count()).thenReturn(10L, 12L);
+        employeeCounter.seed();
+
+        employeeCounter.onOutcomeUnknown();
+
+        assertThat(employeeCounter.get()).isEqualTo(12L);
+    }
+}
@@ -0,0 +1,87 @@
+package org.sanjeevas.springrest.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.sanjeevas.springrest.dto.EmployeeDto;
+import org.sanjeevas.springrest.event.EmployeeChangeEvent;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for EmployeeListCache
+ *
+ * @author Sanjeeva
+ * @version 1.0
+ */
+@DisplayName("Employee List Cache Tests")
+class EmployeeListCacheTest {
+
+    private EmployeeListCache cache;
+    private AtomicInteger loads;
+    private Supplier<List<EmployeeDto>> loader;
+
+    @BeforeEach
+    void setUp() {
+        cache = new EmployeeListCache();
+        loads = new AtomicInteger();
+        loader = () -> {
+            loads.incrementAndGet();
+            return List.of(new EmployeeDto(1L, "John Doe", "Engineer"),
+                           new EmployeeDto(2L, "Jane Smith", "Manager"));
+        };
+    }
+
+    @Test
+    @DisplayName("Should apply committed changes in place without reloading")
+    void onEmployeeChanges_ShouldUpdateCachedCollection() {
+        cache.getAll(loader);
+
+        cache.onEmployeeChanges(List.of(
+            EmployeeChangeEvent.created(new EmployeeDto(3L, "Alice Johnson", "Designer")),
+            EmployeeChangeEvent.updated(new EmployeeDto(1L, "John Doe", "Architect")),
+            EmployeeChangeEvent.deleted(2L)
+        ));
+        List<EmployeeDto> result = cache.getAll(loader);
+
+        assertThat(loads).hasValue(1);
+        assertThat(result).extracting(EmployeeDto::getId).containsExactly(1L, 3L);
+        assertThat(result.get(0).getRole()).isEqualTo("Architect");
+    }
+
+    @Test
+    @DisplayName("Should reload after an unknown transaction outcome")
+    void onOutcomeUnknown_ShouldForceReload() {
+        cache.getAll(loader);
+
+        cache.onOutcomeUnknown();
+        cache.getAll(loader);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Should replay changes committed while loading")
+    void getAll_WhenChangeCommittedDuringLoad_ShouldReplayIt() {
+        List<EmployeeDto> result = cache.getAll(() -> {
+            cache.onEmployeeChanges(List.of(EmployeeChangeEvent.deleted(1L)));
+            return loader.get();
+        });
+
+        assertThat(result).extracting(EmployeeDto::getId).containsExactly(2L);
+        assertThat(cache.getAll(loader)).extracting(EmployeeDto::getId).containsExactly(2L);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should ignore changes while nothing is cached")
+    void onEmployeeChanges_WhenNotLoaded_ShouldBeIgnored() {
+        cache.onEmployeeChanges(List.of(EmployeeChangeEvent.deleted(1L)));
+
+        assertThat(cache.getAll(loader)).hasSize(2);
+    }
+}
@@ -0,0 +1,105 @@
+package org.sanjeevas.springrest.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for SingleFlight
+ *
+ * @author Sanjeeva
+ * @version 1.0
+ */
+@DisplayName("Single Flight Tests")
+class SingleFlightTest {
+
+    private static final int CALLERS = 8;
+
+    private final SingleFlight<String, String> flights = new SingleFlight<>();
+    private final AtomicInteger loads = new AtomicInteger();
+    private final AtomicInteger shared = new AtomicInteger();
+
+    @Test
+    @DisplayName("Should run one load for concurrent identical calls and share its result")
+    void execute_WithConcurrentCalls_ShouldLoadOnce() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            results.add(executor.submit(() -> flights.execute("key", () -> {
+                loads.incrementAndGet();
+                started.countDown();
+                await(release);
+                return "value";
+            }, shared::incrementAndGet)));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            for (int i = 1; i < CALLERS; i++) {
+                results.add(executor.submit(() -> flights.execute("key", () -> {
+                    loads.incrementAndGet();
+                    return "other";
+                }, shared::incrementAndGet)));
+            }
+            awaitShared(CALLERS - 1);
+            release.countDown();
+
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(loads).hasValue(1);
+        assertThat(shared).hasValue(CALLERS - 1);
+    }
+
+    @Test
+    @DisplayName("Should load again once the previous load has completed")
+    void execute_AfterCompletion_ShouldNotRetainResult() {
+        flights.execute("key", () -> "first", shared::incrementAndGet);
+
+        String second = flights.execute("key", () -> "second", shared::incrementAndGet);
+
+        assertThat(second).isEqualTo("second");
+        assertThat(shared).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("Should rethrow the loader exception and allow a retry")
+    void execute_WhenLoaderFails_ShouldRethrowAndForget() {
+        assertThatThrownBy(() -> flights.execute("key", () -> {
+            throw new IllegalStateException("boom");
+        }, shared::incrementAndGet)).isInstanceOf(IllegalStateException.class).hasMessage("boom");
+
+        assertThat(flights.execute("key", () -> "value", shared::incrementAndGet)).isEqualTo("value");
+    }
+
+    private void awaitShared(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (shared.get() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(shared).hasValue(expected);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
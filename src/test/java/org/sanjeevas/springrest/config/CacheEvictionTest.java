@@ -0,0 +1,187 @@
+package org.sanjeevas.springrest.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.sanjeevas.springrest.Employee;
+import org.sanjeevas.springrest.EmployeeRepository;
+import org.sanjeevas.springrest.cache.EmployeeCounter;
+import org.sanjeevas.springrest.cache.EmployeeListCache;
+import org.sanjeevas.springrest.dto.EmployeeDto;
+import org.sanjeevas.springrest.event.EmployeeChangePublisher;
+import org.sanjeevas.springrest.index.EmployeeNameIndex;
+import org.sanjeevas.springrest.index.EmployeeRoleIndex;
+import org.sanjeevas.springrest.index.EmployeeSuggestionIndex;
+import org.sanjeevas.springrest.mapper.EmployeeMapper;
+import org.sanjeevas.springrest.query.EmployeeFullTextSearch;
+import org.sanjeevas.springrest.query.EmployeeProjectionQuery;
+import org.sanjeevas.springrest.query.EmployeeRowWriter;
+import org.sanjeevas.springrest.service.EmployeeService;
+import org.sanjeevas.springrest.service.impl.EmployeeServiceImpl;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.context.TestPropertySource;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Optional;
+import java.util.function.BiFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Churns distinct IDs through the cached findById path and checks that the
+ * "employee" cache stays within its bound; the million-ID run that also checks
+ * the heap stays flat is a benchmark
+ *
+ * @author Sanjeeva
+ * @version 1.1
+ */
+@SpringBootTest(classes = {CacheConfig.class, CacheEvictionTest.ServiceConfig.class})
+@TestPropertySource(
+    locations = "classpath:application-test.properties",
+    properties = "app.cache.caffeine.caches.employee.maximum-size=500"
+)
+@DisplayName("Cache Eviction Tests")
+class CacheEvictionTest {
+
+    private static final int SMALL_CHURN_IDS = 5_000;
+    private static final int WARMUP_IDS = 100_000;
+    private static final int CHURN_IDS = 1_000_000;
+    private static final long MAX_HEAP_GROWTH_BYTES = 32L * 1024 * 1024;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Test
+    @DisplayName("Should keep employee cache within its bound while churning distinct IDs")
+    void findById_WithDistinctIds_ShouldKeepCacheBounded() {
+        Cache<Object, Object> employeeCache = nativeCache("employee");
+        long evictionsBefore = employeeCache.stats().evictionCount();
+
+        for (long id = 1; id <= SMALL_CHURN_IDS; id++) {
+            employeeService.findById(id);
+        }
+        employeeCache.cleanUp();
+
+        assertThat(employeeCache.estimatedSize()).isLessThanOrEqualTo(500);
+        assertThat(employeeCache.stats().evictionCount() - evictionsBefore)
+                .isGreaterThanOrEqualTo(SMALL_CHURN_IDS - 500L);
+    }
+
+    /**
+     * Slow and GC-dependent, so only run with: mvn test -Pbenchmark -Dtest=CacheEvictionTest
+     */
+    @Test
+    @Tag("benchmark")
+    @DisplayName("Should keep employee cache bounded while churning a million IDs")
+    void findById_WithMillionDistinctIds_ShouldKeepCacheAndHeapBounded() {
+        Cache<Object, Object> employeeCache = nativeCache("employee");
+
+        for (long id = 1; id <= WARMUP_IDS; id++) {
+            employeeService.findById(id);
+        }
+        long heapAfterWarmup = usedHeapAfterGc(employeeCache);
+
+        for (long id = WARMUP_IDS + 1; id <= WARMUP_IDS + CHURN_IDS; id++) {
+            employeeService.findById(id);
+        }
+        long heapAfterChurn = usedHeapAfterGc(employeeCache);
+
+        assertThat(employeeCache.estimatedSize()).isLessThanOrEqualTo(500);
+        assertThat(employeeCache.stats().evictionCount()).isGreaterThan(CHURN_IDS - 500L);
+        assertThat(heapAfterChurn - heapAfterWarmup).isLessThan(MAX_HEAP_GROWTH_BYTES);
+    }
+
+    @Test
+    @DisplayName("Should bound caches that have no explicit configuration")
+    void cacheManager_WithUnconfiguredCache_ShouldApplyDefaults() {
+        Cache<Object, Object> adHocCache = nativeCache("adHoc");
+
+        for (int i = 0; i < 10_000; i++) {
+            adHocCache.put(i, i);
+        }
+        adHocCache.cleanUp();
+
+        assertThat(adHocCache.estimatedSize()).isLessThanOrEqualTo(1000);
+    }
+
+    @Test
+    @DisplayName("Should weigh cached employees by approximate size")
+    void estimateWeight_ShouldGrowWithContent() {
+        int shortWeight = CacheConfig.estimateWeight(new EmployeeDto(1L, "Al", "Dev"));
+        int longWeight = CacheConfig.estimateWeight(new EmployeeDto(2L, "Alexandra Montgomery", "Principal Engineer"));
+
+        assertThat(longWeight).isGreaterThan(shortWeight);
+    }
+
+    private Cache<Object, Object> nativeCache(String name) {
+        org.springframework.cache.Cache cache = cacheManager.getCache(name);
+        assertThat(cache).isInstanceOf(CaffeineCache.class);
+        return ((CaffeineCache) cache).getNativeCache();
+    }
+
+    private static long usedHeapAfterGc(Cache<Object, Object> cache) {
+        cache.cleanUp();
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    @Configuration
+    static class ServiceConfig {
+
+        // Plain proxies keep no invocation history, unlike mocks, so a million calls leave nothing behind
+        @Bean
+        EmployeeRepository employeeRepository() {
+            return stub(EmployeeRepository.class, (method, args) -> "findById".equals(method.getName())
+                ? Optional.of(new Employee((Long) args[0], "Employee Name", "Engineer"))
+                : null);
+        }
+
+        @Bean
+        EmployeeMapper employeeMapper() {
+            return stub(EmployeeMapper.class, (method, args) -> {
+                if (!"toDto".equals(method.getName())) {
+                    return null;
+                }
+                Employee employee = (Employee) args[0];
+                return new EmployeeDto(employee.getId(), employee.getName(), employee.getRole());
+            });
+        }
+
+        @Bean
+        EmployeeService employeeService(EmployeeRepository employeeRepository, EmployeeMapper employeeMapper,
+                                        CacheManager cacheManager) {
+            return new EmployeeServiceImpl(employeeRepository, employeeMapper, new EmployeeListCache(),
+                                           new EmployeeCounter(employeeRepository), cacheManager,
+                                           mock(EmployeeNameIndex.class), mock(EmployeeSuggestionIndex.class),
+                                           mock(EmployeeRoleIndex.class), mock(EmployeeFullTextSearch.class),
+                                           mock(EmployeeProjectionQuery.class), mock(EmployeeRowWriter.class),
+                                           mock(EmployeeChangePublisher.class));
+        }
+
+        private static <T> T stub(Class<T> type, BiFunction<Method, Object[], Object> answer) {
+            return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> type.getSimpleName() + "Stub";
+                    default -> answer.apply(method, args);
+                }));
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package org.sanjeevas.springrest.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.OptionalLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for building Hibernate cache regions
+ *
+ * @author Sanjeeva
+ * @version 1.0
+ */
+@DisplayName("Hibernate Cache Config Tests")
+class HibernateCacheConfigTest {
+
+    @Test
+    @DisplayName("Should bound and expire a region as configured")
+    void configuration_ShouldApplySpec() {
+        CacheSpecProperties.CacheSpec spec = new CacheSpecProperties.CacheSpec();
+        spec.setMaximumSize(500L);
+        spec.setExpireAfterWrite(Duration.ofMinutes(5));
+
+        CaffeineConfiguration<Object, Object> configuration = HibernateCacheConfig.configuration("employees", spec);
+
+        assertThat(configuration.getMaximumSize()).isEqualTo(OptionalLong.of(500));
+        assertThat(configuration.getExpireAfterWrite()).isEqualTo(OptionalLong.of(Duration.ofMinutes(5).toNanos()));
+        assertThat(configuration.isStatisticsEnabled()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should reject weight bounds and an expiring update-timestamps region")
+    void configuration_ShouldRejectUnsafeSpecs() {
+        CacheSpecProperties.CacheSpec weighed = new CacheSpecProperties.CacheSpec();
+        weighed.setMaximumWeight(1024L);
+        CacheSpecProperties.CacheSpec expiring = new CacheSpecProperties.CacheSpec();
+        expiring.setExpireAfterAccess(Duration.ofMinutes(1));
+
+        assertThatThrownBy(() -> HibernateCacheConfig.configuration("employees", weighed))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> HibernateCacheConfig.configuration("default-update-timestamps-region", expiring))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("must not expire");
+        assertThat(HibernateCacheConfig.configuration("default-query-results-region", expiring)
+                .getExpireAfterAccess()).isPresent();
+    }
+}
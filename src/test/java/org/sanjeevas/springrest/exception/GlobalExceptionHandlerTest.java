@@ -0,0 +1,51 @@
+package org.sanjeevas.springrest.exception;
+
+import jakarta.persistence.OptimisticLockException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.sanjeevas.springrest.Employee;
+import org.sanjeevas.springrest.dto.ErrorResponseDto;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the concurrency error responses of GlobalExceptionHandler
+ *
+ * @author Sanjeeva
+ * @version 1.0
+ */
+@DisplayName("Global Exception Handler Tests")
+class GlobalExceptionHandlerTest {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+    private final MockHttpServletRequest request = new MockHttpServletRequest("PATCH", "/api/v1/employees/1");
+
+    @Test
+    @DisplayName("Should map optimistic locking failures to a structured 409")
+    void optimisticLockingFailure_ShouldReturnConflict() {
+        ResponseEntity<ErrorResponseDto> translated = handler.handleOptimisticLockingFailureException(
+                new ObjectOptimisticLockingFailureException(Employee.class, 1L), request);
+        ResponseEntity<ErrorResponseDto> raw = handler.handleOptimisticLockingFailureException(
+                new OptimisticLockException("Row was updated or deleted by another transaction"), request);
+
+        assertThat(translated.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(translated.getBody().getError()).isEqualTo("CONCURRENT_MODIFICATION");
+        assertThat(translated.getBody().getPath()).isEqualTo("/api/v1/employees/1");
+        assertThat(raw.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+    }
+
+    @Test
+    @DisplayName("Should map failed If-Match preconditions to a structured 412")
+    void preconditionFailed_ShouldReturnPreconditionFailed() {
+        ResponseEntity<ErrorResponseDto> response = handler.handleEmployeePreconditionFailedException(
+                new EmployeePreconditionFailedException(1L), request);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.PRECONDITION_FAILED);
+        assertThat(response.getBody().getError()).isEqualTo("PRECONDITION_FAILED");
+        assertThat(response.getBody().getStatus()).isEqualTo(412);
+    }
+}
@@ -0,0 +1,43 @@
+package org.sanjeevas.springrest.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.sanjeevas.springrest.Employee;
+import org.sanjeevas.springrest.EmployeeRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration test for the configurable employee id strategy
+ *
+ * @author Sanjeeva
+ * @version 1.0
+ */
+@SpringBootTest(properties = {"app.id.strategy=snowflake", "app.id.node-id=7"})
+@TestPropertySource(locations = "classpath:application-test.properties")
+@DisplayName("Employee Id Generator Tests")
+class EmployeeIdGeneratorTest {
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Test
+    @DisplayName("Should assign increasing snowflake ids carrying the configured node id")
+    void save_WithSnowflakeStrategy_ShouldAssignNodeLocalIds() {
+        List<Employee> saved = employeeRepository.saveAll(List.of(
+            new Employee("First Employee", "Engineer"),
+            new Employee("Second Employee", "Engineer")
+        ));
+
+        long first = saved.get(0).getId();
+        long second = saved.get(1).getId();
+        assertThat(second).isGreaterThan(first);
+        assertThat((first >>> 12) & SnowflakeIdGenerator.MAX_NODE_ID).isEqualTo(7L);
+        assertThat(employeeRepository.findById(second)).isPresent();
+    }
+}
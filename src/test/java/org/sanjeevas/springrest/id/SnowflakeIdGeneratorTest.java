@@ -0,0 +1,73 @@
+package org.sanjeevas.springrest.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for SnowflakeIdGenerator
+ *
+ * @author Sanjeeva
+ * @version 1.0
+ */
+@DisplayName("Snowflake Id Generator Tests")
+class SnowflakeIdGeneratorTest {
+
+    private static final long NOW = SnowflakeIdGenerator.EPOCH_MILLIS + 1_000;
+
+    @Test
+    @DisplayName("Should encode timestamp, node id and sequence")
+    void nextId_ShouldEncodeLayout() {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(5, () -> NOW);
+
+        long first = generator.nextId();
+        long second = generator.nextId();
+
+        assertThat(first >>> 22).isEqualTo(1_000L);
+        assertThat((first >>> 12) & 0x3FF).isEqualTo(5L);
+        assertThat(first & 0xFFF).isZero();
+        assertThat(second).isEqualTo(first + 1);
+    }
+
+    @Test
+    @DisplayName("Should wait for the next millisecond when the sequence is exhausted")
+    void nextId_WhenSequenceExhausted_ShouldMoveToNextMillisecond() {
+        AtomicLong clock = new AtomicLong(NOW);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(0, clock::get);
+        long last = 0;
+        for (int i = 0; i < 4096; i++) {
+            last = generator.nextId();
+        }
+        clock.set(NOW + 1);
+
+        long next = generator.nextId();
+
+        assertThat(next).isGreaterThan(last);
+        assertThat(next >>> 22).isEqualTo(1_001L);
+    }
+
+    @Test
+    @DisplayName("Should stay increasing when the clock steps backwards")
+    void nextId_WhenClockStepsBack_ShouldStayIncreasing() {
+        AtomicLong clock = new AtomicLong(NOW);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(0, clock::get);
+        long before = generator.nextId();
+
+        clock.set(NOW - 500);
+
+        assertThat(generator.nextId()).isGreaterThan(before);
+    }
+
+    @Test
+    @DisplayName("Should reject node ids outside 10 bits")
+    void constructor_WithInvalidNodeId_ShouldThrow() {
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(1024))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(-1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,102 @@
+package org.sanjeevas.springrest.index;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for FuzzyTokenIndex
+ *
+ * @author Sanjeeva
+ * @version 1.0
+ */
+@DisplayName("Fuzzy Token Index Tests")
+class FuzzyTokenIndexTest {
+
+    private FuzzyTokenIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new FuzzyTokenIndex(2);
+        index.add(1L, "John Doe");
+        index.add(2L, "Jon Snow");
+        index.add(3L, "Johanna Doerr");
+        index.add(4L, "Jane Johnson");
+    }
+
+    @Test
+    @DisplayName("Should count insertions, deletions, substitutions and transpositions as one edit")
+    void distance_ShouldCountOptimalStringAlignment() {
+        assertThat(FuzzyTokenIndex.distance("john", "john", 2)).isZero();
+        assertThat(FuzzyTokenIndex.distance("jhon", "john", 2)).isEqualTo(1);
+        assertThat(FuzzyTokenIndex.distance("jon", "john", 2)).isEqualTo(1);
+        assertThat(FuzzyTokenIndex.distance("jahn", "john", 2)).isEqualTo(1);
+        assertThat(FuzzyTokenIndex.distance("johnson", "jonsen", 2)).isEqualTo(2);
+        assertThat(FuzzyTokenIndex.distance("john", "smith", 2)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should rank by summed edit distance, then id")
+    void search_ShouldRankByDistance() {
+        assertThat(index.search("Jhon", 2, 10, null)).containsExactly(1L, 2L);
+        assertThat(index.search("jhon deo", 2, 10, null)).containsExactly(1L);
+        // Johanna Doerr is two edits away, John Doe three
+        assertThat(index.search("johana doer", 2, 10, null)).containsExactly(3L, 1L);
+        assertThat(index.search("jonson", 2, 10, null)).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("Should cap edits for short words and by the requested budget")
+    void search_ShouldBoundEdits() {
+        // Two-letter words must match exactly, words up to five letters allow one edit
+        assertThat(index.search("do", 2, 10, null)).isEmpty();
+        assertThat(index.search("jhn", 2, 10, null)).containsExactly(1L, 2L);
+        assertThat(index.search("jhnn", 2, 10, null)).isEmpty();
+        assertThat(index.search("johnsen", 0, 10, null)).isEmpty();
+        assertThat(index.search("johnsen", 1, 10, null)).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("Should honour the limit and the id restriction")
+    void search_ShouldHonourLimitAndWithin() {
+        assertThat(index.search("jon", 2, 1, null)).containsExactly(2L);
+        assertThat(index.search("jon", 2, 10, Roaring64NavigableMap.bitmapOf(1L))).containsExactly(1L);
+        assertThat(index.search("a b c d e", 2, 10, null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should follow replaced and removed texts")
+    void replaceAndRemove_ShouldKeepWordsCurrent() {
+        index.replace(1L, "John Doe", "Richard Roe");
+        index.remove(2L, "Jon Snow");
+
+        assertThat(index.search("jhon", 2, 10, null)).isEmpty();
+        assertThat(index.search("richrd", 2, 10, null)).containsExactly(1L);
+        assertThat(index.wordCount()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("Should score texts the way searches rank them")
+    void score_ShouldMatchSearchRanking() {
+        assertThat(FuzzyTokenIndex.score("jhon deo", "John Doe", 2)).isEqualTo(2);
+        assertThat(FuzzyTokenIndex.score("jhon smith", "John Doe", 2)).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("Should split on anything but letters and digits")
+    void tokenize_ShouldSplitWords() {
+        assertThat(FuzzyTokenIndex.tokenize("  O'Brien, Mary-Ann 2nd mary"))
+                .containsExactly("o", "brien", "mary", "ann", "2nd");
+        assertThat(FuzzyTokenIndex.tokenize(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reject edit budgets the delete table cannot encode")
+    void constructor_WithTooManyEdits_ShouldThrow() {
+        assertThatThrownBy(() -> new FuzzyTokenIndex(4)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,76 @@
+package org.sanjeevas.springrest.index;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+/**
+ * Unit tests for RoleBitmapIndex
+ *
+ * @author Sanjeeva
+ * @version 1.0
+ */
+@DisplayName("Role Bitmap Index Tests")
+class RoleBitmapIndexTest {
+
+    private RoleBitmapIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new RoleBitmapIndex();
+        index.add(3L, "Developer");
+        index.add(1L, "Manager");
+        index.add(2L, " developer ");
+    }
+
+    @Test
+    @DisplayName("Should encode roles differing in case and whitespace under one code")
+    void add_ShouldShareCodeAcrossSpellings() {
+        assertThat(index.roleCount()).isEqualTo(2);
+        assertThat(index.ids("DEVELOPER")).containsExactly(2L, 3L);
+        assertThat(index.count("developer")).isEqualTo(2);
+        assertThat(index.counts()).containsExactly(entry("Developer", 2L), entry("Manager", 1L));
+    }
+
+    @Test
+    @DisplayName("Should move an id between roles and forget removed ids")
+    void putAndRemove_ShouldKeepBitmapsCurrent() {
+        index.put(3L, "Manager");
+        index.remove(1L);
+
+        assertThat(index.ids("developer")).containsExactly(2L);
+        assertThat(index.ids("manager")).containsExactly(3L);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should return nothing for unknown or null roles")
+    void lookup_WithUnknownRole_ShouldBeEmpty() {
+        assertThat(index.ids("Architect")).isEmpty();
+        assertThat(index.count(null)).isZero();
+        assertThat(index.members("Architect").isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should hand out a snapshot unaffected by later changes")
+    void members_ShouldBeSnapshot() {
+        Roaring64NavigableMap developers = index.members("developer");
+        index.remove(2L);
+
+        assertThat(developers.toArray()).containsExactly(2L, 3L);
+        assertThat(index.ids("developer")).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("Should leave emptied roles out of the counts")
+    void counts_ShouldSkipEmptyRoles() {
+        index.remove(1L);
+
+        assertThat(index.counts()).containsOnlyKeys("Developer");
+        assertThat(index.roleCount()).isEqualTo(2);
+    }
+}
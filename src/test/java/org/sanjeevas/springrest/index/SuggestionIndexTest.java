@@ -0,0 +1,80 @@
+package org.sanjeevas.springrest.index;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.sanjeevas.springrest.dto.SuggestionDto;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Unit tests for SuggestionIndex
+ *
+ * @author Sanjeeva
+ * @version 1.0
+ */
+@DisplayName("Suggestion Index Tests")
+class SuggestionIndexTest {
+
+    private SuggestionIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new SuggestionIndex();
+        index.put(1L, "John Doe", "Software Engineer");
+        index.put(2L, "José Álvarez", "Product Manager");
+        index.put(3L, "Joan Smith", "Software Engineer");
+    }
+
+    @Test
+    @DisplayName("Should suggest names and roles by prefix, ignoring case and accents")
+    void suggest_ShouldMatchFoldedPrefix() {
+        assertThat(index.suggest("JO", 10))
+                .extracting(SuggestionDto::getText, SuggestionDto::getType)
+                .containsExactly(
+                    tuple("Joan Smith", SuggestionDto.Type.NAME),
+                    tuple("John Doe", SuggestionDto.Type.NAME),
+                    tuple("José Álvarez", SuggestionDto.Type.NAME));
+        assertThat(index.suggest("alv", 10)).isEmpty();
+        assertThat(index.suggest("jose a", 10))
+                .extracting(SuggestionDto::getText)
+                .containsExactly("José Álvarez");
+    }
+
+    @Test
+    @DisplayName("Should count employees sharing a term and honour the limit")
+    void suggest_ShouldCountDistinctTermsUpToLimit() {
+        List<SuggestionDto> suggestions = index.suggest("s", 1);
+
+        assertThat(suggestions).hasSize(1);
+        assertThat(suggestions.get(0).getText()).isEqualTo("Software Engineer");
+        assertThat(suggestions.get(0).getType()).isEqualTo(SuggestionDto.Type.ROLE);
+        assertThat(suggestions.get(0).getCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should move an updated employee's terms and drop terms nobody carries")
+    void putAndRemove_ShouldKeepTermsCurrent() {
+        index.put(1L, "Johnny Doe", "Architect");
+        index.remove(2L);
+
+        assertThat(index.suggest("john", 10)).extracting(SuggestionDto::getText).containsExactly("Johnny Doe");
+        assertThat(index.suggest("software", 10)).extracting(SuggestionDto::getCount).containsExactly(1);
+        assertThat(index.suggest("product", 10)).isEmpty();
+        assertThat(index.suggest("arch", 10)).extracting(SuggestionDto::getType)
+                .containsExactly(SuggestionDto.Type.ROLE);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should not overwrite an employee already indexed")
+    void putIfAbsent_WhenPresent_ShouldKeepExisting() {
+        assertThat(index.putIfAbsent(1L, "Stale Name", "Stale Role")).isFalse();
+
+        assertThat(index.suggest("stale", 10)).isEmpty();
+        assertThat(index.suggest("software", 10)).extracting(SuggestionDto::getCount).containsExactly(2);
+    }
+}
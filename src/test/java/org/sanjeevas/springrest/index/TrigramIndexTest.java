@@ -0,0 +1,84 @@
+package org.sanjeevas.springrest.index;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for TrigramIndex
+ *
+ * @author Sanjeeva
+ * @version 1.0
+ */
+@DisplayName("Trigram Index Tests")
+class TrigramIndexTest {
+
+    private TrigramIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TrigramIndex();
+        index.put(3L, "John Doe");
+        index.put(1L, "Jane Johnson");
+        index.put(2L, "Bob Smith");
+    }
+
+    @Test
+    @DisplayName("Should find substrings ignoring case, in id order")
+    void search_ShouldMatchSubstringsIgnoringCase() {
+        assertThat(index.search("JOHN")).containsExactly(1L, 3L);
+        assertThat(index.search("n do")).containsExactly(3L);
+        assertThat(index.search("xyz")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should verify candidates whose trigrams match but are not adjacent")
+    void search_ShouldRejectFalsePositives() {
+        index.put(4L, "abcd bcde");
+
+        // Every trigram of "abcde" occurs in "abcd bcde", the whole string does not
+        assertThat(index.search("abcde")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should answer queries shorter than a trigram by scanning")
+    void search_WithShortQuery_ShouldScan() {
+        assertThat(index.search("jo")).containsExactly(1L, 3L);
+        assertThat(index.search("")).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("Should restrict matches to the given ids")
+    void search_WithinIds_ShouldIntersect() {
+        Roaring64NavigableMap within = Roaring64NavigableMap.bitmapOf(2L, 3L, 9L);
+
+        assertThat(index.search("john", within)).containsExactly(3L);
+        assertThat(index.search("o", within)).containsExactly(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("Should reindex on update and forget removed ids")
+    void putAndRemove_ShouldKeepPostingsCurrent() {
+        index.put(3L, "Richard Roe");
+        index.remove(2L);
+
+        assertThat(index.search("john")).containsExactly(1L);
+        assertThat(index.search("roe")).containsExactly(3L);
+        assertThat(index.search("smith")).isEmpty();
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should not overwrite an id already indexed")
+    void putIfAbsent_WhenPresent_ShouldKeepExisting() {
+        assertThat(index.putIfAbsent(3L, "Stale Name")).isFalse();
+        assertThat(index.putIfAbsent(5L, "New Name")).isTrue();
+
+        assertThat(index.search("stale")).isEmpty();
+        assertThat(index.search("john")).containsExactly(1L, 3L);
+        assertThat(index.search("new")).containsExactly(5L);
+    }
+}
@@ -0,0 +1,69 @@
+package org.sanjeevas.springrest.migration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.sanjeevas.springrest.Employee;
+import org.sanjeevas.springrest.EmployeeRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration test for moving the pooled id sequence past rows keyed before it existed
+ *
+ * @author Sanjeeva
+ * @version 1.0
+ */
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application-test.properties")
+@DirtiesContext
+@DisplayName("Id Sequence Catch-Up Tests")
+class IdSequenceCatchUpTest {
+
+    private static final long LEGACY_FIRST_ID = 100_000L;
+    private static final int LEGACY_ROWS = 100;
+    private static final int ALLOCATION_SIZE = 50;
+
+    @Autowired
+    private IdSequenceCatchUp idSequenceCatchUp;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Should move the sequence past existing ids once, so new employees never reuse them")
+    void advance_WithExistingRows_ShouldStartNextBlockAboveMaxId() {
+        List<Object[]> legacy = new ArrayList<>(LEGACY_ROWS);
+        for (int i = 0; i < LEGACY_ROWS; i++) {
+            legacy.add(new Object[] {LEGACY_FIRST_ID + i, "Legacy Employee " + i});
+        }
+        // Rows as an IDENTITY column left them, far beyond where the sequence stands
+        jdbcTemplate.batchUpdate("INSERT INTO employees (id, name, role, role_key, created_at, updated_at, version) "
+                + "VALUES (?, ?, 'Engineer', 'engineer', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 0)", legacy);
+        long maxId = LEGACY_FIRST_ID + LEGACY_ROWS - 1;
+
+        assertThat(idSequenceCatchUp.advance()).isTrue();
+        assertThat(idSequenceCatchUp.advance()).isFalse();
+
+        List<Employee> created = new ArrayList<>();
+        for (int i = 0; i < 3 * ALLOCATION_SIZE; i++) {
+            created.add(new Employee("New Employee " + i, "Engineer"));
+        }
+        List<Employee> saved = employeeRepository.saveAll(created);
+
+        // Blocks reserved before the catch-up stay below; every block read after it starts above the legacy ids
+        assertThat(saved).extracting(Employee::getId)
+                .allMatch(id -> id < LEGACY_FIRST_ID || id > maxId)
+                .anyMatch(id -> id > maxId);
+    }
+}
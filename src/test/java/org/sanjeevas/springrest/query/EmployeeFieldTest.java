@@ -0,0 +1,58 @@
+package org.sanjeevas.springrest.query;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.sanjeevas.springrest.dto.EmployeeDto;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for EmployeeField
+ *
+ * @author Sanjeeva
+ * @version 1.0
+ */
+@DisplayName("Employee Field Tests")
+class EmployeeFieldTest {
+
+    @Test
+    @DisplayName("Should select every field when none are given and the listed ones otherwise")
+    void parse_ShouldSelectWhitelistedFields() {
+        assertThat(EmployeeField.parse(null)).isEqualTo(EmployeeField.ALL);
+        assertThat(EmployeeField.parse(" ")).isEqualTo(EmployeeField.ALL);
+        assertThat(EmployeeField.parse("name, id,name"))
+                .containsExactly(EmployeeField.ID, EmployeeField.NAME);
+    }
+
+    @Test
+    @DisplayName("Should reject fields outside the whitelist and malformed names")
+    void parse_ShouldRejectUnknownFields() {
+        assertThatThrownBy(() -> EmployeeField.parse("id,version"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Field not allowed: version");
+        assertThatThrownBy(() -> EmployeeField.parse("name;drop"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Invalid field");
+        assertThatThrownBy(() -> EmployeeField.parse("id,,name"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should copy only the selected fields and leave the original untouched")
+    void retain_ShouldCopySelectedFields() {
+        EmployeeDto employee = new EmployeeDto(1L, "John Doe", "Engineer", 3L);
+
+        EmployeeDto trimmed = EmployeeField.retain(employee, Set.of(EmployeeField.ID, EmployeeField.NAME));
+
+        assertThat(trimmed).isNotSameAs(employee);
+        assertThat(trimmed.getId()).isEqualTo(1L);
+        assertThat(trimmed.getName()).isEqualTo("John Doe");
+        assertThat(trimmed.getRole()).isNull();
+        assertThat(trimmed.getVersion()).isNull();
+        assertThat(employee.getRole()).isEqualTo("Engineer");
+        assertThat(EmployeeField.retain(employee, EmployeeField.ALL)).isSameAs(employee);
+    }
+}
@@ -0,0 +1,58 @@
+package org.sanjeevas.springrest.query;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for turning search text into full-text queries
+ *
+ * @author Sanjeeva
+ * @version 1.1
+ */
+@DisplayName("Employee Full-Text Search Tests")
+class EmployeeFullTextSearchTest {
+
+    @Test
+    @DisplayName("Should only use words the text fixes as whole words, and the last as a prefix")
+    void terms_ShouldKeepWordsBoundedByWhitespace() {
+        assertThat(EmployeeFullTextSearch.terms("Mary ANN Smi"))
+                .isEqualTo(new EmployeeFullTextSearch.Terms(List.of("ann"), "smi"));
+        assertThat(EmployeeFullTextSearch.terms(" José  Müller "))
+                .isEqualTo(new EmployeeFullTextSearch.Terms(List.of("josé", "müller"), null));
+        // Mid-word text: the first piece may start and the last may end anywhere in a word
+        assertThat(EmployeeFullTextSearch.terms("ohn")).isEqualTo(new EmployeeFullTextSearch.Terms(List.of(), null));
+        assertThat(EmployeeFullTextSearch.terms("a O'Neil +john -dev2 x*"))
+                .isEqualTo(new EmployeeFullTextSearch.Terms(List.of(), null));
+        assertThat(EmployeeFullTextSearch.terms(null)).isEqualTo(new EmployeeFullTextSearch.Terms(List.of(), null));
+    }
+
+    @Test
+    @DisplayName("Should cap the number of whole words searched")
+    void terms_ShouldStopAtMaxWords() {
+        assertThat(EmployeeFullTextSearch.terms("a b c d e f g h i j k").words())
+                .hasSize(EmployeeFullTextSearch.MAX_WORDS)
+                .endsWith("i");
+    }
+
+    @Test
+    @DisplayName("Should leave words InnoDB does not index to the name pattern")
+    void indexes_ShouldSkipShortWordsAndStopwords() {
+        MySqlFullTextDialect dialect = new MySqlFullTextDialect();
+
+        assertThat(dialect.indexes("li")).isFalse();
+        assertThat(dialect.indexes("will")).isFalse();
+        assertThat(dialect.indexes("lee")).isTrue();
+        assertThat(dialect.indexes("x".repeat(85))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should require every word, and the prefix as a word start, in MySQL boolean mode")
+    void booleanQuery_ShouldRequireWordsAndPrefix() {
+        assertThat(MySqlFullTextDialect.booleanQuery(List.of("ann", "van"), "smi")).isEqualTo("+ann +van +smi*");
+        assertThat(MySqlFullTextDialect.booleanQuery(List.of("ann"), null)).isEqualTo("+ann");
+    }
+}
@@ -0,0 +1,135 @@
+package org.sanjeevas.springrest.service.impl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.sanjeevas.springrest.dto.EmployeeDto;
+import org.sanjeevas.springrest.service.EmployeeService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for CoalescingEmployeeService
+ *
+ * @author Sanjeeva
+ * @version 1.1
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Coalescing Employee Service Tests")
+class CoalescingEmployeeServiceTest {
+
+    private static final int CALLERS = 6;
+
+    @Mock
+    private EmployeeService delegate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CoalescingEmployeeService employeeService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        employeeService = new CoalescingEmployeeService(delegate, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should share one findById load between concurrent callers and count the rest")
+    void findById_WithConcurrentCallers_ShouldCallDelegateOnce() throws Exception {
+        EmployeeDto employee = new EmployeeDto(1L, "John Doe", "Engineer");
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.findById(1L)).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.of(employee);
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        try {
+            List<Future<Optional<EmployeeDto>>> results = new ArrayList<>();
+            results.add(executor.submit(() -> employeeService.findById(1L)));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            for (int i = 1; i < CALLERS; i++) {
+                results.add(executor.submit(() -> employeeService.findById(1L)));
+            }
+            awaitCoalesced("findById", CALLERS - 1);
+            release.countDown();
+
+            for (Future<Optional<EmployeeDto>> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).contains(employee);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(delegate, times(1)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("Should share one findByRole load between roles with the same lookup key")
+    void findByRole_WithDifferentlyCasedRoles_ShouldCallDelegateOnce() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.findByRole("Developer")).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return List.of();
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<List<EmployeeDto>> first = executor.submit(() -> employeeService.findByRole("Developer"));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<List<EmployeeDto>> second = executor.submit(() -> employeeService.findByRole(" developer"));
+            awaitCoalesced("findByRole", 1);
+            release.countDown();
+
+            assertThat(first.get(5, TimeUnit.SECONDS)).isEmpty();
+            assertThat(second.get(5, TimeUnit.SECONDS)).isEmpty();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(delegate, times(1)).findByRole("Developer");
+    }
+
+    @Test
+    @DisplayName("Should call the delegate for each sequential search")
+    void findByRole_WithSequentialCalls_ShouldNotCoalesce() {
+        when(delegate.findByRole("Engineer")).thenReturn(List.of());
+
+        employeeService.findByRole("Engineer");
+        employeeService.findByRole("Engineer");
+
+        verify(delegate, times(2)).findByRole("Engineer");
+        assertThat(coalesced("findByRole")).isZero();
+    }
+
+    private void awaitCoalesced(String method, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (coalesced(method) < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(coalesced(method)).isEqualTo(expected);
+    }
+
+    private double coalesced(String method) {
+        return meterRegistry.get(CoalescingEmployeeService.COALESCED_METRIC).tag("method", method).counter().count();
+    }
+}
@@ -6,23 +6,51 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.sanjeevas.springrest.Employee;
 import org.sanjeevas.springrest.EmployeeRepository;
+import org.sanjeevas.springrest.cache.EmployeeCounter;
+import org.sanjeevas.springrest.cache.EmployeeListCache;
 import org.sanjeevas.springrest.dto.EmployeeDto;
+import org.sanjeevas.springrest.dto.SuggestionDto;
+import org.sanjeevas.springrest.event.EmployeeChangeEvent;
+import org.sanjeevas.springrest.event.EmployeeChangePublisher;
+import org.sanjeevas.springrest.exception.EmployeePreconditionFailedException;
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
+import org.sanjeevas.springrest.index.EmployeeNameIndex;
+import org.sanjeevas.springrest.index.EmployeeRoleIndex;
+import org.sanjeevas.springrest.index.EmployeeSuggestionIndex;
+import org.sanjeevas.springrest.index.TermCount;
 import org.sanjeevas.springrest.mapper.EmployeeMapper;
+import org.sanjeevas.springrest.query.EmployeeField;
+import org.sanjeevas.springrest.query.EmployeeFullTextSearch;
+import org.sanjeevas.springrest.query.EmployeeProjectionQuery;
+import org.sanjeevas.springrest.query.EmployeeRowWriter;
+import org.sanjeevas.springrest.service.UpsertResult;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 /**
@@ -41,6 +69,36 @@ class EmployeeServiceImplTest {
     @Mock
     private EmployeeMapper employeeMapper;
 
+    @Spy
+    private EmployeeListCache employeeListCache = new EmployeeListCache();
+
+    @Mock
+    private EmployeeCounter employeeCounter;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private EmployeeNameIndex employeeNameIndex;
+
+    @Mock
+    private EmployeeSuggestionIndex employeeSuggestionIndex;
+
+    @Mock
+    private EmployeeRoleIndex employeeRoleIndex;
+
+    @Mock
+    private EmployeeFullTextSearch employeeFullTextSearch;
+
+    @Mock
+    private EmployeeProjectionQuery employeeProjectionQuery;
+
+    @Mock
+    private EmployeeRowWriter employeeRowWriter;
+
+    @Mock
+    private EmployeeChangePublisher employeeChangePublisher;
+
     @InjectMocks
     private EmployeeServiceImpl employeeService;
 
@@ -65,8 +123,7 @@ class EmployeeServiceImplTest {
     @DisplayName("Should return all employees")
     void findAll_ShouldReturnAllEmployees() {
         // Given
-        when(employeeRepository.findAll()).thenReturn(testEmployees);
-        when(employeeMapper.toDtoList(testEmployees)).thenReturn(testEmployeeDtos);
+        when(employeeRepository.findAllAsDto()).thenReturn(testEmployeeDtos);
 
         // When
         List<EmployeeDto> result = employeeService.findAll();
@@ -75,8 +132,24 @@ class EmployeeServiceImplTest {
         assertThat(result)
                 .hasSize(2)
                 .isEqualTo(testEmployeeDtos);
-        verify(employeeRepository).findAll();
-        verify(employeeMapper).toDtoList(testEmployees);
+        verify(employeeRepository).findAllAsDto();
+        verify(employeeRepository, never()).findAll();
+        verifyNoInteractions(employeeMapper);
+    }
+
+    @Test
+    @DisplayName("Should serve repeated findAll from the maintained list cache")
+    void findAll_WhenCalledTwice_ShouldLoadOnce() {
+        // Given
+        when(employeeRepository.findAllAsDto()).thenReturn(testEmployeeDtos);
+
+        // When
+        employeeService.findAll();
+        List<EmployeeDto> result = employeeService.findAll();
+
+        // Then
+        assertThat(result).containsExactlyElementsOf(testEmployeeDtos);
+        verify(employeeRepository, times(1)).findAllAsDto();
     }
 
     @Test
@@ -84,12 +157,9 @@ class EmployeeServiceImplTest {
     void findAllWithPagination_ShouldReturnPaginatedEmployees() {
         // Given
         Pageable pageable = PageRequest.of(0, 10);
-        Page<Employee> employeePage = new PageImpl<>(testEmployees, pageable, testEmployees.size());
+        Page<EmployeeDto> employeePage = new PageImpl<>(testEmployeeDtos, pageable, testEmployeeDtos.size());
         
-        when(employeeRepository.findAll(pageable)).thenReturn(employeePage);
-        when(employeeMapper.toDto(any(Employee.class)))
-            .thenReturn(testEmployeeDto)
-            .thenReturn(testEmployeeDtos.get(1));
+        when(employeeRepository.findAllAsDto(pageable)).thenReturn(employeePage);
 
         // When
         Page<EmployeeDto> result = employeeService.findAll(pageable);
@@ -97,7 +167,73 @@ class EmployeeServiceImplTest {
         // Then
         assertThat(result.getContent()).hasSize(2);
         assertThat(result.getTotalElements()).isEqualTo(2);
-        verify(employeeRepository).findAll(pageable);
+        verify(employeeRepository).findAllAsDto(pageable);
+        verifyNoInteractions(employeeMapper);
+    }
+
+    @Test
+    @DisplayName("Should return a slice without counting")
+    void findSlice_ShouldNotCount() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 1);
+        Slice<EmployeeDto> employeeSlice = new SliceImpl<>(List.of(testEmployeeDto), pageable, true);
+        
+        when(employeeRepository.findSliceAsDto(pageable)).thenReturn(employeeSlice);
+
+        // When
+        Slice<EmployeeDto> result = employeeService.findSlice(pageable);
+
+        // Then
+        assertThat(result.getContent()).containsExactly(testEmployeeDto);
+        assertThat(result.hasNext()).isTrue();
+        verify(employeeRepository, never()).count();
+        verify(employeeRepository, never()).findAllAsDto(pageable);
+    }
+
+    @Test
+    @DisplayName("Should select only the requested fields, and use the full projection for all of them")
+    void findAllWithFields_ShouldUseProjectionQuery() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 10);
+        Set<EmployeeField> fields = Set.of(EmployeeField.ID, EmployeeField.NAME);
+        Page<EmployeeDto> sparsePage = new PageImpl<>(List.of(new EmployeeDto(1L, "John Doe", null)), pageable, 1);
+        
+        when(employeeProjectionQuery.findPage(any(), eq(fields), eq(pageable))).thenReturn(sparsePage);
+        when(employeeRepository.findAllAsDto(pageable))
+                .thenReturn(new PageImpl<>(testEmployeeDtos, pageable, testEmployeeDtos.size()));
+
+        // When
+        Page<EmployeeDto> sparse = employeeService.findAll(pageable, fields);
+        Page<EmployeeDto> full = employeeService.findAll(pageable, EmployeeField.ALL);
+
+        // Then
+        assertThat(sparse).isSameAs(sparsePage);
+        assertThat(full.getContent()).hasSize(2);
+        verify(employeeProjectionQuery, never()).findPage(any(), eq(EmployeeField.ALL), any());
+    }
+
+    @Test
+    @DisplayName("Should serve cache hits and load all misses with one query")
+    void findAllById_ShouldLoadMissesOnceAndBackfillCache() {
+        // Given
+        Cache cache = new ConcurrentMapCache("employee");
+        cache.put(1L, testEmployeeDto);
+        when(cacheManager.getCache("employee")).thenReturn(cache);
+        when(employeeRepository.findAllAsDtoById(List.of(2L, 3L))).thenReturn(List.of(testEmployeeDtos.get(1)));
+
+        // When
+        Map<Long, Optional<EmployeeDto>> result = employeeService.findAllById(List.of(2L, 1L, 3L, 2L));
+
+        // Then
+        assertThat(result).containsExactly(
+            Map.entry(2L, Optional.of(testEmployeeDtos.get(1))),
+            Map.entry(1L, Optional.of(testEmployeeDto)),
+            Map.entry(3L, Optional.empty())
+        );
+        assertThat(cache.get(2L, EmployeeDto.class)).isEqualTo(testEmployeeDtos.get(1));
+        assertThat(cache.get(3L)).isNotNull();
+        verify(employeeRepository, times(1)).findAllAsDtoById(any());
+        verify(employeeRepository, never()).findById(anyLong());
     }
 
     @Test
@@ -158,29 +294,28 @@ class EmployeeServiceImplTest {
     }
 
     @Test
-    @DisplayName("Should update existing employee")
+    @DisplayName("Should update an existing employee with one statement and drop its unversioned cache entry")
     void update_WhenEmployeeExists_ShouldUpdateEmployee() {
         // Given
         Long employeeId = 1L;
-        EmployeeDto updateDto = new EmployeeDto("Updated Name", "Updated Role");
-        Employee existingEmployee = new Employee(employeeId, "Old Name", "Old Role");
-        Employee updatedEmployee = new Employee(employeeId, "Updated Name", "Updated Role");
-        EmployeeDto updatedEmployeeDto = new EmployeeDto(employeeId, "Updated Name", "Updated Role");
+        EmployeeDto updateDto = new EmployeeDto(" Updated Name ", "Updated Role");
+        Cache cache = new ConcurrentMapCache("employee");
+        cache.put(employeeId, testEmployeeDto);
 
-        when(employeeRepository.findById(employeeId)).thenReturn(Optional.of(existingEmployee));
-        when(employeeRepository.save(existingEmployee)).thenReturn(updatedEmployee);
-        when(employeeMapper.toDto(updatedEmployee)).thenReturn(updatedEmployeeDto);
+        when(employeeRowWriter.update(employeeId, null, "Updated Name", "Updated Role")).thenReturn(true);
+        when(cacheManager.getCache("employee")).thenReturn(cache);
 
         // When
-        EmployeeDto result = employeeService.update(employeeId, updateDto);
+        UpsertResult result = employeeService.update(employeeId, updateDto);
 
         // Then
-        assertThat(result).isEqualTo(updatedEmployeeDto);
-        assertThat(existingEmployee.getName()).isEqualTo("Updated Name");
-        assertThat(existingEmployee.getRole()).isEqualTo("Updated Role");
-        verify(employeeRepository).findById(employeeId);
-        verify(employeeRepository).save(existingEmployee);
-        verify(employeeMapper).toDto(updatedEmployee);
+        assertThat(result.created()).isFalse();
+        assertThat(result.employee()).extracting(EmployeeDto::getId, EmployeeDto::getName, EmployeeDto::getVersion)
+                .containsExactly(employeeId, "Updated Name", null);
+        assertThat(cache.get(employeeId)).isNull();
+        verify(employeeChangePublisher).publish(argThat(event -> event.getType() == EmployeeChangeEvent.Type.UPDATED
+                && event.getEmployee() == result.employee()));
+        verifyNoInteractions(employeeRepository);
     }
 
     @Test
@@ -193,21 +328,100 @@ class EmployeeServiceImplTest {
         Employee savedEmployee = new Employee(employeeId, "New Name", "New Role");
         EmployeeDto savedEmployeeDto = new EmployeeDto(employeeId, "New Name", "New Role");
 
-        when(employeeRepository.findById(employeeId)).thenReturn(Optional.empty());
+        when(employeeRowWriter.update(employeeId, null, "New Name", "New Role")).thenReturn(false);
         when(employeeMapper.toEntity(updateDto)).thenReturn(newEmployee);
         when(employeeRepository.save(newEmployee)).thenReturn(savedEmployee);
         when(employeeMapper.toDto(savedEmployee)).thenReturn(savedEmployeeDto);
 
         // When
-        EmployeeDto result = employeeService.update(employeeId, updateDto);
+        UpsertResult result = employeeService.update(employeeId, updateDto);
 
         // Then
-        assertThat(result).isEqualTo(savedEmployeeDto);
+        assertThat(result.created()).isTrue();
+        assertThat(result.employee()).isEqualTo(savedEmployeeDto);
         assertThat(newEmployee.getId()).isNull(); // ID should be null before saving
-        verify(employeeRepository).findById(employeeId);
         verify(employeeMapper).toEntity(updateDto);
         verify(employeeRepository).save(newEmployee);
         verify(employeeMapper).toDto(savedEmployee);
+        verifyNoInteractions(employeeChangePublisher);
+    }
+
+    @Test
+    @DisplayName("Should replace an employee at the expected version and cache it at the next")
+    void replace_WhenAtExpectedVersion_ShouldReturnNextVersion() {
+        // Given
+        Long employeeId = 1L;
+        Cache cache = new ConcurrentMapCache("employee");
+        when(employeeRowWriter.update(employeeId, 3L, "Updated Name", "Updated Role")).thenReturn(true);
+        when(cacheManager.getCache("employee")).thenReturn(cache);
+
+        // When
+        EmployeeDto result = employeeService.replace(employeeId, new EmployeeDto("Updated Name", "Updated Role"), 3L);
+
+        // Then
+        assertThat(result).extracting(EmployeeDto::getName, EmployeeDto::getRole, EmployeeDto::getVersion)
+                .containsExactly("Updated Name", "Updated Role", 4L);
+        assertThat(cache.get(employeeId).get()).isSameAs(result);
+        verifyNoInteractions(employeeRepository);
+    }
+
+    @Test
+    @DisplayName("Should fail the precondition without reading or creating when no row is at the version")
+    void replace_WhenVersionMovedOn_ShouldThrow() {
+        // Given
+        Long employeeId = 1L;
+        when(employeeRowWriter.update(employeeId, 3L, "Name", "Role")).thenReturn(false);
+
+        // When / Then
+        assertThatThrownBy(() -> employeeService.replace(employeeId, new EmployeeDto("Name", "Role"), 3L))
+                .isInstanceOf(EmployeePreconditionFailedException.class);
+        verifyNoInteractions(employeeRepository, employeeChangePublisher);
+    }
+
+    @Test
+    @DisplayName("Should fail the precondition of a partial update the same way, without reading")
+    void partialUpdate_WhenVersionMovedOn_ShouldThrow() {
+        // Given
+        Long employeeId = 1L;
+        when(employeeRowWriter.update(employeeId, 3L, "Name", null)).thenReturn(false);
+
+        // When / Then
+        assertThatThrownBy(() -> employeeService.partialUpdate(employeeId, new EmployeeDto("Name", null), 3L))
+                .isInstanceOf(EmployeePreconditionFailedException.class);
+        verifyNoInteractions(employeeRepository, employeeChangePublisher);
+    }
+
+    @Test
+    @DisplayName("Should complete a conditional partial update from the cached employee at the expected version")
+    void partialUpdate_WhenCachedAtExpectedVersion_ShouldNotRead() {
+        // Given
+        Long employeeId = 1L;
+        Cache cache = new ConcurrentMapCache("employee");
+        cache.put(employeeId, new EmployeeDto(employeeId, "John Doe", "Software Engineer", 3L));
+        when(employeeRowWriter.update(employeeId, 3L, null, "Architect")).thenReturn(true);
+        when(cacheManager.getCache("employee")).thenReturn(cache);
+
+        // When
+        EmployeeDto result = employeeService.partialUpdate(employeeId, new EmployeeDto(null, "Architect"), 3L);
+
+        // Then
+        assertThat(result).extracting(EmployeeDto::getName, EmployeeDto::getRole, EmployeeDto::getVersion)
+                .containsExactly("John Doe", "Architect", 4L);
+        assertThat(cache.get(employeeId).get()).isSameAs(result);
+        verifyNoInteractions(employeeRepository);
+    }
+
+    @Test
+    @DisplayName("Should fail the precondition when the employee to delete is at another version")
+    void deleteById_WhenVersionMovedOn_ShouldThrow() {
+        // Given
+        Long employeeId = 1L;
+        when(employeeRowWriter.delete(employeeId, 3L)).thenReturn(false);
+
+        // When / Then
+        assertThatThrownBy(() -> employeeService.deleteById(employeeId, 3L))
+                .isInstanceOf(EmployeePreconditionFailedException.class);
+        verifyNoInteractions(employeeRepository, employeeChangePublisher);
     }
 
     @Test
@@ -215,15 +429,16 @@ class EmployeeServiceImplTest {
     void deleteById_WhenEmployeeExists_ShouldReturnTrue() {
         // Given
         Long employeeId = 1L;
-        when(employeeRepository.existsById(employeeId)).thenReturn(true);
+        when(employeeRowWriter.delete(employeeId, null)).thenReturn(true);
 
         // When
         boolean result = employeeService.deleteById(employeeId);
 
         // Then
         assertThat(result).isTrue();
-        verify(employeeRepository).existsById(employeeId);
-        verify(employeeRepository).deleteById(employeeId);
+        verify(employeeChangePublisher).publish(argThat(event -> event.getType() == EmployeeChangeEvent.Type.DELETED
+                && event.getId().equals(employeeId)));
+        verifyNoInteractions(employeeRepository);
     }
 
     @Test
@@ -231,15 +446,14 @@ class EmployeeServiceImplTest {
     void deleteById_WhenEmployeeDoesNotExist_ShouldReturnFalse() {
         // Given
         Long employeeId = 999L;
-        when(employeeRepository.existsById(employeeId)).thenReturn(false);
+        when(employeeRowWriter.delete(employeeId, null)).thenReturn(false);
 
         // When
         boolean result = employeeService.deleteById(employeeId);
 
         // Then
         assertThat(result).isFalse();
-        verify(employeeRepository).existsById(employeeId);
-        verify(employeeRepository, never()).deleteById(anyLong());
+        verifyNoInteractions(employeeChangePublisher);
     }
 
     @Test
@@ -247,14 +461,14 @@ class EmployeeServiceImplTest {
     void existsById_ShouldCheckIfEmployeeExists() {
         // Given
         Long employeeId = 1L;
-        when(employeeRepository.existsById(employeeId)).thenReturn(true);
+        when(employeeRepository.findById(employeeId)).thenReturn(Optional.of(testEmployee));
 
         // When
         boolean result = employeeService.existsById(employeeId);
 
         // Then
         assertThat(result).isTrue();
-        verify(employeeRepository).existsById(employeeId);
+        verify(employeeRepository).findById(employeeId);
     }
 
     @Test
@@ -262,8 +476,7 @@ class EmployeeServiceImplTest {
     void findByNameContainingIgnoreCase_ShouldReturnMatchingEmployees() {
         // Given
         String searchName = "John";
-        when(employeeRepository.findByNameContainingIgnoreCase(searchName)).thenReturn(List.of(testEmployee));
-        when(employeeMapper.toDtoList(List.of(testEmployee))).thenReturn(List.of(testEmployeeDto));
+        when(employeeRepository.findAsDtoByNameContainingIgnoreCase(searchName)).thenReturn(List.of(testEmployeeDto));
 
         // When
         List<EmployeeDto> result = employeeService.findByNameContainingIgnoreCase(searchName);
@@ -271,8 +484,97 @@ class EmployeeServiceImplTest {
         // Then
         assertThat(result).hasSize(1);
         assertThat(result.get(0)).isEqualTo(testEmployeeDto);
-        verify(employeeRepository).findByNameContainingIgnoreCase(searchName);
-        verify(employeeMapper).toDtoList(List.of(testEmployee));
+        verify(employeeRepository).findAsDtoByNameContainingIgnoreCase(searchName);
+        verifyNoInteractions(employeeMapper);
+    }
+
+    @Test
+    @DisplayName("Should serve name search from the index and drop stale matches")
+    void findByNameContainingIgnoreCase_WhenIndexReady_ShouldLoadIndexMatches() {
+        // Given
+        EmployeeDto renamed = testEmployeeDtos.get(1);
+        when(employeeNameIndex.search("john")).thenReturn(Optional.of(new long[] {1L, 2L}));
+        when(cacheManager.getCache("employee")).thenReturn(new ConcurrentMapCache("employee"));
+        when(employeeRepository.findAllAsDtoById(List.of(1L, 2L))).thenReturn(List.of(testEmployeeDto, renamed));
+
+        // When
+        List<EmployeeDto> result = employeeService.findByNameContainingIgnoreCase("john");
+
+        // Then
+        assertThat(result).containsExactly(testEmployeeDto);
+        verify(employeeRepository, never()).findAsDtoByNameContainingIgnoreCase(any());
+    }
+
+    @Test
+    @DisplayName("Should page name search through the full-text index in its order")
+    void findByNameContainingIgnoreCasePaged_WhenFullTextReady_ShouldLoadMatchedPage() {
+        // Given
+        Pageable pageable = PageRequest.of(1, 2);
+        EmployeeDto employeeDto2 = testEmployeeDtos.get(1);
+        when(employeeFullTextSearch.search("john", pageable))
+                .thenReturn(Optional.of(new PageImpl<>(List.of(2L, 1L), pageable, 5)));
+        when(cacheManager.getCache("employee")).thenReturn(new ConcurrentMapCache("employee"));
+        when(employeeRepository.findAllAsDtoById(List.of(2L, 1L))).thenReturn(testEmployeeDtos);
+
+        // When
+        Page<EmployeeDto> result = employeeService.findByNameContainingIgnoreCase("john", pageable);
+
+        // Then
+        assertThat(result.getContent()).containsExactly(employeeDto2, testEmployeeDto);
+        assertThat(result.getTotalElements()).isEqualTo(5);
+        verify(employeeRepository, never()).findAll(any(Specification.class), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("Should page name search with a substring query while full-text search is unavailable")
+    @SuppressWarnings("unchecked")
+    void findByNameContainingIgnoreCasePaged_WhenFullTextUnavailable_ShouldQueryRepository() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 10);
+        when(employeeRepository.findAll(any(Specification.class), eq(pageable)))
+                .thenReturn(new PageImpl<>(List.of(testEmployee), pageable, 1));
+        when(employeeMapper.toDto(testEmployee)).thenReturn(testEmployeeDto);
+
+        // When
+        Page<EmployeeDto> result = employeeService.findByNameContainingIgnoreCase("john", pageable);
+
+        // Then
+        assertThat(result.getContent()).containsExactly(testEmployeeDto);
+        verify(employeeFullTextSearch).search("john", pageable);
+    }
+
+    @Test
+    @DisplayName("Should rank fuzzy index matches by edit distance and drop stale ones")
+    void findByNameFuzzy_WhenIndexReady_ShouldRankLoadedMatches() {
+        // Given
+        EmployeeDto jon = new EmployeeDto(3L, "Jon Dow", "Software Engineer");
+        EmployeeDto renamed = testEmployeeDtos.get(1);
+        when(employeeNameIndex.getMaxEdits()).thenReturn(2);
+        when(employeeNameIndex.searchFuzzy("jhon doe", 2, 10, null)).thenReturn(Optional.of(new long[] {2L, 3L, 1L}));
+        when(cacheManager.getCache("employee")).thenReturn(new ConcurrentMapCache("employee"));
+        when(employeeRepository.findAllAsDtoById(List.of(2L, 3L, 1L)))
+                .thenReturn(List.of(renamed, jon, testEmployeeDto));
+
+        // When
+        List<EmployeeDto> result = employeeService.findByNameFuzzy("jhon doe", null, 2, 10);
+
+        // Then
+        assertThat(result).containsExactly(testEmployeeDto, jon);
+    }
+
+    @Test
+    @DisplayName("Should fall back to substring search while the fuzzy index is unavailable")
+    void findByNameFuzzy_WhenIndexUnavailable_ShouldSearchSubstrings() {
+        // Given
+        when(employeeNameIndex.getMaxEdits()).thenReturn(2);
+        when(employeeNameIndex.searchFuzzy("john", 2, 1, null)).thenReturn(Optional.empty());
+        when(employeeRepository.findAsDtoByNameContainingIgnoreCase("john")).thenReturn(testEmployeeDtos);
+
+        // When
+        List<EmployeeDto> result = employeeService.findByNameFuzzy("john", null, 2, 1);
+
+        // Then
+        assertThat(result).containsExactly(testEmployeeDto);
     }
 
     @Test
@@ -280,8 +582,7 @@ class EmployeeServiceImplTest {
     void findByRole_ShouldReturnEmployeesWithRole() {
         // Given
         String role = "Software Engineer";
-        when(employeeRepository.findByRole(role)).thenReturn(List.of(testEmployee));
-        when(employeeMapper.toDtoList(List.of(testEmployee))).thenReturn(List.of(testEmployeeDto));
+        when(employeeRepository.findAsDtoByRole(role)).thenReturn(List.of(testEmployeeDto));
 
         // When
         List<EmployeeDto> result = employeeService.findByRole(role);
@@ -289,8 +590,123 @@ class EmployeeServiceImplTest {
         // Then
         assertThat(result).hasSize(1);
         assertThat(result.get(0)).isEqualTo(testEmployeeDto);
-        verify(employeeRepository).findByRole(role);
-        verify(employeeMapper).toDtoList(List.of(testEmployee));
+        verify(employeeRepository).findAsDtoByRole(role);
+        verifyNoInteractions(employeeMapper);
+    }
+
+    @Test
+    @DisplayName("Should serve role lookups from the role bitmaps and drop stale matches")
+    void findByRole_WhenIndexReady_ShouldLoadIndexMatches() {
+        // Given
+        EmployeeDto moved = testEmployeeDtos.get(1);
+        Cache cache = new ConcurrentMapCache("employee");
+        when(employeeRoleIndex.ids("software engineer")).thenReturn(Optional.of(new long[] {1L, 2L}));
+        when(cacheManager.getCache("employee")).thenReturn(cache);
+        when(employeeRepository.findAllAsDtoById(List.of(1L, 2L))).thenReturn(List.of(testEmployeeDto, moved));
+
+        // When
+        List<EmployeeDto> result = employeeService.findByRole("software engineer");
+
+        // Then
+        assertThat(result).containsExactly(testEmployeeDto);
+        verify(employeeRepository, never()).findAsDtoByRole(any());
+        // A role listing may be large: it must not push hot entries out of the bounded cache
+        assertThat(cache.get(1L)).isNull();
+        assertThat(cache.get(2L)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should intersect the role bitmap with name index matches")
+    void findByNameContainingIgnoreCaseAndRole_WhenIndexesReady_ShouldLoadIntersection() {
+        // Given
+        Roaring64NavigableMap engineers = Roaring64NavigableMap.bitmapOf(1L);
+        when(employeeRoleIndex.members("Software Engineer")).thenReturn(Optional.of(engineers));
+        when(employeeNameIndex.search("jo", engineers)).thenReturn(Optional.of(new long[] {1L}));
+        when(cacheManager.getCache("employee")).thenReturn(new ConcurrentMapCache("employee"));
+        when(employeeRepository.findAllAsDtoById(List.of(1L))).thenReturn(List.of(testEmployeeDto));
+
+        // When
+        List<EmployeeDto> result = employeeService.findByNameContainingIgnoreCaseAndRole("jo", "Software Engineer");
+
+        // Then
+        assertThat(result).containsExactly(testEmployeeDto);
+        verify(employeeRepository, never()).findAsDtoByNameContainingIgnoreCaseAndRole(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should search name and role in the database while the role index is not ready")
+    void findByNameContainingIgnoreCaseAndRole_WhenIndexNotReady_ShouldQueryRepository() {
+        // Given
+        when(employeeRepository.findAsDtoByNameContainingIgnoreCaseAndRole("jo", "Software Engineer"))
+                .thenReturn(List.of(testEmployeeDto));
+
+        // When
+        List<EmployeeDto> result = employeeService.findByNameContainingIgnoreCaseAndRole("jo", "Software Engineer");
+
+        // Then
+        assertThat(result).containsExactly(testEmployeeDto);
+        verify(employeeNameIndex, never()).search(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should count a role from its bitmap without querying")
+    void countByRole_WhenIndexReady_ShouldNotQuery() {
+        // Given
+        when(employeeRoleIndex.count("Software Engineer")).thenReturn(Optional.of(42L));
+
+        // When
+        long result = employeeService.countByRole("Software Engineer");
+
+        // Then
+        assertThat(result).isEqualTo(42L);
+        verify(employeeRepository, never()).countByRoleIgnoreCase(any());
+    }
+
+    @Test
+    @DisplayName("Should count a role in the database while the role index is not ready")
+    void countByRole_WhenIndexNotReady_ShouldQueryRepository() {
+        // Given
+        when(employeeRepository.countByRoleIgnoreCase("Software Engineer")).thenReturn(7L);
+
+        // When
+        long result = employeeService.countByRole("Software Engineer");
+
+        // Then
+        assertThat(result).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("Should suggest from the suggestion index when it is ready")
+    void suggest_WhenIndexReady_ShouldNotQuery() {
+        // Given
+        List<SuggestionDto> indexed = List.of(new SuggestionDto("John Doe", SuggestionDto.Type.NAME, 1));
+        when(employeeSuggestionIndex.suggest("jo", 5)).thenReturn(Optional.of(indexed));
+
+        // When
+        List<SuggestionDto> result = employeeService.suggest("jo", 5);
+
+        // Then
+        assertThat(result).isEqualTo(indexed);
+        verifyNoInteractions(employeeRepository);
+    }
+
+    @Test
+    @DisplayName("Should merge bounded name and role prefix queries while the suggestion index is not ready")
+    void suggest_WhenIndexNotReady_ShouldQueryRepository() {
+        // Given
+        when(employeeSuggestionIndex.suggest("ma", 2)).thenReturn(Optional.empty());
+        when(employeeRepository.countByNameStartingWithIgnoreCase("ma", 2))
+                .thenReturn(List.of(new TermCount("Manager Mo", 1L), new TermCount("Mary Major", 2L)));
+        when(employeeRepository.countByRoleStartingWithIgnoreCase("ma", 2))
+                .thenReturn(List.of(new TermCount("Manager", 3L)));
+
+        // When
+        List<SuggestionDto> result = employeeService.suggest("ma", 2);
+
+        // Then
+        assertThat(result).extracting(SuggestionDto::getText, SuggestionDto::getType, SuggestionDto::getCount)
+                .containsExactly(tuple("Manager", SuggestionDto.Type.ROLE, 3),
+                                 tuple("Manager Mo", SuggestionDto.Type.NAME, 1));
     }
 
     @Test
@@ -298,14 +714,15 @@ class EmployeeServiceImplTest {
     void count_ShouldReturnTotalCount() {
         // Given
         long expectedCount = 5L;
-        when(employeeRepository.count()).thenReturn(expectedCount);
+        when(employeeCounter.get()).thenReturn(expectedCount);
 
         // When
         long result = employeeService.count();
 
         // Then
         assertThat(result).isEqualTo(expectedCount);
-        verify(employeeRepository).count();
+        verify(employeeCounter).get();
+        verify(employeeRepository, never()).count();
     }
 
     @Test
@@ -321,7 +738,7 @@ class EmployeeServiceImplTest {
         EmployeeDto updatedEmployeeDto = new EmployeeDto(employeeId, "Partially Updated Name", "Old Role");
 
         when(employeeRepository.findById(employeeId)).thenReturn(Optional.of(existingEmployee));
-        when(employeeRepository.save(existingEmployee)).thenReturn(updatedEmployee);
+        when(employeeRepository.saveAndFlush(existingEmployee)).thenReturn(updatedEmployee);
         when(employeeMapper.toDto(updatedEmployee)).thenReturn(updatedEmployeeDto);
 
         // When
@@ -333,7 +750,7 @@ class EmployeeServiceImplTest {
                 .isEqualTo(updatedEmployeeDto);
         verify(employeeRepository).findById(employeeId);
         verify(employeeMapper).updateEntityFromDto(partialUpdateDto, existingEmployee);
-        verify(employeeRepository).save(existingEmployee);
+        verify(employeeRepository).saveAndFlush(existingEmployee);
         verify(employeeMapper).toDto(updatedEmployee);
     }
 
@@ -354,6 +771,6 @@ class EmployeeServiceImplTest {
         assertThat(result).isNull();
         verify(employeeRepository).findById(employeeId);
         verify(employeeMapper, never()).updateEntityFromDto(any(), any());
-        verify(employeeRepository, never()).save(any());
+        verify(employeeRepository, never()).saveAndFlush(any());
     }
 }
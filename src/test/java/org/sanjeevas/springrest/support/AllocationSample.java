@@ -0,0 +1,47 @@
+package org.sanjeevas.springrest.support;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Heap allocated by the calling thread and wall time taken while running some
+ * work, for the allocation benchmarks. Needs a JVM whose ThreadMXBean reports
+ * per-thread allocation, as HotSpot's does.
+ *
+ * @param allocatedBytes Bytes allocated by the calling thread
+ * @param elapsedNanos Wall time taken
+ * @author Sanjeeva
+ * @version 1.0
+ */
+public record AllocationSample(long allocatedBytes, long elapsedNanos) {
+
+    /**
+     * Work measured by {@link #measure(Work)}
+     */
+    @FunctionalInterface
+    public interface Work<E extends Exception> {
+        void run() throws E;
+    }
+
+    /**
+     * Run work on the calling thread and sample what it allocated and how long it took
+     */
+    public static <E extends Exception> AllocationSample measure(Work<E> work) throws E {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        work.run();
+        long elapsedNanos = System.nanoTime() - start;
+        return new AllocationSample(threads.getThreadAllocatedBytes(threadId) - allocatedBefore, elapsedNanos);
+    }
+
+    public double bytesPer(long operations) {
+        return (double) allocatedBytes / operations;
+    }
+
+    public double nanosPer(long operations) {
+        return (double) elapsedNanos / operations;
+    }
+}
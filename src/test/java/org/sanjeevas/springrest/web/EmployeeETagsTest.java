@@ -0,0 +1,57 @@
+package org.sanjeevas.springrest.web;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.sanjeevas.springrest.cache.EmployeeChangeStamp;
+import org.sanjeevas.springrest.exception.EmployeePreconditionFailedException;
+import org.springframework.http.MediaType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for reading If-Match against employee ETags
+ *
+ * @author Sanjeeva
+ * @version 1.1
+ */
+@DisplayName("Employee ETags Tests")
+class EmployeeETagsTest {
+
+    private final EmployeeETags etags = new EmployeeETags(new EmployeeChangeStamp(null), new SimpleMeterRegistry());
+
+    @Test
+    @DisplayName("Should read the version from the first strong tag naming the employee")
+    void requiredVersion_ShouldReadOwnTag() {
+        assertThat(etags.requiredVersion(7L, EmployeeETags.resourceTag(7L, 3))).isEqualTo(3L);
+        assertThat(etags.requiredVersion(7L, "\"17-1\", W/\"7-2\", \"7-x\", \"7-5\"")).isEqualTo(5L);
+        assertThat(etags.requiredVersion(7L, " * ")).isNull();
+        assertThat(etags.requiredVersion(7L, "\"7-4-gz\"")).isEqualTo(4L);
+        assertThat(etags.requiredVersion(7L, "\"7-2-zip\", \"7-6-cbor\"")).isEqualTo(6L);
+    }
+
+    @Test
+    @DisplayName("Should tag each binary and gzip encoding apart from identity JSON")
+    void variantTag_ShouldSuffixEncoding() {
+        String tag = EmployeeETags.resourceTag(7L, 3);
+
+        assertThat(EmployeeETags.variantTag(tag, MediaType.APPLICATION_JSON, null)).isEqualTo(tag);
+        assertThat(EmployeeETags.variantTag(tag, MediaType.APPLICATION_JSON, "gzip")).isEqualTo("\"7-3-gz\"");
+        assertThat(EmployeeETags.variantTag(tag, MediaType.APPLICATION_CBOR, null)).isEqualTo("\"7-3-cbor\"");
+        assertThat(EmployeeETags.variantTag(tag, new MediaType("application", "x-jackson-smile"), null))
+                .isEqualTo("\"7-3-smile\"");
+        assertThat(EmployeeETags.variantTag(tag, JacksonProtobufHttpMessageConverter.APPLICATION_PROTOBUF, null))
+                .isEqualTo("\"7-3-proto\"");
+        assertThat(EmployeeETags.variantTag("W/\"7-3\"", MediaType.APPLICATION_CBOR, null)).isEqualTo("W/\"7-3\"");
+    }
+
+    @Test
+    @DisplayName("Should fail the precondition when no tag names the employee")
+    void requiredVersion_WithoutOwnTag_ShouldThrow() {
+        assertThatThrownBy(() -> etags.requiredVersion(7L, "W/\"7-2\""))
+                .isInstanceOf(EmployeePreconditionFailedException.class);
+        assertThatThrownBy(() -> etags.requiredVersion(7L, "\"70-2\", \"7-\", \"c1.0\""))
+                .isInstanceOf(EmployeePreconditionFailedException.class);
+    }
+}
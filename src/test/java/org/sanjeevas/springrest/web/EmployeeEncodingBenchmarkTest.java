@@ -0,0 +1,110 @@
+package org.sanjeevas.springrest.web;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.sanjeevas.springrest.dto.CountMode;
+import org.sanjeevas.springrest.dto.EmployeeDto;
+import org.sanjeevas.springrest.dto.EmployeeListResponseDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Encoding benchmark: a 100-employee page written and read by the JSON, CBOR,
+ * Smile and protobuf converters as configured for the API. Reports bytes on the
+ * wire and time to encode and decode one page.
+ * Run with: mvn test -Pbenchmark -Dtest=EmployeeEncodingBenchmarkTest
+ *
+ * @author Sanjeeva
+ * @version 1.1
+ */
+@Tag("benchmark")
+@DisplayName("Employee Encoding Benchmark")
+class EmployeeEncodingBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeEncodingBenchmarkTest.class);
+
+    private static final int EMPLOYEES = 100;
+    private static final int PAGES = 20_000;
+    private static final int ROUNDS = 5;
+
+    @Test
+    @DisplayName("Should report size, encode and decode time per page for each encoding")
+    void employeePageEncodings() throws IOException {
+        EmployeeListResponseDto page = page();
+
+        for (int round = 0; round < ROUNDS; round++) {
+            report("json", new MappingJackson2HttpMessageConverter(Jackson2ObjectMapperBuilder.json().build()),
+                    MediaType.APPLICATION_JSON, page);
+            report("cbor", new MappingJackson2CborHttpMessageConverter(
+                    Jackson2ObjectMapperBuilder.json().factory(new CBORFactory()).build()),
+                    MediaType.APPLICATION_CBOR, page);
+            report("smile", new MappingJackson2SmileHttpMessageConverter(
+                    Jackson2ObjectMapperBuilder.json().factory(new SmileFactory()).build()),
+                    new MediaType("application", "x-jackson-smile"), page);
+            report("protobuf", new JacksonProtobufHttpMessageConverter(Jackson2ObjectMapperBuilder.json(),
+                    Set.of(EmployeeListResponseDto.class)),
+                    JacksonProtobufHttpMessageConverter.APPLICATION_PROTOBUF, page);
+        }
+    }
+
+    private static void report(String label, AbstractJackson2HttpMessageConverter converter, MediaType mediaType,
+                               EmployeeListResponseDto page) throws IOException {
+        byte[] encoded = encode(converter, mediaType, page);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < PAGES; i++) {
+            encode(converter, mediaType, page);
+        }
+        long encodeNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        EmployeeListResponseDto decoded = null;
+        for (int i = 0; i < PAGES; i++) {
+            MockHttpInputMessage input = new MockHttpInputMessage(encoded);
+            input.getHeaders().setContentType(mediaType);
+            decoded = (EmployeeListResponseDto) converter.read(EmployeeListResponseDto.class, input);
+        }
+        long decodeNanos = System.nanoTime() - start;
+
+        assertThat(decoded.getEmbedded().getEmployeeList()).hasSize(EMPLOYEES);
+        logger.info(String.format("%-9s %7d bytes per page  %8.1f us to encode  %8.1f us to decode",
+                label, encoded.length, encodeNanos / 1e3 / PAGES, decodeNanos / 1e3 / PAGES));
+    }
+
+    private static byte[] encode(AbstractJackson2HttpMessageConverter converter, MediaType mediaType,
+                                 EmployeeListResponseDto page) throws IOException {
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+        converter.write(page, mediaType, output);
+        return output.getBodyAsBytes();
+    }
+
+    private static EmployeeListResponseDto page() {
+        List<EmployeeDto> employees = new ArrayList<>(EMPLOYEES);
+        for (int i = 0; i < EMPLOYEES; i++) {
+            employees.add(new EmployeeDto(1_000_000L + i, "Employee " + i, "Senior Software Engineer"));
+        }
+        EmployeeListResponseDto page = new EmployeeListResponseDto(employees, 0, EMPLOYEES, 12_345L, true,
+                CountMode.EXACT);
+        page.setLinks(Map.of("next", "/api/v1/employees?page=1&size=100"));
+        return page;
+    }
+}
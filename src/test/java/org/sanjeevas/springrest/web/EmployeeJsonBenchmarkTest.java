@@ -0,0 +1,111 @@
+package org.sanjeevas.springrest.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.sanjeevas.springrest.dto.EmployeeDto;
+import org.sanjeevas.springrest.support.AllocationSample;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.ByteArrayHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Single-employee response benchmark: the DTO written by Spring MVC's Jackson
+ * converter against cached JSON bytes written by the byte array converter, to
+ * a sink that discards the body. Reports heap allocated by the calling thread
+ * and time per response.
+ * Run with: mvn test -Pbenchmark -Dtest=EmployeeJsonBenchmarkTest
+ *
+ * @author Sanjeeva
+ * @version 1.1
+ */
+@Tag("benchmark")
+@DisplayName("Employee JSON Benchmark")
+class EmployeeJsonBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeJsonBenchmarkTest.class);
+
+    private static final int RESPONSES = 1_000_000;
+    private static final int ROUNDS = 5;
+
+    @Test
+    @DisplayName("Should report allocation and time per response for Jackson and cached bytes")
+    void singleEmployeeResponse() throws IOException {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        EmployeeDto employee = new EmployeeDto(123_456L, "John Doe", "Senior Software Engineer", 7L);
+        EmployeeJsonCache jsonCache = new EmployeeJsonCache(
+                new ConcurrentMapCacheManager(EmployeeJsonCache.CACHE_NAME), objectMapper, true, 1024);
+        MappingJackson2HttpMessageConverter jackson = new MappingJackson2HttpMessageConverter(objectMapper);
+        ByteArrayHttpMessageConverter bytes = new ByteArrayHttpMessageConverter();
+
+        for (int round = 0; round < ROUNDS; round++) {
+            long jacksonBytes = report("jackson", jackson, () -> employee);
+            long cachedBytes = report("cached bytes", bytes, () -> jsonCache.get(employee).orElseThrow().json());
+            assertThat(cachedBytes).isEqualTo(jacksonBytes);
+        }
+    }
+
+    private static <T> long report(String label, HttpMessageConverter<T> converter, BodySupplier<T> body)
+            throws IOException {
+        DiscardingMessage message = new DiscardingMessage();
+        AllocationSample sample = AllocationSample.measure(() -> {
+            for (int i = 0; i < RESPONSES; i++) {
+                message.getHeaders().clear();
+                converter.write(body.get(), MediaType.APPLICATION_JSON, message);
+            }
+        });
+
+        logger.info(String.format("%-14s %8.1f bytes allocated per response  %7.1f ns per response",
+                label, sample.bytesPer(RESPONSES), sample.nanosPer(RESPONSES)));
+        return message.written / RESPONSES;
+    }
+
+    @FunctionalInterface
+    private interface BodySupplier<T> {
+        T get();
+    }
+
+    /**
+     * Output message standing in for the servlet response, counting and dropping the body
+     */
+    private static final class DiscardingMessage implements HttpOutputMessage {
+
+        private final HttpHeaders headers = new HttpHeaders();
+        private long written;
+
+        private final OutputStream body = new OutputStream() {
+            @Override
+            public void write(int b) {
+                written++;
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                written += len;
+            }
+        };
+
+        @Override
+        public OutputStream getBody() {
+            return body;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package org.sanjeevas.springrest.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.sanjeevas.springrest.dto.EmployeeDto;
+import org.sanjeevas.springrest.event.EmployeeChangeEvent;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for EmployeeJsonCache
+ *
+ * @author Sanjeeva
+ * @version 1.0
+ */
+@DisplayName("Employee JSON Cache Tests")
+class EmployeeJsonCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final CacheManager cacheManager = new ConcurrentMapCacheManager(EmployeeJsonCache.CACHE_NAME);
+    private final EmployeeJsonCache jsonCache = new EmployeeJsonCache(cacheManager, objectMapper, true, 1024);
+
+    @Test
+    @DisplayName("Should serialize once per version, byte for byte what Jackson writes")
+    void get_ShouldServeSameBytesUntilVersionChanges() throws Exception {
+        EmployeeDto employee = new EmployeeDto(1L, "John Doe", "Engineer", 3L);
+
+        EmployeeJsonCache.SerializedEmployee first = jsonCache.get(employee).orElseThrow();
+        EmployeeJsonCache.SerializedEmployee second = jsonCache.get(employee).orElseThrow();
+        EmployeeJsonCache.SerializedEmployee renamed =
+                jsonCache.get(new EmployeeDto(1L, "Richard Roe", "Engineer", 4L)).orElseThrow();
+
+        assertThat(first.json()).isEqualTo(objectMapper.writeValueAsBytes(employee));
+        assertThat(first.gzip()).isNull();
+        assertThat(second).isSameAs(first);
+        assertThat(renamed.version()).isEqualTo(4L);
+        assertThat(new String(renamed.json())).contains("Richard Roe").doesNotContain("version");
+    }
+
+    @Test
+    @DisplayName("Should drop entries for committed changes and after an unknown outcome")
+    void onEmployeeChanges_ShouldEvict() {
+        EmployeeDto john = new EmployeeDto(1L, "John Doe", "Engineer", 0L);
+        EmployeeDto jane = new EmployeeDto(2L, "Jane Smith", "Manager", 0L);
+        jsonCache.get(john);
+        jsonCache.get(jane);
+
+        jsonCache.onEmployeeChanges(List.of(EmployeeChangeEvent.deleted(1L)));
+        assertThat(cacheManager.getCache(EmployeeJsonCache.CACHE_NAME).get(1L)).isNull();
+        assertThat(cacheManager.getCache(EmployeeJsonCache.CACHE_NAME).get(2L)).isNotNull();
+
+        jsonCache.onOutcomeUnknown();
+        assertThat(cacheManager.getCache(EmployeeJsonCache.CACHE_NAME).get(2L)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should keep a gzip copy of large bodies and nothing when disabled or unversioned")
+    void get_ShouldCompressLargeBodiesOnly() throws Exception {
+        EmployeeJsonCache compressing = new EmployeeJsonCache(cacheManager, objectMapper, true, 0);
+        EmployeeJsonCache disabled = new EmployeeJsonCache(cacheManager, objectMapper, false, 0);
+        EmployeeDto employee = new EmployeeDto(1L, "John Doe", "Engineer", 0L);
+
+        byte[] gzip = compressing.get(employee).orElseThrow().gzip();
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip))) {
+            assertThat(in.readAllBytes()).isEqualTo(objectMapper.writeValueAsBytes(employee));
+        }
+        assertThat(disabled.get(employee)).isEmpty();
+        assertThat(compressing.get(new EmployeeDto(2L, "Jane Smith", "Manager"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should read Accept and Accept-Encoding the way clients send them")
+    void accepts_ShouldHonourQualityAndWildcards() {
+        assertThat(EmployeeJsonCache.acceptsJson(null)).isTrue();
+        assertThat(EmployeeJsonCache.acceptsJson("text/html;q=0.5, application/*;q=0.8")).isTrue();
+        assertThat(EmployeeJsonCache.acceptsJson("application/xml")).isFalse();
+        assertThat(EmployeeJsonCache.acceptsJson("*/*, application/cbor")).isFalse();
+        assertThat(EmployeeJsonCache.acceptsJson("application/cbor;q=0.5, application/json")).isTrue();
+        assertThat(EmployeeJsonCache.acceptsGzip("deflate, GZIP;q=0.5")).isTrue();
+        assertThat(EmployeeJsonCache.acceptsGzip("gzip;q=0, br")).isFalse();
+        assertThat(EmployeeJsonCache.acceptsGzip("*")).isTrue();
+        assertThat(EmployeeJsonCache.acceptsGzip(null)).isFalse();
+    }
+}
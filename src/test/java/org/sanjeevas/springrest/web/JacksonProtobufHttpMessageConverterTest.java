@@ -0,0 +1,96 @@
+package org.sanjeevas.springrest.web;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.sanjeevas.springrest.dto.CountMode;
+import org.sanjeevas.springrest.dto.EmployeeDto;
+import org.sanjeevas.springrest.dto.EmployeeListResponseDto;
+import org.sanjeevas.springrest.dto.ErrorResponseDto;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.sanjeevas.springrest.web.JacksonProtobufHttpMessageConverter.APPLICATION_PROTOBUF;
+
+/**
+ * Unit tests for JacksonProtobufHttpMessageConverter
+ *
+ * @author Sanjeeva
+ * @version 1.0
+ */
+@DisplayName("Jackson Protobuf Message Converter Tests")
+class JacksonProtobufHttpMessageConverterTest {
+
+    private final JacksonProtobufHttpMessageConverter converter = new JacksonProtobufHttpMessageConverter(
+            Jackson2ObjectMapperBuilder.json(),
+            Set.of(EmployeeDto.class, EmployeeListResponseDto.class, ErrorResponseDto.class));
+
+    @Test
+    @DisplayName("Should round-trip an employee")
+    void employee_ShouldRoundTrip() throws Exception {
+        EmployeeDto decoded = roundTrip(new EmployeeDto(7L, "John Doe", "Engineer"), EmployeeDto.class);
+
+        assertThat(decoded.getId()).isEqualTo(7L);
+        assertThat(decoded.getName()).isEqualTo("John Doe");
+        assertThat(decoded.getRole()).isEqualTo("Engineer");
+    }
+
+    @Test
+    @DisplayName("Should round-trip a page of employees with its links")
+    void employeeList_ShouldRoundTrip() throws Exception {
+        EmployeeListResponseDto page = new EmployeeListResponseDto(
+                List.of(new EmployeeDto(1L, "John Doe", "Engineer"), new EmployeeDto(2L, "Jane Smith", "Manager")),
+                0, 2, 5L, true, CountMode.EXACT);
+        page.setLinks(Map.of("self", "/api/v1/employees?page=0", "next", "/api/v1/employees?page=1"));
+
+        EmployeeListResponseDto decoded = roundTrip(page, EmployeeListResponseDto.class);
+
+        assertThat(decoded.getEmbedded().getEmployeeList())
+                .extracting(EmployeeDto::getName).containsExactly("John Doe", "Jane Smith");
+        assertThat(decoded.getPage().getTotalElements()).isEqualTo(5L);
+        assertThat(decoded.getPage().getCountMode()).isEqualTo(CountMode.EXACT);
+        assertThat(decoded.getLinks()).isEqualTo(page.getLinks());
+    }
+
+    @Test
+    @DisplayName("Should round-trip an error, sending rejected values as strings")
+    void error_ShouldRoundTrip() throws Exception {
+        ErrorResponseDto error = new ErrorResponseDto(400, "VALIDATION_FAILED", "Invalid input", "/api/v1/employees");
+        error.setTimestamp(LocalDateTime.of(2024, 5, 1, 12, 30));
+        error.setFieldErrors(List.of(new ErrorResponseDto.FieldError("name", 42, "must not be numeric")));
+
+        ErrorResponseDto decoded = roundTrip(error, ErrorResponseDto.class);
+
+        assertThat(decoded.getStatus()).isEqualTo(400);
+        assertThat(decoded.getError()).isEqualTo("VALIDATION_FAILED");
+        assertThat(decoded.getTimestamp()).isEqualTo(error.getTimestamp());
+        assertThat(decoded.getFieldErrors()).singleElement()
+                .satisfies(fieldError -> assertThat(fieldError.getRejectedValue()).isEqualTo("42"));
+    }
+
+    @Test
+    @DisplayName("Should only handle the configured message types and publish their schema")
+    void messageTypes_ShouldLimitConverterAndSchema() {
+        assertThat(converter.canWrite(EmployeeDto.class, APPLICATION_PROTOBUF)).isTrue();
+        assertThat(converter.canWrite(String.class, APPLICATION_PROTOBUF)).isFalse();
+        assertThat(converter.canRead(Map.class, APPLICATION_PROTOBUF)).isFalse();
+        assertThat(converter.schemaSource(EmployeeDto.class))
+                .contains("message EmployeeDto").contains("string name");
+    }
+
+    private <T> T roundTrip(T value, Class<T> type) throws Exception {
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+        converter.write(value, APPLICATION_PROTOBUF, output);
+        assertThat(output.getHeaders().getContentType()).isEqualTo(APPLICATION_PROTOBUF);
+
+        MockHttpInputMessage input = new MockHttpInputMessage(output.getBodyAsBytes());
+        input.getHeaders().setContentType(APPLICATION_PROTOBUF);
+        return type.cast(converter.read(type, input));
+    }
+}